@@ -0,0 +1,88 @@
+/*
+ * BatchBench class.
+ * Copyright (C) 2026 Takayuki Sato. All Rights Reserved.
+ */
+package com.github.sttk.stringcase.bench;
+
+import com.github.sttk.stringcase.CaseConverter;
+import com.github.sttk.stringcase.CaseStyle;
+import com.github.sttk.stringcase.StringCase;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the batch conversions of a large set of identifiers, sequentially and in parallel with
+ * various numbers of worker threads, to see how the parallel conversion scales.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchBench {
+
+  @Param({"1", "2", "4", "8"})
+  public int parallelism;
+
+  @Param({"1024"})
+  public int sequentialCutoff;
+
+  @Param({"1000000"})
+  public int size;
+
+  String[] input;
+  String[] output;
+  CaseConverter converter;
+  ForkJoinPool pool;
+
+  @Setup
+  public void setup() {
+    var corpus = Corpus.SHORT.inputs();
+    input = new String[size];
+    for (int i = 0; i < size; i++) {
+      input[i] = corpus[i % corpus.length];
+    }
+    output = new String[size];
+    converter = StringCase.compile(CaseStyle.SNAKE);
+    pool = new ForkJoinPool(parallelism);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  @Benchmark
+  public String[] loop() {
+    for (int i = 0; i < input.length; i++) {
+      output[i] = StringCase.snakeCase(input[i]);
+    }
+    return output;
+  }
+
+  @Benchmark
+  public String[] convertAll() {
+    converter.convertAll(input, output);
+    return output;
+  }
+
+  @Benchmark
+  public String[] convertAllParallel() {
+    converter.convertAllParallel(input, output, pool, sequentialCutoff);
+    return output;
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * CaseStyleBench class.
+ * Copyright (C) 2026 Takayuki Sato. All Rights Reserved.
+ */
+package com.github.sttk.stringcase.bench;
+
+import com.github.sttk.stringcase.CaseStyle;
+import com.github.sttk.stringcase.StringCase;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Measures the static methods of {@link StringCase} without options, for every case style. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CaseStyleBench {
+
+  @Param({"ADA", "CAMEL", "COBOL", "KEBAB", "MACRO", "PASCAL", "SNAKE", "TITLE", "TRAIN"})
+  public CaseStyle style;
+
+  @Param({"SHORT", "SENTENCE", "ACRONYM", "LONG_CAMEL", "NON_ASCII"})
+  public Corpus corpus;
+
+  String[] inputs;
+
+  @Setup
+  public void setup() {
+    inputs = corpus.inputs();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(Corpus.SIZE)
+  public void convert(Blackhole bh) {
+    for (var input : inputs) {
+      bh.consume(convert(style, input));
+    }
+  }
+
+  static String convert(CaseStyle style, String input) {
+    return switch (style) {
+      case ADA -> StringCase.adaCase(input);
+      case CAMEL -> StringCase.camelCase(input);
+      case COBOL -> StringCase.cobolCase(input);
+      case KEBAB -> StringCase.kebabCase(input);
+      case MACRO -> StringCase.macroCase(input);
+      case PASCAL -> StringCase.pascalCase(input);
+      case SNAKE -> StringCase.snakeCase(input);
+      case TITLE -> StringCase.titleCase(input);
+      case TRAIN -> StringCase.trainCase(input);
+    };
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * ConvertManyBench class.
+ * Copyright (C) 2026 Takayuki Sato. All Rights Reserved.
+ */
+package com.github.sttk.stringcase.bench;
+
+import com.github.sttk.stringcase.CaseStyle;
+import com.github.sttk.stringcase.StringCase;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares {@link StringCase#convertMany} with converting each input to the same case styles one by
+ * one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConvertManyBench {
+
+  static final EnumSet<CaseStyle> STYLES =
+      EnumSet.of(CaseStyle.SNAKE, CaseStyle.CAMEL, CaseStyle.KEBAB, CaseStyle.MACRO);
+
+  @Param({"SHORT", "SENTENCE", "ACRONYM", "NON_ASCII"})
+  public Corpus corpus;
+
+  String[] inputs;
+
+  @Setup
+  public void setup() {
+    inputs = corpus.inputs();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(Corpus.SIZE)
+  public void eachStyle(Blackhole bh) {
+    for (var input : inputs) {
+      for (var style : STYLES) {
+        bh.consume(CaseStyleBench.convert(style, input));
+      }
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(Corpus.SIZE)
+  public void convertMany(Blackhole bh) {
+    for (var input : inputs) {
+      bh.consume(StringCase.convertMany(input, STYLES));
+    }
+  }
+}
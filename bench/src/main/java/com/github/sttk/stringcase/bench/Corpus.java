@@ -0,0 +1,132 @@
+/*
+ * Corpus enum.
+ * Copyright (C) 2026 Takayuki Sato. All Rights Reserved.
+ */
+package com.github.sttk.stringcase.bench;
+
+import java.util.Random;
+
+/** Is the enum of the input string sets used by the benchmarks. */
+public enum Corpus {
+  /** Short identifiers like field names and JSON keys in various cases. */
+  SHORT {
+    @Override
+    String[] generate(Random rnd) {
+      var words = new String[] {"user", "id", "created", "at", "order", "item", "name", "count"};
+      var out = new String[SIZE];
+      for (int i = 0; i < SIZE; i++) {
+        var sb = new StringBuilder();
+        int n = 1 + rnd.nextInt(3);
+        int form = rnd.nextInt(4);
+        for (int j = 0; j < n; j++) {
+          var w = words[rnd.nextInt(words.length)];
+          switch (form) {
+            case 0 -> sb.append(j == 0 ? w : capitalize(w));
+            case 1 -> sb.append(j == 0 ? "" : "_").append(w);
+            case 2 -> sb.append(j == 0 ? "" : "-").append(w.toUpperCase());
+            default -> sb.append(capitalize(w));
+          }
+        }
+        out[i] = sb.toString();
+      }
+      return out;
+    }
+  },
+
+  /** Long sentences, like paragraph titles, with spaces and punctuations. */
+  SENTENCE {
+    @Override
+    String[] generate(Random rnd) {
+      var words =
+          new String[] {
+            "the", "Quick", "brown", "fox", "jumps", "over", "lazy", "dog", "and", "runs", "2024",
+          };
+      var puncts = new String[] {" ", " ", " ", ", ", ". ", " - ", ": "};
+      var out = new String[SIZE];
+      for (int i = 0; i < SIZE; i++) {
+        var sb = new StringBuilder();
+        int n = 20 + rnd.nextInt(20);
+        for (int j = 0; j < n; j++) {
+          if (j > 0) {
+            sb.append(puncts[rnd.nextInt(puncts.length)]);
+          }
+          sb.append(words[rnd.nextInt(words.length)]);
+        }
+        out[i] = sb.toString();
+      }
+      return out;
+    }
+  },
+
+  /** Identifiers full of acronyms, which cause the backtracking before the last uppercase. */
+  ACRONYM {
+    @Override
+    String[] generate(Random rnd) {
+      var words = new String[] {"HTTP", "XML", "Server", "URL", "Parser", "ID", "JSON", "Api"};
+      var out = new String[SIZE];
+      for (int i = 0; i < SIZE; i++) {
+        var sb = new StringBuilder();
+        int n = 2 + rnd.nextInt(4);
+        for (int j = 0; j < n; j++) {
+          sb.append(words[rnd.nextInt(words.length)]);
+        }
+        out[i] = sb.toString();
+      }
+      return out;
+    }
+  },
+
+  /** Long camel case identifiers, whose conversions with joiners are longer than themselves. */
+  LONG_CAMEL {
+    @Override
+    String[] generate(Random rnd) {
+      var words = new String[] {"user", "account", "order", "item", "created", "at", "by", "id"};
+      var out = new String[SIZE];
+      for (int i = 0; i < SIZE; i++) {
+        var sb = new StringBuilder();
+        int n = 8 + rnd.nextInt(8);
+        for (int j = 0; j < n; j++) {
+          var w = words[rnd.nextInt(words.length)];
+          sb.append(j == 0 ? w : capitalize(w));
+        }
+        out[i] = sb.toString();
+      }
+      return out;
+    }
+  },
+
+  /** Identifiers which contain many non-ASCII characters, including surrogate pairs. */
+  NON_ASCII {
+    @Override
+    String[] generate(Random rnd) {
+      var words = new String[] {"café", "Été", "東京", "Tower", "naïve", "日本語", "👍", "Straße"};
+      var out = new String[SIZE];
+      for (int i = 0; i < SIZE; i++) {
+        var sb = new StringBuilder();
+        int n = 2 + rnd.nextInt(4);
+        for (int j = 0; j < n; j++) {
+          sb.append(words[rnd.nextInt(words.length)]);
+        }
+        out[i] = sb.toString();
+      }
+      return out;
+    }
+  };
+
+  static final int SIZE = 256;
+
+  abstract String[] generate(Random rnd);
+
+  /**
+   * Returns the input strings of this corpus. The same strings are returned for every run.
+   *
+   * @return The input strings.
+   */
+  public String[] inputs() {
+    return generate(new Random(ordinal() + 1));
+  }
+
+  private static String capitalize(String w) {
+    return Character.toUpperCase(w.charAt(0)) + w.substring(1);
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * OptionsBench class.
+ * Copyright (C) 2026 Takayuki Sato. All Rights Reserved.
+ */
+package com.github.sttk.stringcase.bench;
+
+import com.github.sttk.stringcase.CaseConverter;
+import com.github.sttk.stringcase.CaseStyle;
+import com.github.sttk.stringcase.Options;
+import com.github.sttk.stringcase.StringCase;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the {@code 〜CaseWithOptions} static methods of {@link StringCase} and the compiled
+ * {@link CaseConverter} with empty, short, and long separators or kept characters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OptionsBench {
+
+  /** The sets of characters given to the separators or the kept characters of the options. */
+  public enum Chars {
+    /** No characters. */
+    EMPTY(null),
+    /** A few ASCII symbols. */
+    SHORT("-_"),
+    /** Many ASCII symbols and some non-ASCII characters. */
+    LONG("-_.,;:!?@#$%^&*()[]{}<>/\\|~`'\"+= ・、。👍");
+
+    final String chars;
+
+    Chars(String chars) {
+      this.chars = chars;
+    }
+  }
+
+  @Param({"CAMEL", "SNAKE", "TITLE"})
+  public CaseStyle style;
+
+  @Param({"EMPTY", "SHORT", "LONG"})
+  public Chars separators;
+
+  @Param({"EMPTY", "SHORT", "LONG"})
+  public Chars keep;
+
+  @Param({"SHORT", "SENTENCE"})
+  public Corpus corpus;
+
+  String[] inputs;
+  Options opts;
+  CaseConverter converter;
+
+  @Setup
+  public void setup() {
+    inputs = corpus.inputs();
+    opts = new Options(true, true, separators.chars, keep.chars);
+    converter = StringCase.compile(style, opts);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(Corpus.SIZE)
+  public void convertWithOptions(Blackhole bh) {
+    for (var input : inputs) {
+      bh.consume(convertWithOptions(style, input, opts));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(Corpus.SIZE)
+  public void convertWithCompiled(Blackhole bh) {
+    for (var input : inputs) {
+      bh.consume(converter.convert(input));
+    }
+  }
+
+  static String convertWithOptions(CaseStyle style, String input, Options opts) {
+    return switch (style) {
+      case ADA -> StringCase.adaCaseWithOptions(input, opts);
+      case CAMEL -> StringCase.camelCaseWithOptions(input, opts);
+      case COBOL -> StringCase.cobolCaseWithOptions(input, opts);
+      case KEBAB -> StringCase.kebabCaseWithOptions(input, opts);
+      case MACRO -> StringCase.macroCaseWithOptions(input, opts);
+      case PASCAL -> StringCase.pascalCaseWithOptions(input, opts);
+      case SNAKE -> StringCase.snakeCaseWithOptions(input, opts);
+      case TITLE -> StringCase.titleCaseWithOptions(input, opts);
+      case TRAIN -> StringCase.trainCaseWithOptions(input, opts);
+    };
+  }
+}
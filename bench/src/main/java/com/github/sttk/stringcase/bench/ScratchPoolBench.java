@@ -0,0 +1,83 @@
+/*
+ * ScratchPoolBench class.
+ * Copyright (C) 2026 Takayuki Sato. All Rights Reserved.
+ */
+package com.github.sttk.stringcase.bench;
+
+import com.github.sttk.stringcase.CaseStyle;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the conversions with and without the scratch pool, which is enabled by a system
+ * property, in separate forks. Run with {@code -prof gc} to see the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ScratchPoolBench {
+
+  @Param({"SNAKE", "CAMEL"})
+  public CaseStyle style;
+
+  @Param({"SHORT", "SENTENCE", "LONG_CAMEL"})
+  public Corpus corpus;
+
+  String[] inputs;
+
+  @Setup
+  public void setup() {
+    inputs = corpus.inputs();
+  }
+
+  @Benchmark
+  @Fork(1)
+  @OperationsPerInvocation(Corpus.SIZE)
+  public void withoutPool(Blackhole bh) {
+    convert(bh);
+  }
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = "-Dcom.github.sttk.stringcase.scratchPool=true")
+  @OperationsPerInvocation(Corpus.SIZE)
+  public void withPool(Blackhole bh) {
+    convert(bh);
+  }
+
+  @Benchmark
+  @Fork(1)
+  @Threads(4)
+  @OperationsPerInvocation(Corpus.SIZE)
+  public void withoutPool4Threads(Blackhole bh) {
+    convert(bh);
+  }
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = "-Dcom.github.sttk.stringcase.scratchPool=true")
+  @Threads(4)
+  @OperationsPerInvocation(Corpus.SIZE)
+  public void withPool4Threads(Blackhole bh) {
+    convert(bh);
+  }
+
+  private void convert(Blackhole bh) {
+    for (var input : inputs) {
+      bh.consume(CaseStyleBench.convert(style, input));
+    }
+  }
+}
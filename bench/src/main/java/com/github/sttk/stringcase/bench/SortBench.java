@@ -0,0 +1,80 @@
+/*
+ * SortBench class.
+ * Copyright (C) 2026 Takayuki Sato. All Rights Reserved.
+ */
+package com.github.sttk.stringcase.bench;
+
+import com.github.sttk.stringcase.CaseStyle;
+import com.github.sttk.stringcase.StringCase;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares sorting identifiers by their snake case forms with the comparator of {@link StringCase},
+ * with converting inside a comparator, and with extracting the converted keys in advance. Run with
+ * {@code -prof gc} to see the allocation per sort.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortBench {
+
+  @Param({"1000", "100000"})
+  public int size;
+
+  String[] inputs;
+
+  @Setup
+  public void setup() {
+    var corpus = Corpus.SHORT.inputs();
+    inputs = new String[size];
+    for (int i = 0; i < size; i++) {
+      inputs[i] = corpus[i % corpus.length] + (i / corpus.length);
+    }
+  }
+
+  @Benchmark
+  public CharSequence[] comparator() {
+    var array = Arrays.copyOf(inputs, inputs.length, CharSequence[].class);
+    Arrays.sort(array, StringCase.comparator(CaseStyle.SNAKE));
+    return array;
+  }
+
+  @Benchmark
+  public String[] convertInComparator() {
+    var array = inputs.clone();
+    Arrays.sort(array, Comparator.comparing(StringCase::snakeCase));
+    return array;
+  }
+
+  @Benchmark
+  public String[] keyExtraction() {
+    int n = inputs.length;
+    var keys = StringCase.compile(CaseStyle.SNAKE).convertAll(inputs);
+    var indexes = new Integer[n];
+    for (int i = 0; i < n; i++) {
+      indexes[i] = i;
+    }
+    Arrays.sort(indexes, Comparator.comparing(i -> keys[i]));
+    var array = new String[n];
+    for (int i = 0; i < n; i++) {
+      array[i] = inputs[indexes[i]];
+    }
+    return array;
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * TokenizeBench class.
+ * Copyright (C) 2026 Takayuki Sato. All Rights Reserved.
+ */
+package com.github.sttk.stringcase.bench;
+
+import com.github.sttk.stringcase.Options;
+import com.github.sttk.stringcase.StringCase;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the word tokenization into a reused offsets array with and without options. Run with
+ * {@code -prof gc} to see the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenizeBench {
+
+  @Param({"SHORT", "SENTENCE", "ACRONYM"})
+  public Corpus corpus;
+
+  String[] inputs;
+  Options opts;
+  int[] offsets;
+
+  @Setup
+  public void setup() {
+    inputs = corpus.inputs();
+    opts = new Options(false, true, "-_", null);
+    offsets = new int[256];
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(Corpus.SIZE)
+  public void tokenize(Blackhole bh) {
+    for (var input : inputs) {
+      bh.consume(StringCase.tokenize(input, offsets));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(Corpus.SIZE)
+  public void tokenizeWithOptions(Blackhole bh) {
+    for (var input : inputs) {
+      bh.consume(StringCase.tokenizeWithOptions(input, opts, offsets));
+    }
+  }
+}
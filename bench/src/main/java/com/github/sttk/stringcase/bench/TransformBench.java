@@ -0,0 +1,80 @@
+/*
+ * TransformBench class.
+ * Copyright (C) 2026 Takayuki Sato. All Rights Reserved.
+ */
+package com.github.sttk.stringcase.bench;
+
+import com.github.sttk.stringcase.CaseConverter;
+import com.github.sttk.stringcase.CaseStyle;
+import com.github.sttk.stringcase.StringCase;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the streaming conversion of a large input from a reader to a writer, compared with
+ * converting the whole input into a string and writing it at once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransformBench {
+
+  @Param({"SNAKE", "CAMEL"})
+  public CaseStyle style;
+
+  @Param({"SENTENCE", "LONG_CAMEL"})
+  public Corpus corpus;
+
+  CaseConverter converter;
+  String input;
+
+  @Setup
+  public void setup() {
+    converter = StringCase.compile(style);
+    var sb = new StringBuilder();
+    while (sb.length() < 4_000_000) {
+      for (var s : corpus.inputs()) {
+        sb.append(s).append(' ');
+      }
+    }
+    input = sb.toString();
+  }
+
+  @Benchmark
+  public void transform() throws IOException {
+    try (var output = newWriter()) {
+      converter.transform(new StringReader(input), output);
+    }
+  }
+
+  @Benchmark
+  public void convertAndWrite() throws IOException {
+    try (var output = newWriter()) {
+      output.write(converter.convert(input));
+    }
+  }
+
+  // Returns a writer which encodes the characters like a file writer, but discards the bytes.
+  static Writer newWriter() {
+    return new OutputStreamWriter(OutputStream.nullOutputStream(), StandardCharsets.UTF_8);
+  }
+}
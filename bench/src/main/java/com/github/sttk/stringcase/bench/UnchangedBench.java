@@ -0,0 +1,120 @@
+/*
+ * UnchangedBench class.
+ * Copyright (C) 2026 Takayuki Sato. All Rights Reserved.
+ */
+package com.github.sttk.stringcase.bench;
+
+import com.github.sttk.stringcase.CaseStyle;
+import com.github.sttk.stringcase.Options;
+import com.github.sttk.stringcase.StringCase;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the conversions of inputs which are already in the target case style, which return the
+ * inputs themselves, and the checks of such inputs. Run with {@code -prof gc} to see the allocation
+ * rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnchangedBench {
+
+  @Param({"CAMEL", "SNAKE", "MACRO", "TITLE"})
+  public CaseStyle style;
+
+  @Param({"SHORT", "SENTENCE", "ACRONYM"})
+  public Corpus corpus;
+
+  String[] inputs;
+  String[] inputsWithOptions;
+  Options opts;
+
+  @Setup
+  public void setup() {
+    // The joiners of all the styles are separators, so that the inputs converted with these options
+    // are unchanged by converting them again.
+    opts = new Options(false, true, "-_ ", null);
+    inputs = corpus.inputs();
+    inputsWithOptions = new String[inputs.length];
+    for (int i = 0; i < inputs.length; i++) {
+      inputsWithOptions[i] = OptionsBench.convertWithOptions(style, inputs[i], opts);
+      inputs[i] = CaseStyleBench.convert(style, inputs[i]);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(Corpus.SIZE)
+  public void convert(Blackhole bh) {
+    for (var input : inputs) {
+      bh.consume(CaseStyleBench.convert(style, input));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(Corpus.SIZE)
+  public void convertWithOptions(Blackhole bh) {
+    for (var input : inputsWithOptions) {
+      bh.consume(OptionsBench.convertWithOptions(style, input, opts));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(Corpus.SIZE)
+  public void isConverted(Blackhole bh) {
+    for (var input : inputs) {
+      bh.consume(isConverted(style, input));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(Corpus.SIZE)
+  public void isConvertedWithOptions(Blackhole bh) {
+    for (var input : inputsWithOptions) {
+      bh.consume(isConvertedWithOptions(style, input, opts));
+    }
+  }
+
+  static boolean isConverted(CaseStyle style, String input) {
+    return switch (style) {
+      case ADA -> StringCase.isAdaCase(input);
+      case CAMEL -> StringCase.isCamelCase(input);
+      case COBOL -> StringCase.isCobolCase(input);
+      case KEBAB -> StringCase.isKebabCase(input);
+      case MACRO -> StringCase.isMacroCase(input);
+      case PASCAL -> StringCase.isPascalCase(input);
+      case SNAKE -> StringCase.isSnakeCase(input);
+      case TITLE -> StringCase.isTitleCase(input);
+      case TRAIN -> StringCase.isTrainCase(input);
+    };
+  }
+
+  static boolean isConvertedWithOptions(CaseStyle style, String input, Options opts) {
+    return switch (style) {
+      case ADA -> StringCase.isAdaCaseWithOptions(input, opts);
+      case CAMEL -> StringCase.isCamelCaseWithOptions(input, opts);
+      case COBOL -> StringCase.isCobolCaseWithOptions(input, opts);
+      case KEBAB -> StringCase.isKebabCaseWithOptions(input, opts);
+      case MACRO -> StringCase.isMacroCaseWithOptions(input, opts);
+      case PASCAL -> StringCase.isPascalCaseWithOptions(input, opts);
+      case SNAKE -> StringCase.isSnakeCaseWithOptions(input, opts);
+      case TITLE -> StringCase.isTitleCaseWithOptions(input, opts);
+      case TRAIN -> StringCase.isTrainCaseWithOptions(input, opts);
+    };
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Utf8Bench class.
+ * Copyright (C) 2026 Takayuki Sato. All Rights Reserved.
+ */
+package com.github.sttk.stringcase.bench;
+
+import com.github.sttk.stringcase.CaseConverter;
+import com.github.sttk.stringcase.CaseStyle;
+import com.github.sttk.stringcase.StringCase;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Measures the conversions of UTF-8 encoded inputs into a reused heap byte buffer. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Utf8Bench {
+
+  @Param({"SNAKE", "CAMEL", "MACRO"})
+  public CaseStyle style;
+
+  @Param({"SHORT", "SENTENCE", "LONG_CAMEL"})
+  public Corpus corpus;
+
+  CaseConverter converter;
+  byte[][] inputs;
+  ByteBuffer output;
+
+  @Setup
+  public void setup() {
+    converter = StringCase.compile(style);
+    var strings = corpus.inputs();
+    inputs = new byte[strings.length][];
+    int max = 0;
+    for (int i = 0; i < strings.length; i++) {
+      inputs[i] = strings[i].getBytes(StandardCharsets.UTF_8);
+      max = Math.max(max, inputs[i].length);
+    }
+    output = ByteBuffer.allocate(max * 3 + 16);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(Corpus.SIZE)
+  public void convert(Blackhole bh) {
+    for (var input : inputs) {
+      output.clear();
+      converter.convert(input, output);
+      bh.consume(output.position());
+    }
+  }
+}
@@ -57,6 +57,21 @@ native_test() {
   errcheck $?
 }
 
+vector() {
+  mvn install -DskipTests
+  errcheck $?
+  (cd vector && mvn install)
+  errcheck $?
+}
+
+bench() {
+  vector
+  (cd bench && mvn package)
+  errcheck $?
+  java -jar bench/target/benchmarks.jar -prof gc -rf json -rff bench/target/bench_output.json
+  errcheck $?
+}
+
 deploy() {
   mvn deploy
   errcheck $?
@@ -102,6 +117,12 @@ else
     'native-test')
       native_test
       ;;
+    vector)
+      vector
+      ;;
+    bench)
+      bench
+      ;;
     deploy)
       deploy
       ;;
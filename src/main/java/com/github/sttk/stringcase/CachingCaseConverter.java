@@ -0,0 +1,186 @@
+/*
+ * CachingCaseConverter class.
+ * Copyright (C) 2026 Takayuki Sato. All Rights Reserved.
+ */
+package com.github.sttk.stringcase;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Is the class that memoizes the results of a {@link CaseConverter} in a bounded cache.
+ *
+ * <p>When the same strings are converted many times, a cache hit costs one hash lookup and returns
+ * the same string instance as the first conversion, instead of scanning the input again.
+ *
+ * <p>The cache is split into segments by the hash codes of the input strings, and each segment is
+ * guarded by its own lock, so concurrent lookups for different strings seldom contend. Each segment
+ * evicts its least recently used entry when it is full, so the cache holds at most the maximum size
+ * of entries in total.
+ *
+ * <p>An instance of this class can be shared and used concurrently by multiple threads.
+ *
+ * @since 1.1
+ */
+public final class CachingCaseConverter {
+
+  private static final int MAX_SEGMENTS = 16;
+
+  private final CaseConverter converter;
+  private final int maximumSize;
+  private final Segment[] segments;
+  private final int segmentMask;
+
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private final LongAdder evictionCount = new LongAdder();
+
+  /**
+   * The constructor which takes a converter and the maximum number of the cached entries.
+   *
+   * @param converter The converter whose results are cached.
+   * @param maximumSize The maximum number of the cached entries.
+   * @throws IllegalArgumentException If {@code maximumSize} is less than 1.
+   */
+  public CachingCaseConverter(CaseConverter converter, int maximumSize) {
+    if (maximumSize < 1) {
+      throw new IllegalArgumentException("The maximum size must be at least 1: " + maximumSize);
+    }
+    this.converter = Objects.requireNonNull(converter);
+    this.maximumSize = maximumSize;
+
+    int n = Integer.highestOneBit(Math.min(MAX_SEGMENTS, maximumSize));
+    this.segments = new Segment[n];
+    this.segmentMask = n - 1;
+    for (int i = 0; i < n; i++) {
+      int capacity = maximumSize / n + ((i < maximumSize % n) ? 1 : 0);
+      this.segments[i] = new Segment(capacity);
+    }
+  }
+
+  /**
+   * Converts the input string with the cached converter, or returns the cached result if the same
+   * string has been converted before.
+   *
+   * @param input The input string.
+   * @return The converted string.
+   */
+  public String convert(String input) {
+    var segment = segmentFor(input);
+
+    String output;
+    synchronized (segment) {
+      output = segment.get(input);
+    }
+    if (output != null) {
+      hitCount.increment();
+      return output;
+    }
+    missCount.increment();
+
+    output = converter.convert(input);
+
+    synchronized (segment) {
+      var existing = segment.putIfAbsent(input, output);
+      if (existing != null) {
+        return existing;
+      }
+    }
+    return output;
+  }
+
+  /**
+   * Returns the converter whose results are cached.
+   *
+   * @return The cached converter.
+   */
+  public CaseConverter converter() {
+    return converter;
+  }
+
+  /**
+   * Returns the maximum number of the cached entries.
+   *
+   * @return The maximum size of this cache.
+   */
+  public int maximumSize() {
+    return maximumSize;
+  }
+
+  /**
+   * Returns the current number of the cached entries.
+   *
+   * @return The size of this cache.
+   */
+  public int size() {
+    int size = 0;
+    for (var segment : segments) {
+      synchronized (segment) {
+        size += segment.size();
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Returns the number of the conversions which were answered from the cache.
+   *
+   * @return The hit count.
+   */
+  public long hitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * Returns the number of the conversions which were not found in the cache and were converted.
+   *
+   * @return The miss count.
+   */
+  public long missCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * Returns the number of the entries which were evicted from the cache because it was full.
+   *
+   * @return The eviction count.
+   */
+  public long evictionCount() {
+    return evictionCount.sum();
+  }
+
+  /** Removes all the cached entries. The hit, miss and eviction counts are left as they are. */
+  public void clear() {
+    for (var segment : segments) {
+      synchronized (segment) {
+        segment.clear();
+      }
+    }
+  }
+
+  private Segment segmentFor(String input) {
+    int h = input.hashCode();
+    return segments[(h ^ (h >>> 16)) & segmentMask];
+  }
+
+  @SuppressWarnings("serial")
+  private final class Segment extends LinkedHashMap<String, String> {
+    private final int capacity;
+
+    Segment(int capacity) {
+      super(16, 0.75f, true);
+      this.capacity = capacity;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+      if (size() > capacity) {
+        evictionCount.increment();
+        return true;
+      }
+      return false;
+    }
+  }
+}
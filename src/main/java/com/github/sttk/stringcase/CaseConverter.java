@@ -0,0 +1,1622 @@
+/*
+ * CaseConverter class.
+ * Copyright (C) 2026 Takayuki Sato. All Rights Reserved.
+ */
+package com.github.sttk.stringcase;
+
+import com.github.sttk.stringcase.codepoint.Ascii;
+import com.github.sttk.stringcase.codepoint.CharArrayPool;
+import com.github.sttk.stringcase.codepoint.CodepointAppender;
+import com.github.sttk.stringcase.codepoint.CodepointBuffer;
+import com.github.sttk.stringcase.codepoint.CodepointBuilder;
+import com.github.sttk.stringcase.codepoint.CodepointSet;
+import com.github.sttk.stringcase.codepoint.CodepointSink;
+import com.github.sttk.stringcase.codepoint.CodepointWriter;
+import com.github.sttk.stringcase.codepoint.Utf8;
+import com.github.sttk.stringcase.codepoint.Utf8Buffer;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Is the class that converts strings to a specific case with specific {@link Options}.
+ *
+ * <p>An instance of this class is created by {@link StringCase#compile(CaseStyle, Options)} or its
+ * variants, and parses the separators and the kept characters in the given {@link Options} only
+ * once at its creation. Because an instance of this class is immutable, it can be shared and used
+ * concurrently by multiple threads.
+ *
+ * <p>The conversion rules are the same as the static methods of {@link StringCase}.
+ *
+ * @since 1.1
+ */
+public final class CaseConverter {
+
+  static final int NO_JOINER = -1;
+
+  private static final int TRANSFORM_BUFFER_SIZE = 8192;
+
+  private static final int DEFAULT_SEQUENTIAL_CUTOFF = 1024;
+  private static final int MIN_LENGTH_TO_FIND_RUNS = 32;
+
+  // The pool of the scratch arrays into which the strings are converted, which is enabled by the
+  // system property "com.github.sttk.stringcase.scratchPool".
+  private static final CharArrayPool SCRATCH_POOL =
+      Boolean.getBoolean("com.github.sttk.stringcase.scratchPool")
+          ? new CharArrayPool(Runtime.getRuntime().availableProcessors() * 2, 8192)
+          : null;
+
+  enum Casing {
+    LOWER(false, false, false),
+    UPPER(true, true, true),
+    CAPITAL(true, true, false),
+    CAMEL(false, true, false);
+
+    final boolean upperHeadOfFirstWord;
+    final boolean upperHeadOfWord;
+    final boolean upperTailOfWord;
+
+    Casing(boolean upperHeadOfFirstWord, boolean upperHeadOfWord, boolean upperTailOfWord) {
+      this.upperHeadOfFirstWord = upperHeadOfFirstWord;
+      this.upperHeadOfWord = upperHeadOfWord;
+      this.upperTailOfWord = upperTailOfWord;
+    }
+  }
+
+  private enum ChIs {
+    FirstOfStr,
+    NextOfUpper,
+    NextOfContdUpper,
+    NextOfSepMark,
+    NextOfKeptMark,
+    Others,
+  }
+
+  private static final ChIs[] STATES = ChIs.values();
+  private static final CaseStyle[] ALL_STYLES = CaseStyle.values();
+  private static final int STATE_MASK = 0x7;
+  private static final int ACTION_SHIFT = 3;
+
+  private static final int NONE = 0;
+  private static final int HEAD_OF_FIRST_WORD = 1;
+  private static final int HEAD_OF_WORD = 2;
+  private static final int TAIL_OF_WORD = 3;
+  private static final int SPLIT_BEFORE_LAST = 4;
+  private static final int KEPT = 5;
+  private static final int KEPT_AFTER_JOINER = 6;
+
+  // The bit set of the actions which output a joiner before the code point.
+  private static final int JOINED_ACTIONS =
+      (1 << HEAD_OF_WORD) | (1 << SPLIT_BEFORE_LAST) | (1 << KEPT_AFTER_JOINER);
+
+  private static final byte UPPER_CASE = 0;
+  private static final byte LOWER_CASE = 1;
+  private static final byte KEPT_MARK = 2;
+  private static final byte SEP_MARK = 3;
+  private static final int CLASS_COUNT = 4;
+
+  private static final byte[] DEFAULT_ASCII_CLASSES = defaultAsciiClasses();
+
+  // The transition tables indexed by the flags of separating before and after non-alphabets.
+  private static final byte[][] TRANSITIONS = {
+    transitionsOf(false, false),
+    transitionsOf(false, true),
+    transitionsOf(true, false),
+    transitionsOf(true, true),
+  };
+
+  private static final int FLAG_SHIFT = 32;
+  private static final long JOINER_DONE = 1L << 35;
+  private static final int OUTPUT_SHIFT = 36;
+  private static final long CURSOR_MASK = (1L << OUTPUT_SHIFT) - 1;
+  private static final long END_OF_OUTPUT = -1L;
+
+  final Casing casing;
+  final int joiner;
+  private final int joinerLength;
+  final boolean separateBeforeNonAlphabets;
+  final boolean separateAfterNonAlphabets;
+  final CodepointSet sepChs;
+  final CodepointSet keptChs;
+  private final byte[] asciiClasses;
+  private final byte[] transitions;
+  private final byte[] asciiJoinerBounds;
+  private final int nonAsciiJoinerBound;
+  private final Comparator<CharSequence> comparator = this::compareConverted;
+
+  CaseConverter(Casing casing, int joiner, Options opts) {
+    this.casing = casing;
+    this.joiner = joiner;
+    this.joinerLength = (joiner == NO_JOINER) ? 1 : Character.charCount(joiner);
+    this.separateBeforeNonAlphabets = opts.separateBeforeNonAlphabets;
+    this.separateAfterNonAlphabets = opts.separateAfterNonAlphabets;
+
+    this.sepChs = opts.separatorSet();
+    this.keptChs = opts.keptSet();
+
+    this.asciiClasses = asciiClassesOf();
+    this.transitions =
+        TRANSITIONS[(separateBeforeNonAlphabets ? 2 : 0) + (separateAfterNonAlphabets ? 1 : 0)];
+
+    int markBound = (separateBeforeNonAlphabets ? 1 : 0) + (separateAfterNonAlphabets ? 1 : 0);
+    this.asciiJoinerBounds = asciiJoinerBoundsOf(markBound);
+    int sepBound = joinerLength - 1;
+    this.nonAsciiJoinerBound =
+        (sepChs != null || keptChs != null)
+            ? Math.max(markBound * joinerLength, sepBound)
+            : sepBound;
+  }
+
+  CaseConverter(CaseStyle style, Options opts) {
+    this(style.casing, style.joiner, opts);
+  }
+
+  /**
+   * Converts the input character sequence with the case style and the options of this converter.
+   *
+   * <p>If the input is a {@link String} which is already in the case style of this converter, the
+   * input itself is returned without creating a new string.
+   *
+   * @param input The input character sequence.
+   * @return The converted string.
+   */
+  public String convert(CharSequence input) {
+    return convert(input, 0, input.length());
+  }
+
+  /**
+   * Converts the specified range of the input character sequence with the case style and the
+   * options of this converter.
+   *
+   * <p>Only the characters from {@code start} (inclusive) to {@code end} (exclusive) are read, so
+   * an identifier inside a large buffer can be converted without copying it out first. A surrogate
+   * pair which straddles either bound is treated as unpaired surrogates.
+   *
+   * <p>If the input is a {@link String} and the range is already in the case style of this
+   * converter, the range is returned as a substring; it is the input itself if the range is the
+   * whole of the input.
+   *
+   * @param input The input character sequence.
+   * @param start The start index of the range, inclusive.
+   * @param end The end index of the range, exclusive.
+   * @return The converted string.
+   * @throws IndexOutOfBoundsException If {@code start} or {@code end} is out of the input.
+   */
+  public String convert(CharSequence input, int start, int end) {
+    Objects.checkFromToIndex(start, end, input.length());
+    if (input instanceof String str && verify(str, start, end)) {
+      return str.substring(start, end);
+    }
+    var result = newBuffer(capacityOf(input, start, end));
+    scan(input, start, end, result);
+    var output = result.toString();
+    recycle(result);
+    return output;
+  }
+
+  /**
+   * Converts the input character sequence with the case style and the options of this converter,
+   * and appends the result to the specified {@link StringBuilder}.
+   *
+   * <p>This method writes the result directly into the output, without creating any intermediate
+   * string. The contents of the output before the call are left as they are.
+   *
+   * @param input The input character sequence.
+   * @param output The {@link StringBuilder} to which the converted string is appended.
+   */
+  public void convert(CharSequence input, StringBuilder output) {
+    convert(input, 0, input.length(), output);
+  }
+
+  /**
+   * Converts the specified range of the input character sequence with the case style and the
+   * options of this converter, and appends the result to the specified {@link StringBuilder}.
+   *
+   * @param input The input character sequence.
+   * @param start The start index of the range, inclusive.
+   * @param end The end index of the range, exclusive.
+   * @param output The {@link StringBuilder} to which the converted string is appended.
+   * @throws IndexOutOfBoundsException If {@code start} or {@code end} is out of the input.
+   */
+  public void convert(CharSequence input, int start, int end, StringBuilder output) {
+    Objects.checkFromToIndex(start, end, input.length());
+    scan(input, start, end, new CodepointBuilder(output));
+  }
+
+  /**
+   * Converts the input character sequence with the case style and the options of this converter,
+   * and appends the result to the specified {@link Appendable}.
+   *
+   * <p>This method writes the result directly into the output, without creating any intermediate
+   * string. Because a word boundary before the last uppercase letter of an acronym is found only
+   * when the next lowercase letter comes, the last code point is held back until the next one is
+   * determined.
+   *
+   * @param input The input character sequence.
+   * @param output The {@link Appendable} to which the converted string is appended.
+   * @throws IOException If an I/O error occurs on the output.
+   */
+  public void convert(CharSequence input, Appendable output) throws IOException {
+    convert(input, 0, input.length(), output);
+  }
+
+  /**
+   * Converts the specified range of the input character sequence with the case style and the
+   * options of this converter, and appends the result to the specified {@link Appendable}.
+   *
+   * @param input The input character sequence.
+   * @param start The start index of the range, inclusive.
+   * @param end The end index of the range, exclusive.
+   * @param output The {@link Appendable} to which the converted string is appended.
+   * @throws IOException If an I/O error occurs on the output.
+   * @throws IndexOutOfBoundsException If {@code start} or {@code end} is out of the input.
+   */
+  public void convert(CharSequence input, int start, int end, Appendable output)
+      throws IOException {
+    if (output instanceof StringBuilder sb) {
+      convert(input, start, end, sb);
+      return;
+    }
+
+    Objects.checkFromToIndex(start, end, input.length());
+    try {
+      if (output instanceof Writer w) {
+        var writer = new CodepointWriter(w, Math.min(end - start, TRANSFORM_BUFFER_SIZE));
+        scan(input, start, end, writer);
+        writer.flush();
+      } else {
+        var appender = new CodepointAppender(output);
+        scan(input, start, end, appender);
+        appender.flush();
+      }
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * Converts the UTF-8 bytes from the position to the limit of the input buffer with the case style
+   * and the options of this converter, and writes the result in UTF-8 into the output buffer.
+   *
+   * <p>Because the conversion only changes ASCII bytes, the bytes are converted directly without
+   * decoding them into a string and encoding the result again. Any malformed byte sequence is
+   * treated as U+FFFD, so the result is as same as decoding the bytes with {@code new String(bytes,
+   * StandardCharsets.UTF_8)}, converting it, and encoding the converted string in UTF-8.
+   *
+   * <p>On return, the position of the input buffer is at its limit, and the position of the output
+   * buffer is advanced by the number of bytes written. For well-formed input, the converted bytes
+   * are at most {@code (1 + the byte length of the joiner)} times as long as the input bytes.
+   *
+   * @param input The buffer which holds the input UTF-8 bytes.
+   * @param output The buffer into which the converted UTF-8 bytes are written.
+   * @throws java.nio.BufferOverflowException If the output buffer does not have enough space. In
+   *     this case, the positions of both buffers are unspecified.
+   * @throws java.nio.ReadOnlyBufferException If the output buffer is read-only.
+   */
+  public void convert(ByteBuffer input, ByteBuffer output) {
+    var result = new Utf8Buffer(output);
+
+    var flag = ChIs.FirstOfStr;
+
+    final int end = input.limit();
+    final byte[] bytes = input.hasArray() ? input.array() : null;
+    final int offset = input.hasArray() ? input.arrayOffset() : 0;
+    for (int i = input.position(); i < end; ) {
+      int decoded = Utf8.decode(input, i, end);
+      flag = step(flag, Utf8.codepoint(decoded), result);
+      i += Utf8.length(decoded);
+
+      // As same as the scan of a CharSequence, the runs of the tails of a word are appended at
+      // once, but they are found and copied eight bytes at a time in the backing array.
+      if (bytes == null) {
+        continue;
+      }
+      int runEnd = i;
+      if (flag == ChIs.Others) {
+        runEnd = Ascii.lowerCaseRunEnd(bytes, offset + i, offset + end) - offset;
+        if (runEnd > i) {
+          result.appendRun(bytes, offset + i, offset + runEnd, casing.upperTailOfWord);
+        }
+      } else if (flag == ChIs.NextOfContdUpper) {
+        runEnd = Ascii.upperCaseRunEnd(bytes, offset + i, offset + end) - offset;
+        if (runEnd > i) {
+          result.appendRun(bytes, offset + i, offset + runEnd, !casing.upperTailOfWord);
+        }
+      }
+      i = runEnd;
+    }
+
+    input.position(end);
+  }
+
+  /**
+   * Converts the input UTF-8 bytes with the case style and the options of this converter, and
+   * writes the result in UTF-8 into the output buffer.
+   *
+   * @param input The input UTF-8 bytes.
+   * @param output The buffer into which the converted UTF-8 bytes are written.
+   * @throws java.nio.BufferOverflowException If the output buffer does not have enough space.
+   * @throws java.nio.ReadOnlyBufferException If the output buffer is read-only.
+   * @see #convert(ByteBuffer, ByteBuffer)
+   */
+  public void convert(byte[] input, ByteBuffer output) {
+    convert(ByteBuffer.wrap(input), output);
+  }
+
+  /**
+   * Converts all the input strings with the case style and the options of this converter, and
+   * stores the results into the output array at the same indexes.
+   *
+   * <p>A single scratch buffer, sized for the longest input, is reused for all the inputs, so the
+   * allocations are only the result strings. An input which is already in the case style is stored
+   * as it is. The output array may be the same as the input array.
+   *
+   * @param input The input strings.
+   * @param output The array into which the converted strings are stored.
+   * @throws IllegalArgumentException If the output array is shorter than the input array.
+   */
+  public void convertAll(String[] input, String[] output) {
+    if (output.length < input.length) {
+      throw new IllegalArgumentException(
+          "The output array is shorter than the input array: "
+              + output.length
+              + " < "
+              + input.length);
+    }
+
+    convertRange(input, output, 0, input.length);
+  }
+
+  /**
+   * Converts all the input strings with the case style and the options of this converter.
+   *
+   * @param input The input strings.
+   * @return A new array which holds the converted strings in the same order as the input.
+   * @see #convertAll(String[], String[])
+   */
+  public String[] convertAll(String[] input) {
+    var output = new String[input.length];
+    convertAll(input, output);
+    return output;
+  }
+
+  /**
+   * Converts all the input character sequences with the case style and the options of this
+   * converter.
+   *
+   * <p>As same as {@link #convertAll(String[], String[])}, a single scratch buffer is reused for
+   * all the inputs, and the returned list is allocated with the size of the input list.
+   *
+   * @param input The input character sequences.
+   * @return A new list which holds the converted strings in the same order as the input.
+   */
+  public List<String> convertAll(List<? extends CharSequence> input) {
+    var output = new ArrayList<String>(input.size());
+
+    int maxLen = 0;
+    for (var s : input) {
+      maxLen = Math.max(maxLen, s.length());
+    }
+
+    var result = newBuffer(maxLen);
+    for (var s : input) {
+      if (s instanceof String str && verify(str, 0, str.length())) {
+        output.add(str);
+        continue;
+      }
+      result.clear();
+      scan(s, 0, s.length(), result);
+      output.add(result.toString());
+    }
+    recycle(result);
+    return output;
+  }
+
+  /**
+   * Converts all the input strings in parallel on the common {@link ForkJoinPool}, and stores the
+   * results into the output array at the same indexes.
+   *
+   * @param input The input strings.
+   * @param output The array into which the converted strings are stored.
+   * @throws IllegalArgumentException If the output array is shorter than the input array.
+   * @see #convertAllParallel(String[], String[], ForkJoinPool, int)
+   */
+  public void convertAllParallel(String[] input, String[] output) {
+    convertAllParallel(input, output, ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_CUTOFF);
+  }
+
+  /**
+   * Converts all the input strings in parallel on the specified {@link ForkJoinPool}, and stores
+   * the results into the output array at the same indexes.
+   *
+   * <p>The input array is split recursively until a range has no more than {@code sequentialCutoff}
+   * strings, and each range is converted sequentially with its own scratch buffer. Because every
+   * result is stored at the index of its input, the output is the same as {@link
+   * #convertAll(String[], String[])} regardless of the scheduling.
+   *
+   * @param input The input strings.
+   * @param output The array into which the converted strings are stored.
+   * @param pool The {@link ForkJoinPool} on which the conversions run.
+   * @param sequentialCutoff The maximum number of strings converted sequentially by one task.
+   * @throws IllegalArgumentException If the output array is shorter than the input array, or if
+   *     {@code sequentialCutoff} is less than 1.
+   */
+  public void convertAllParallel(
+      String[] input, String[] output, ForkJoinPool pool, int sequentialCutoff) {
+    if (output.length < input.length) {
+      throw new IllegalArgumentException(
+          "The output array is shorter than the input array: "
+              + output.length
+              + " < "
+              + input.length);
+    }
+    if (sequentialCutoff < 1) {
+      throw new IllegalArgumentException(
+          "The sequential cutoff must be at least 1: " + sequentialCutoff);
+    }
+
+    pool.invoke(new ConvertAllTask(input, output, 0, input.length, sequentialCutoff));
+  }
+
+  /**
+   * Converts all the input character sequences in parallel on the specified {@link ForkJoinPool}.
+   *
+   * @param input The input character sequences.
+   * @param pool The {@link ForkJoinPool} on which the conversions run.
+   * @param sequentialCutoff The maximum number of strings converted sequentially by one task.
+   * @return A new list which holds the converted strings in the same order as the input.
+   * @throws IllegalArgumentException If {@code sequentialCutoff} is less than 1.
+   * @see #convertAllParallel(String[], String[], ForkJoinPool, int)
+   */
+  public List<String> convertAllParallel(
+      List<? extends CharSequence> input, ForkJoinPool pool, int sequentialCutoff) {
+    if (sequentialCutoff < 1) {
+      throw new IllegalArgumentException(
+          "The sequential cutoff must be at least 1: " + sequentialCutoff);
+    }
+
+    var in = input.toArray(new CharSequence[0]);
+    var out = new String[in.length];
+    pool.invoke(new ConvertAllTask(in, out, 0, in.length, sequentialCutoff));
+    return new ArrayList<>(Arrays.asList(out));
+  }
+
+  @SuppressWarnings("serial")
+  private final class ConvertAllTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final CharSequence[] input;
+    private final String[] output;
+    private final int from;
+    private final int to;
+    private final int cutoff;
+
+    ConvertAllTask(CharSequence[] input, String[] output, int from, int to, int cutoff) {
+      this.input = input;
+      this.output = output;
+      this.from = from;
+      this.to = to;
+      this.cutoff = cutoff;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= cutoff) {
+        convertRange(input, output, from, to);
+        return;
+      }
+      int mid = (from + to) >>> 1;
+      invokeAll(
+          new ConvertAllTask(input, output, from, mid, cutoff),
+          new ConvertAllTask(input, output, mid, to, cutoff));
+    }
+  }
+
+  private void convertRange(CharSequence[] input, String[] output, int from, int to) {
+    int maxLen = 0;
+    for (int i = from; i < to; i++) {
+      maxLen = Math.max(maxLen, input[i].length());
+    }
+
+    var result = newBuffer(maxLen);
+    for (int i = from; i < to; i++) {
+      if (input[i] instanceof String str && verify(str, 0, str.length())) {
+        output[i] = str;
+        continue;
+      }
+      result.clear();
+      scan(input[i], 0, input[i].length(), result);
+      output[i] = result.toString();
+    }
+    recycle(result);
+  }
+
+  // Returns a buffer for a conversion, whose array is taken from the scratch pool if it is enabled.
+  private static CodepointBuffer newBuffer(int capacity) {
+    if (SCRATCH_POOL == null) {
+      return new CodepointBuffer(capacity);
+    }
+    return new CodepointBuffer(SCRATCH_POOL.acquire(capacity));
+  }
+
+  // Returns the array of the buffer to the scratch pool if it is enabled. The buffer must not be
+  // used after this.
+  private static void recycle(CodepointBuffer buffer) {
+    if (SCRATCH_POOL != null) {
+      SCRATCH_POOL.release(buffer.chars());
+    }
+  }
+
+  /**
+   * Reads all characters from the input {@link Reader}, converts them with the case style and the
+   * options of this converter, and writes the result to the output {@link Writer}.
+   *
+   * <p>The input is read in fixed-size chunks and the state of the conversion is carried across
+   * chunk boundaries, so an input of any length is converted with constant memory. Neither the
+   * input nor the output is closed by this method.
+   *
+   * @param input The {@link Reader} from which the input characters are read.
+   * @param output The {@link Writer} to which the converted characters are written.
+   * @throws IOException If an I/O error occurs on the input or the output.
+   */
+  public void transform(Reader input, Writer output) throws IOException {
+    var writer = new ConvertingWriter(output);
+    var buf = new char[TRANSFORM_BUFFER_SIZE];
+    for (int n; (n = input.read(buf)) >= 0; ) {
+      writer.write(buf, 0, n);
+    }
+    writer.finish();
+  }
+
+  /**
+   * Creates a {@link Writer} which converts the characters written to it with the case style and
+   * the options of this converter, and writes the result to the output {@link Writer}.
+   *
+   * <p>The whole characters written to the returned writer, across any number of {@code write}
+   * calls, are converted as one string. The converted characters are collected in a fixed-size
+   * buffer and written to the output in blocks, when the buffer is full or the returned writer is
+   * flushed. Because the last code point can be changed by the next character, it is held back and
+   * written to the output only when the returned writer is closed. Closing the returned writer also
+   * closes the output.
+   *
+   * @param output The {@link Writer} to which the converted characters are written.
+   * @return A {@link Writer} which converts the characters written to it.
+   */
+  public Writer writer(Writer output) {
+    return new ConvertingWriter(output);
+  }
+
+  private final class ConvertingWriter extends Writer {
+    private final Writer out;
+    private final CodepointWriter result;
+    private ChIs flag = ChIs.FirstOfStr;
+    private char highSurrogate = 0;
+    private boolean closed = false;
+    private char[] wrapped;
+    private CharBuffer view;
+
+    ConvertingWriter(Writer out) {
+      super(out);
+      this.out = out;
+      this.result = new CodepointWriter(out, TRANSFORM_BUFFER_SIZE);
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+      Objects.checkFromIndexSize(off, len, cbuf.length);
+      synchronized (lock) {
+        ensureOpen();
+        // The view of the array is reused while the same array is written, as transform does.
+        if (cbuf != wrapped) {
+          wrapped = cbuf;
+          view = CharBuffer.wrap(cbuf);
+        }
+        convert(view, off, off + len);
+      }
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+      Objects.checkFromIndexSize(off, len, str.length());
+      synchronized (lock) {
+        ensureOpen();
+        convert(str, off, off + len);
+      }
+    }
+
+    // Scans the chars from the state at the end of the previous write call. A high surrogate at
+    // the end is held until the next char comes, because a surrogate pair can be split across two
+    // write calls.
+    private void convert(CharSequence cs, int start, int end) throws IOException {
+      if (start == end) {
+        return;
+      }
+      try {
+        if (highSurrogate != 0) {
+          char high = highSurrogate;
+          highSurrogate = 0;
+          char c = cs.charAt(start);
+          if (Character.isLowSurrogate(c)) {
+            flag = step(flag, Character.toCodePoint(high, c), result);
+            start++;
+          } else {
+            flag = step(flag, high, result);
+          }
+        }
+        if (start < end && Character.isHighSurrogate(cs.charAt(end - 1))) {
+          highSurrogate = cs.charAt(--end);
+        }
+        flag = scan(flag, cs, start, end, result);
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+    }
+
+    @Override
+    public void flush() throws IOException {
+      synchronized (lock) {
+        ensureOpen();
+        try {
+          result.flushBeforeLast();
+        } catch (UncheckedIOException e) {
+          throw e.getCause();
+        }
+        out.flush();
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      synchronized (lock) {
+        if (closed) {
+          return;
+        }
+        try {
+          finish();
+        } finally {
+          closed = true;
+          out.close();
+        }
+      }
+    }
+
+    void finish() throws IOException {
+      try {
+        if (highSurrogate != 0) {
+          flag = step(flag, highSurrogate, result);
+          highSurrogate = 0;
+        }
+        result.flush();
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+    }
+
+    private void ensureOpen() throws IOException {
+      if (closed) {
+        throw new IOException("Stream closed");
+      }
+    }
+  }
+
+  /**
+   * Checks whether the input character sequence is already in the case style of this converter,
+   * that is, whether converting it results in the same string.
+   *
+   * <p>This method runs the same word segmentation as the conversion, but only compares the
+   * characters to be output with the input, returns {@code false} at the first mismatch, and
+   * allocates no object.
+   *
+   * @param input The input character sequence.
+   * @return {@code true} if the input is in the case style, otherwise {@code false}.
+   */
+  public boolean isConverted(CharSequence input) {
+    return verify(input, 0, input.length());
+  }
+
+  /**
+   * Checks whether the specified range of the input character sequence is already in the case style
+   * of this converter.
+   *
+   * @param input The input character sequence.
+   * @param start The start index of the range, inclusive.
+   * @param end The end index of the range, exclusive.
+   * @return {@code true} if the range is in the case style, otherwise {@code false}.
+   * @throws IndexOutOfBoundsException If {@code start} or {@code end} is out of the input.
+   * @see #isConverted(CharSequence)
+   */
+  public boolean isConverted(CharSequence input, int start, int end) {
+    Objects.checkFromToIndex(start, end, input.length());
+    return verify(input, start, end);
+  }
+
+  /**
+   * Computes the hash code of the string into which the input character sequence is converted,
+   * without creating the converted string.
+   *
+   * <p>The returned value is equal to {@code convert(input).hashCode()}, so it can be used to look
+   * up a hash table keyed by converted strings. For example, a converter of snake case returns the
+   * same hash code for {@code "userId"}, {@code "user_id"} and {@code "USER-ID"}. This method
+   * allocates no object.
+   *
+   * @param input The input character sequence.
+   * @return The hash code of the converted string.
+   */
+  public int convertedHashCode(CharSequence input) {
+    return hash(input, 0, input.length());
+  }
+
+  /**
+   * Computes the hash code of the string into which the specified range of the input character
+   * sequence is converted, without creating the converted string.
+   *
+   * @param input The input character sequence.
+   * @param start The start index of the range, inclusive.
+   * @param end The end index of the range, exclusive.
+   * @return The hash code of the converted string.
+   * @throws IndexOutOfBoundsException If {@code start} or {@code end} is out of the input.
+   * @see #convertedHashCode(CharSequence)
+   */
+  public int convertedHashCode(CharSequence input, int start, int end) {
+    Objects.checkFromToIndex(start, end, input.length());
+    return hash(input, start, end);
+  }
+
+  /**
+   * Returns a {@link Comparator} which orders character sequences by the strings into which they
+   * are converted with this converter.
+   *
+   * <p>The returned comparator compares with {@link #compareConverted(CharSequence, CharSequence)},
+   * so sorting with it creates no converted string. The ordering is not consistent with {@code
+   * equals}, because different inputs can be converted to the same string.
+   *
+   * @return A {@link Comparator} object.
+   */
+  public Comparator<CharSequence> comparator() {
+    return comparator;
+  }
+
+  /**
+   * Is the functional interface which receives the offsets of each word found by {@link
+   * CaseConverter#tokenize(CharSequence, int, int, WordConsumer)}.
+   *
+   * @since 1.1
+   */
+  @FunctionalInterface
+  public interface WordConsumer {
+    /**
+     * Receives the offsets of a word in the input.
+     *
+     * @param start The start index of the word in the input, inclusive.
+     * @param end The end index of the word in the input, exclusive.
+     */
+    void accept(int start, int end);
+  }
+
+  /**
+   * Splits the input character sequence into words with the options of this converter, and writes
+   * the start and end offsets of each word into the specified array.
+   *
+   * <p>The words are the same as the words of the converted string, which are joined with the
+   * joiner of the case style. The start offset (inclusive) and the end offset (exclusive) of the
+   * {@code n}-th word are written into {@code offsets[2 * n]} and {@code offsets[2 * n + 1]}. The
+   * offsets are indexes in the input, and the separators between words are not included in any
+   * word.
+   *
+   * <p>This method allocates no object. If the array is too short, only the words which fit into it
+   * are written, but the returned value is still the number of all the words, so the array can be
+   * enlarged and this method can be called again.
+   *
+   * @param input The input character sequence.
+   * @param offsets The array into which the offsets of the words are written.
+   * @return The number of the words.
+   */
+  public int tokenize(CharSequence input, int[] offsets) {
+    return tokenize(input, 0, input.length(), offsets, null);
+  }
+
+  /**
+   * Splits the specified range of the input character sequence into words with the options of this
+   * converter, and writes the start and end offsets of each word into the specified array.
+   *
+   * @param input The input character sequence.
+   * @param start The start index of the range, inclusive.
+   * @param end The end index of the range, exclusive.
+   * @param offsets The array into which the offsets of the words are written.
+   * @return The number of the words.
+   * @throws IndexOutOfBoundsException If {@code start} or {@code end} is out of the input.
+   * @see #tokenize(CharSequence, int[])
+   */
+  public int tokenize(CharSequence input, int start, int end, int[] offsets) {
+    Objects.checkFromToIndex(start, end, input.length());
+    return tokenize(input, start, end, offsets, null);
+  }
+
+  /**
+   * Splits the input character sequence into words with the options of this converter, and passes
+   * the start and end offsets of each word to the specified consumer in order.
+   *
+   * @param input The input character sequence.
+   * @param consumer The consumer which receives the offsets of each word.
+   * @return The number of the words.
+   * @see #tokenize(CharSequence, int[])
+   */
+  public int tokenize(CharSequence input, WordConsumer consumer) {
+    return tokenize(input, 0, input.length(), null, consumer);
+  }
+
+  /**
+   * Splits the specified range of the input character sequence into words with the options of this
+   * converter, and passes the start and end offsets of each word to the specified consumer in
+   * order.
+   *
+   * @param input The input character sequence.
+   * @param start The start index of the range, inclusive.
+   * @param end The end index of the range, exclusive.
+   * @param consumer The consumer which receives the offsets of each word.
+   * @return The number of the words.
+   * @throws IndexOutOfBoundsException If {@code start} or {@code end} is out of the input.
+   * @see #tokenize(CharSequence, int[])
+   */
+  public int tokenize(CharSequence input, int start, int end, WordConsumer consumer) {
+    Objects.checkFromToIndex(start, end, input.length());
+    return tokenize(input, start, end, null, consumer);
+  }
+
+  private int tokenize(
+      CharSequence input, int start, int end, int[] offsets, WordConsumer consumer) {
+    int count = 0;
+    int wordStart = -1;
+    int wordEnd = -1;
+    int prevIndex = -1;
+
+    var flag = ChIs.FirstOfStr;
+    for (int i = start; i < end; i++) {
+      int index = i;
+      int ch = input.charAt(i);
+      if (Character.isHighSurrogate((char) ch) && i + 1 < end) {
+        char low = input.charAt(i + 1);
+        if (Character.isLowSurrogate(low)) {
+          ch = Character.toCodePoint((char) ch, low);
+          i++;
+        }
+      }
+
+      int seg = segment(flag, ch);
+      int action = seg >>> ACTION_SHIFT;
+      switch (action) {
+        case HEAD_OF_FIRST_WORD, HEAD_OF_WORD, KEPT_AFTER_JOINER -> {
+          if (wordStart >= 0) {
+            count = putWord(offsets, consumer, count, wordStart, wordEnd);
+          }
+          wordStart = index;
+        }
+        case SPLIT_BEFORE_LAST -> {
+          if (prevIndex > wordStart) {
+            count = putWord(offsets, consumer, count, wordStart, prevIndex);
+            wordStart = prevIndex;
+          }
+        }
+        case TAIL_OF_WORD, KEPT -> {
+          if (wordStart < 0) {
+            wordStart = index;
+          }
+        }
+        default -> {}
+      }
+      if (action != NONE) {
+        wordEnd = i + 1;
+      }
+      prevIndex = index;
+      flag = STATES[seg & STATE_MASK];
+    }
+
+    if (wordStart >= 0) {
+      count = putWord(offsets, consumer, count, wordStart, wordEnd);
+    }
+    return count;
+  }
+
+  private static int putWord(int[] offsets, WordConsumer consumer, int count, int start, int end) {
+    if (consumer != null) {
+      consumer.accept(start, end);
+    } else if (2 * count + 1 < offsets.length) {
+      offsets[2 * count] = start;
+      offsets[2 * count + 1] = end;
+    }
+    return count + 1;
+  }
+
+  // Converts the input to each of the styles with the options of this converter. The word
+  // segmentation of each code point is determined only once and shared by all the styles.
+  Map<CaseStyle, String> convertMany(CharSequence input, Set<CaseStyle> styles) {
+    var targets = styles.toArray(new CaseStyle[0]);
+    int len = input.length();
+
+    int capacity = outputLength(input, 0, len);
+    var results = new CodepointBuffer[targets.length];
+    for (int k = 0; k < targets.length; k++) {
+      results[k] = new CodepointBuffer((targets[k].joiner == NO_JOINER) ? len : capacity);
+    }
+
+    var flag = ChIs.FirstOfStr;
+    for (int i = 0; i < len; i++) {
+      int ch = input.charAt(i);
+      if (Character.isHighSurrogate((char) ch) && i + 1 < len) {
+        char low = input.charAt(i + 1);
+        if (Character.isLowSurrogate(low)) {
+          ch = Character.toCodePoint((char) ch, low);
+          i++;
+        }
+      }
+      int seg = segment(flag, ch);
+      int action = seg >>> ACTION_SHIFT;
+      if (action != NONE) {
+        for (int k = 0; k < targets.length; k++) {
+          emit(action, ch, results[k], targets[k].casing, targets[k].joiner);
+        }
+      }
+      flag = STATES[seg & STATE_MASK];
+    }
+
+    var map = new EnumMap<CaseStyle, String>(CaseStyle.class);
+    for (int k = 0; k < targets.length; k++) {
+      map.put(targets[k], results[k].toString());
+    }
+    return map;
+  }
+
+  private void scan(CharSequence input, int start, int end, CodepointSink result) {
+    scan(ChIs.FirstOfStr, input, start, end, result);
+  }
+
+  // Scans the specified range of the input from the specified state, and returns the state at the
+  // end of the range, so that a scan of the following chars can continue from it.
+  private ChIs scan(ChIs flag, CharSequence input, int start, int end, CodepointSink result) {
+    boolean findsRuns = (end - start >= MIN_LENGTH_TO_FIND_RUNS);
+
+    // Scans chars directly instead of input.codePoints().toArray(), and decodes a code point only
+    // at a surrogate pair, so an input of only BMP characters is processed without any int array.
+    for (int i = start; i < end; i++) {
+      int ch = input.charAt(i);
+      if (Character.isHighSurrogate((char) ch) && i + 1 < end) {
+        char low = input.charAt(i + 1);
+        if (Character.isLowSurrogate(low)) {
+          ch = Character.toCodePoint((char) ch, low);
+          i++;
+        }
+      }
+      flag = step(flag, ch, result);
+
+      // After a lowercase letter, the following lowercase letters are all the tails of the word,
+      // and so are the following uppercase letters after two uppercase letters. Such a run is
+      // found by a tight loop and appended at once, as it is or with the cases flipped. This does
+      // not pay for short inputs, whose runs are too short.
+      if (!findsRuns) {
+        continue;
+      }
+      if (flag == ChIs.Others) {
+        int runEnd = Ascii.lowerCaseRunEnd(input, i + 1, end);
+        if (runEnd > i + 1) {
+          result.appendRun(input, i + 1, runEnd, casing.upperTailOfWord);
+          i = runEnd - 1;
+        }
+      } else if (flag == ChIs.NextOfContdUpper) {
+        int runEnd = Ascii.upperCaseRunEnd(input, i + 1, end);
+        if (runEnd > i + 1) {
+          result.appendRun(input, i + 1, runEnd, !casing.upperTailOfWord);
+          i = runEnd - 1;
+        }
+      }
+    }
+    return flag;
+  }
+
+  // Returns the capacity of the buffer into which the specified range of the input is converted,
+  // which is not less than the length of the conversion, so that the buffer never grows.
+  //
+  // Without a joiner, the conversion is never longer than the range. With a joiner, a joiner which
+  // does not replace a dropped separator is output only before an uppercase letter, or before or
+  // after a non-alphabet which is separated from the words, so the maximum number of the chars of
+  // such joiners around each char is added up from a table. A joiner which replaces a separator is
+  // longer than it only if the joiner is a supplementary code point, and the table has the one
+  // more char for each separator then. This is much cheaper than the word segmentation.
+  int capacityOf(CharSequence input, int start, int end) {
+    int n = end - start;
+    if (joiner == NO_JOINER) {
+      return n;
+    }
+    for (int i = start; i < end; i++) {
+      char ch = input.charAt(i);
+      n += (ch < 0x80) ? asciiJoinerBounds[ch] : nonAsciiJoinerBound;
+    }
+    return n;
+  }
+
+  // Returns the number of the chars of the conversion of the specified range of the input, where
+  // a joiner is counted before each word but the first, as one char if there is no joiner. The
+  // casing never changes the number of the chars of a code point, so only the segmentation is
+  // needed to count them.
+  int outputLength(CharSequence input, int start, int end) {
+    int n = 0;
+
+    // Holds the state as its ordinal, so that the next state is looked up without dereferencing
+    // the enum constants.
+    int state = ChIs.FirstOfStr.ordinal();
+    for (int i = start; i < end; i++) {
+      int ch = input.charAt(i);
+      if (Character.isHighSurrogate((char) ch) && i + 1 < end) {
+        char low = input.charAt(i + 1);
+        if (Character.isLowSurrogate(low)) {
+          ch = Character.toCodePoint((char) ch, low);
+          i++;
+        }
+      }
+
+      int seg = segment(state, ch);
+      state = seg & STATE_MASK;
+
+      int action = seg >>> ACTION_SHIFT;
+      if (action != NONE) {
+        n += Character.charCount(ch) + ((JOINED_ACTIONS >>> action) & 1) * joinerLength;
+      }
+    }
+    return n;
+  }
+
+  // Returns true if the conversion of the specified range of the input is equal to the range
+  // itself. This runs the same segmentation as the conversion, but only compares each code point
+  // to be output with the input, and returns false as soon as a mismatch is found which a later
+  // replacement of the last code point cannot recover.
+  private boolean verify(CharSequence input, int start, int end) {
+    int pos = start;
+    int lastPos = start;
+    int lastCp = 0;
+    boolean lastMatched = true;
+
+    var flag = ChIs.FirstOfStr;
+    for (int i = start; i < end; i++) {
+      int ch = input.charAt(i);
+      if (Character.isHighSurrogate((char) ch) && i + 1 < end) {
+        char low = input.charAt(i + 1);
+        if (Character.isLowSurrogate(low)) {
+          ch = Character.toCodePoint((char) ch, low);
+          i++;
+        }
+      }
+
+      int seg = segment(flag, ch);
+      flag = STATES[seg & STATE_MASK];
+
+      int action = seg >>> ACTION_SHIFT;
+      int cp;
+      if (action == NONE) {
+        continue;
+      } else if (action == SPLIT_BEFORE_LAST) {
+        pos = lastPos;
+        if (joiner != NO_JOINER) {
+          pos = matchAt(input, pos, end, joiner);
+          if (pos < 0) {
+            return false;
+          }
+        }
+        pos = matchAt(input, pos, end, toCase(lastCp, casing.upperHeadOfWord));
+        if (pos < 0) {
+          return false;
+        }
+        cp = outputOf(action, ch, casing);
+      } else {
+        if (!lastMatched) {
+          return false;
+        }
+        if (joiner != NO_JOINER && (action == HEAD_OF_WORD || action == KEPT_AFTER_JOINER)) {
+          pos = matchAt(input, pos, end, joiner);
+          if (pos < 0) {
+            return false;
+          }
+        }
+        cp = outputOf(action, ch, casing);
+      }
+
+      lastPos = pos;
+      lastCp = cp;
+      int next = matchAt(input, pos, end, cp);
+      lastMatched = (next >= 0);
+      if (lastMatched) {
+        pos = next;
+      }
+    }
+    return lastMatched && pos == end;
+  }
+
+  // Computes String#hashCode of the conversion of the specified range of the input. The hash
+  // before the last code point is kept, so the replacement of the last code point only recomputes
+  // the hash from there.
+  private int hash(CharSequence input, int start, int end) {
+    int h = 0;
+    int hashBeforeLast = 0;
+    int lastCp = 0;
+
+    var flag = ChIs.FirstOfStr;
+    for (int i = start; i < end; i++) {
+      int ch = input.charAt(i);
+      if (Character.isHighSurrogate((char) ch) && i + 1 < end) {
+        char low = input.charAt(i + 1);
+        if (Character.isLowSurrogate(low)) {
+          ch = Character.toCodePoint((char) ch, low);
+          i++;
+        }
+      }
+
+      int seg = segment(flag, ch);
+      flag = STATES[seg & STATE_MASK];
+
+      int action = seg >>> ACTION_SHIFT;
+      if (action == NONE) {
+        continue;
+      }
+      if (action == SPLIT_BEFORE_LAST) {
+        h = hashBeforeLast;
+        if (joiner != NO_JOINER) {
+          h = hashOf(h, joiner);
+        }
+        h = hashOf(h, toCase(lastCp, casing.upperHeadOfWord));
+      } else if (joiner != NO_JOINER && (action == HEAD_OF_WORD || action == KEPT_AFTER_JOINER)) {
+        h = hashOf(h, joiner);
+      }
+
+      int cp = outputOf(action, ch, casing);
+      hashBeforeLast = h;
+      lastCp = cp;
+      h = hashOf(h, cp);
+    }
+    return h;
+  }
+
+  private static int hashOf(int h, int cp) {
+    if (Character.isBmpCodePoint(cp)) {
+      return 31 * h + cp;
+    }
+    return 31 * (31 * h + Character.highSurrogate(cp)) + Character.lowSurrogate(cp);
+  }
+
+  /**
+   * Compares the strings into which two input character sequences are converted, without creating
+   * them.
+   *
+   * <p>The result has the same sign as {@code convert(a).compareTo(convert(b))}, and is 0 if and
+   * only if the converted strings are equal. The conversions of both inputs are streamed side by
+   * side and compared char by char, so this method returns at the first different char and
+   * allocates no object.
+   *
+   * @param a The first input character sequence.
+   * @param b The second input character sequence.
+   * @return A negative integer, zero, or a positive integer as the conversion of {@code a} is less
+   *     than, equal to, or greater than the conversion of {@code b}.
+   */
+  public int compareConverted(CharSequence a, CharSequence b) {
+    int aEnd = a.length();
+    int bEnd = b.length();
+    long aCursor = 0;
+    long bCursor = 0;
+    int aLow = -1;
+    int bLow = -1;
+
+    while (true) {
+      int x;
+      if (aLow >= 0) {
+        x = aLow;
+        aLow = -1;
+      } else {
+        long r = nextOutput(a, aEnd, aCursor);
+        if (r == END_OF_OUTPUT) {
+          x = -1;
+        } else {
+          aCursor = r & CURSOR_MASK;
+          int cp = (int) (r >>> OUTPUT_SHIFT);
+          if (Character.isBmpCodePoint(cp)) {
+            x = cp;
+          } else {
+            x = Character.highSurrogate(cp);
+            aLow = Character.lowSurrogate(cp);
+          }
+        }
+      }
+
+      int y;
+      if (bLow >= 0) {
+        y = bLow;
+        bLow = -1;
+      } else {
+        long r = nextOutput(b, bEnd, bCursor);
+        if (r == END_OF_OUTPUT) {
+          y = -1;
+        } else {
+          bCursor = r & CURSOR_MASK;
+          int cp = (int) (r >>> OUTPUT_SHIFT);
+          if (Character.isBmpCodePoint(cp)) {
+            y = cp;
+          } else {
+            y = Character.highSurrogate(cp);
+            bLow = Character.lowSurrogate(cp);
+          }
+        }
+      }
+
+      if (x != y) {
+        if (x < 0) {
+          return -1;
+        } else if (y < 0) {
+          return 1;
+        }
+        return x - y;
+      }
+      if (x < 0) {
+        return 0;
+      }
+    }
+  }
+
+  // Returns the next code point of the conversion of the input and the cursor after it, packed in
+  // a long, or END_OF_OUTPUT at the end of the conversion. A cursor holds the index of the next
+  // char, the state of the segmentation and whether the joiner before the next word is already
+  // output, and is 0 at the start of the input.
+  //
+  // The conversion is produced without any backtracking: the last uppercase letter of an acronym
+  // which is followed by a lowercase letter is output as the head of the next word at once,
+  // instead of being replaced when the lowercase letter is read.
+  private long nextOutput(CharSequence input, int end, long cursor) {
+    int i = (int) cursor;
+    var flag = STATES[(int) (cursor >>> FLAG_SHIFT) & STATE_MASK];
+    boolean joinerDone = (cursor & JOINER_DONE) != 0;
+
+    while (i < end) {
+      int ch = input.charAt(i);
+      int next = i + 1;
+      if (Character.isHighSurrogate((char) ch) && next < end) {
+        char low = input.charAt(next);
+        if (Character.isLowSurrogate(low)) {
+          ch = Character.toCodePoint((char) ch, low);
+          next++;
+        }
+      }
+
+      int seg = segment(flag, ch);
+      var nextFlag = STATES[seg & STATE_MASK];
+      int action = seg >>> ACTION_SHIFT;
+      if (action == NONE) {
+        flag = nextFlag;
+        i = next;
+        continue;
+      }
+
+      boolean headOfWord = (action == HEAD_OF_WORD || action == KEPT_AFTER_JOINER);
+      int cp;
+      if (nextFlag == ChIs.NextOfContdUpper
+          && next < end
+          && Ascii.isLowerCase(input.charAt(next))) {
+        headOfWord = true;
+        cp = toCase(ch, casing.upperHeadOfWord);
+      } else {
+        cp = outputOf(action, ch, casing);
+      }
+
+      if (headOfWord && joiner != NO_JOINER && !joinerDone) {
+        return packOutput(joiner, i, flag, true);
+      }
+      return packOutput(cp, next, nextFlag, false);
+    }
+    return END_OF_OUTPUT;
+  }
+
+  private static long packOutput(int cp, int index, ChIs flag, boolean joinerDone) {
+    return ((long) cp << OUTPUT_SHIFT)
+        | (joinerDone ? JOINER_DONE : 0L)
+        | ((long) flag.ordinal() << FLAG_SHIFT)
+        | (index & 0xffffffffL);
+  }
+
+  // Returns the bit set of the case styles, at their ordinals, in which the input is already with
+  // the options of this converter. All the styles are checked in a single pass with the shared
+  // segmentation. The styles with joiners insert them at the same positions, so their outputs are
+  // compared at the same index of the input, and so are the styles without a joiner.
+  int detect(CharSequence input) {
+    int end = input.length();
+    int alive = (1 << ALL_STYLES.length) - 1;
+    int pending = 0;
+    int pos = 0;
+    int lastPos = 0;
+    int posN = 0;
+    int lastPosN = 0;
+    int prevCh = 0;
+
+    var flag = ChIs.FirstOfStr;
+    for (int i = 0; i < end; i++) {
+      int ch = input.charAt(i);
+      if (Character.isHighSurrogate((char) ch) && i + 1 < end) {
+        char low = input.charAt(i + 1);
+        if (Character.isLowSurrogate(low)) {
+          ch = Character.toCodePoint((char) ch, low);
+          i++;
+        }
+      }
+
+      int seg = segment(flag, ch);
+      flag = STATES[seg & STATE_MASK];
+
+      int action = seg >>> ACTION_SHIFT;
+      if (action != NONE) {
+        if (action == SPLIT_BEFORE_LAST) {
+          pos = lastPos;
+          posN = lastPosN;
+        } else {
+          alive &= ~pending;
+        }
+        pending = 0;
+
+        if (action == HEAD_OF_WORD || action == KEPT_AFTER_JOINER || action == SPLIT_BEFORE_LAST) {
+          int c = (pos < end) ? input.charAt(pos) : -1;
+          for (var style : ALL_STYLES) {
+            if (style.joiner != NO_JOINER && style.joiner != c) {
+              alive &= ~(1 << style.ordinal());
+            }
+          }
+          pos++;
+        }
+
+        if (action == SPLIT_BEFORE_LAST) {
+          for (var style : ALL_STYLES) {
+            int bit = 1 << style.ordinal();
+            if ((alive & bit) != 0) {
+              int prev = toCase(prevCh, style.casing.upperHeadOfWord);
+              int at = (style.joiner != NO_JOINER) ? pos : posN;
+              if (matchAt(input, at, end, prev) < 0) {
+                alive &= ~bit;
+              }
+            }
+          }
+          pos++;
+          posN++;
+        }
+
+        for (var style : ALL_STYLES) {
+          int bit = 1 << style.ordinal();
+          if ((alive & bit) != 0) {
+            int at = (style.joiner != NO_JOINER) ? pos : posN;
+            if (matchAt(input, at, end, outputOf(action, ch, style.casing)) < 0) {
+              pending |= bit;
+            }
+          }
+        }
+        lastPos = pos;
+        lastPosN = posN;
+        pos += Character.charCount(ch);
+        posN += Character.charCount(ch);
+
+        if (alive == 0) {
+          return 0;
+        }
+      }
+      prevCh = ch;
+    }
+
+    alive &= ~pending;
+    for (var style : ALL_STYLES) {
+      int at = (style.joiner != NO_JOINER) ? pos : posN;
+      if (at != end) {
+        alive &= ~(1 << style.ordinal());
+      }
+    }
+    return alive;
+  }
+
+  // Returns the code point which is output by the action for the input code point. For the split
+  // before the last, it is the code point after the replaced last one.
+  private static int outputOf(int action, int ch, Casing casing) {
+    return switch (action) {
+      case HEAD_OF_FIRST_WORD -> toCase(ch, casing.upperHeadOfFirstWord);
+      case HEAD_OF_WORD -> toCase(ch, casing.upperHeadOfWord);
+      case TAIL_OF_WORD, SPLIT_BEFORE_LAST -> toCase(ch, casing.upperTailOfWord);
+      default -> ch;
+    };
+  }
+
+  // Returns the index next to the code point if the input has it at the position, or -1 if not.
+  private static int matchAt(CharSequence input, int pos, int end, int cp) {
+    if (Character.isBmpCodePoint(cp)) {
+      return (pos < end && input.charAt(pos) == cp) ? pos + 1 : -1;
+    }
+    return (pos + 1 < end
+            && input.charAt(pos) == Character.highSurrogate(cp)
+            && input.charAt(pos + 1) == Character.lowSurrogate(cp))
+        ? pos + 2
+        : -1;
+  }
+
+  private ChIs step(ChIs flag, int ch, CodepointSink result) {
+    int seg = segment(flag, ch);
+    emit(seg >>> ACTION_SHIFT, ch, result, casing, joiner);
+    return STATES[seg & STATE_MASK];
+  }
+
+  // Determines the word segmentation of a code point, which does not depend on the casing and the
+  // joiner, and returns the action to emit it and the next state packed in an int. The class of an
+  // ASCII char is looked up from the table built for the options, and the action and the next state
+  // are looked up from the transition table by the current state and the class.
+  private int segment(ChIs flag, int ch) {
+    return segment(flag.ordinal(), ch);
+  }
+
+  private int segment(int state, int ch) {
+    int cls = (ch < 0x80) ? asciiClasses[ch] : markClassOf(ch);
+    return transitions[state * CLASS_COUNT + cls];
+  }
+
+  // Classifies a non-alphanumeric code point into a separator or a kept mark by the options.
+  private int markClassOf(int ch) {
+    if (sepChs != null) {
+      return sepChs.contains(ch) ? SEP_MARK : KEPT_MARK;
+    } else if (keptChs != null) {
+      return keptChs.contains(ch) ? KEPT_MARK : SEP_MARK;
+    }
+    return SEP_MARK;
+  }
+
+  private byte[] asciiClassesOf() {
+    if (sepChs == null && keptChs == null) {
+      return DEFAULT_ASCII_CLASSES;
+    }
+    var classes = DEFAULT_ASCII_CLASSES.clone();
+    for (int ch = 0; ch < 0x80; ch++) {
+      if (classes[ch] == SEP_MARK) {
+        classes[ch] = (byte) markClassOf(ch);
+      }
+    }
+    return classes;
+  }
+
+  // Returns the table of the maximum numbers of the chars of the joiners which are output around
+  // each ASCII char without replacing a separator: one joiner before an uppercase letter, and the
+  // specified number of joiners around a kept mark. A separator has the number of the chars by
+  // which the joiner replacing it can be longer than it.
+  private byte[] asciiJoinerBoundsOf(int markBound) {
+    var bounds = new byte[0x80];
+    for (int ch = 0; ch < 0x80; ch++) {
+      bounds[ch] =
+          (byte)
+              switch (asciiClasses[ch]) {
+                case UPPER_CASE -> joinerLength;
+                case KEPT_MARK -> markBound * joinerLength;
+                case SEP_MARK -> joinerLength - 1;
+                default -> 0;
+              };
+    }
+    return bounds;
+  }
+
+  private static byte[] defaultAsciiClasses() {
+    var classes = new byte[0x80];
+    for (int ch = 0; ch < 0x80; ch++) {
+      if (Ascii.isUpperCase(ch)) {
+        classes[ch] = UPPER_CASE;
+      } else if (Ascii.isLowerCase(ch)) {
+        classes[ch] = LOWER_CASE;
+      } else if (Ascii.isDigit(ch)) {
+        classes[ch] = KEPT_MARK;
+      } else {
+        classes[ch] = SEP_MARK;
+      }
+    }
+    return classes;
+  }
+
+  private static byte[] transitionsOf(
+      boolean separateBeforeNonAlphabets, boolean separateAfterNonAlphabets) {
+    var table = new byte[STATES.length * CLASS_COUNT];
+    for (var flag : STATES) {
+      for (int cls = 0; cls < CLASS_COUNT; cls++) {
+        table[flag.ordinal() * CLASS_COUNT + cls] =
+            (byte) rule(flag, cls, separateBeforeNonAlphabets, separateAfterNonAlphabets);
+      }
+    }
+    return table;
+  }
+
+  // The rules of the word segmentation, from which the transition tables are built.
+  private static int rule(
+      ChIs flag, int cls, boolean separateBeforeNonAlphabets, boolean separateAfterNonAlphabets) {
+    if (cls == UPPER_CASE) {
+      if (flag == ChIs.FirstOfStr) {
+        return pack(HEAD_OF_FIRST_WORD, ChIs.NextOfUpper);
+      } else if (flag == ChIs.NextOfUpper
+          || flag == ChIs.NextOfContdUpper
+          || (!separateAfterNonAlphabets && flag == ChIs.NextOfKeptMark)) {
+        return pack(TAIL_OF_WORD, ChIs.NextOfContdUpper);
+      } else {
+        return pack(HEAD_OF_WORD, ChIs.NextOfUpper);
+      }
+    } else if (cls == LOWER_CASE) {
+      if (flag == ChIs.FirstOfStr) {
+        return pack(HEAD_OF_FIRST_WORD, ChIs.Others);
+      } else if (flag == ChIs.NextOfContdUpper) {
+        return pack(SPLIT_BEFORE_LAST, ChIs.Others);
+      } else if (flag == ChIs.NextOfSepMark
+          || (separateAfterNonAlphabets && flag == ChIs.NextOfKeptMark)) {
+        return pack(HEAD_OF_WORD, ChIs.Others);
+      } else {
+        return pack(TAIL_OF_WORD, ChIs.Others);
+      }
+    } else if (cls == KEPT_MARK) {
+      if (separateBeforeNonAlphabets) {
+        if (flag == ChIs.FirstOfStr || flag == ChIs.NextOfKeptMark) {
+          return pack(KEPT, ChIs.NextOfKeptMark);
+        } else {
+          return pack(KEPT_AFTER_JOINER, ChIs.NextOfKeptMark);
+        }
+      } else {
+        if (flag != ChIs.NextOfSepMark) {
+          return pack(KEPT, ChIs.NextOfKeptMark);
+        } else {
+          return pack(KEPT_AFTER_JOINER, ChIs.NextOfKeptMark);
+        }
+      }
+    } else {
+      if (flag != ChIs.FirstOfStr) {
+        return pack(NONE, ChIs.NextOfSepMark);
+      }
+      return pack(NONE, flag);
+    }
+  }
+
+  private static int pack(int action, ChIs next) {
+    return (action << ACTION_SHIFT) | next.ordinal();
+  }
+
+  private static void emit(int action, int ch, CodepointSink result, Casing casing, int joiner) {
+    switch (action) {
+      case HEAD_OF_FIRST_WORD -> result.append(toCase(ch, casing.upperHeadOfFirstWord));
+      case HEAD_OF_WORD -> appendWithJoiner(result, joiner, toCase(ch, casing.upperHeadOfWord));
+      case TAIL_OF_WORD -> result.append(toCase(ch, casing.upperTailOfWord));
+      case SPLIT_BEFORE_LAST -> {
+        int prev = toCase(result.last(), casing.upperHeadOfWord);
+        if (joiner == NO_JOINER) {
+          result.replaceLast(prev, toCase(ch, casing.upperTailOfWord));
+        } else {
+          result.replaceLast(joiner, prev, toCase(ch, casing.upperTailOfWord));
+        }
+      }
+      case KEPT -> result.append(ch);
+      case KEPT_AFTER_JOINER -> appendWithJoiner(result, joiner, ch);
+      default -> {}
+    }
+  }
+
+  private static void appendWithJoiner(CodepointSink result, int joiner, int ch) {
+    if (joiner == NO_JOINER) {
+      result.append(ch);
+    } else {
+      result.append(joiner, ch);
+    }
+  }
+
+  private static int toCase(int ch, boolean upper) {
+    if (upper) {
+      return Ascii.isLowerCase(ch) ? Ascii.toUpperCase(ch) : ch;
+    } else {
+      return Ascii.isUpperCase(ch) ? Ascii.toLowerCase(ch) : ch;
+    }
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * CaseStyle enum.
+ * Copyright (C) 2026 Takayuki Sato. All Rights Reserved.
+ */
+package com.github.sttk.stringcase;
+
+/**
+ * Is the enum that represents the case styles which {@link StringCase} converts strings to.
+ *
+ * @since 1.1
+ */
+public enum CaseStyle {
+  /** Ada_Case, for example {@code Foo_Bar_Baz}. */
+  ADA(CaseConverter.Casing.CAPITAL, 0x5f),
+
+  /** camelCase, for example {@code fooBarBaz}. */
+  CAMEL(CaseConverter.Casing.CAMEL, CaseConverter.NO_JOINER),
+
+  /** COBOL-CASE, for example {@code FOO-BAR-BAZ}. */
+  COBOL(CaseConverter.Casing.UPPER, 0x2d),
+
+  /** kebab-case, for example {@code foo-bar-baz}. */
+  KEBAB(CaseConverter.Casing.LOWER, 0x2d),
+
+  /** MACRO_CASE, for example {@code FOO_BAR_BAZ}. */
+  MACRO(CaseConverter.Casing.UPPER, 0x5f),
+
+  /** PascalCase, for example {@code FooBarBaz}. */
+  PASCAL(CaseConverter.Casing.CAPITAL, CaseConverter.NO_JOINER),
+
+  /** snake_case, for example {@code foo_bar_baz}. */
+  SNAKE(CaseConverter.Casing.LOWER, 0x5f),
+
+  /** Title Case, for example {@code Foo Bar Baz}. */
+  TITLE(CaseConverter.Casing.CAPITAL, 0x20),
+
+  /** Train-Case, for example {@code Foo-Bar-Baz}. */
+  TRAIN(CaseConverter.Casing.CAPITAL, 0x2d);
+
+  final CaseConverter.Casing casing;
+  final int joiner;
+
+  CaseStyle(CaseConverter.Casing casing, int joiner) {
+    this.casing = casing;
+    this.joiner = joiner;
+  }
+}
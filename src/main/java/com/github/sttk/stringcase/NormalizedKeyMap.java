@@ -0,0 +1,340 @@
+/*
+ * NormalizedKeyMap class.
+ * Copyright (C) 2026 Takayuki Sato. All Rights Reserved.
+ */
+package com.github.sttk.stringcase;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Is the {@link Map} whose keys are compared by the strings into which they are converted with a
+ * {@link CaseConverter}.
+ *
+ * <p>For example, in a map created with a converter of snake case, the keys {@code "userId"},
+ * {@code "user_id"} and {@code "USER-ID"} are the same key, because all of them are converted to
+ * {@code "user_id"}. A key is stored as it is given at its first put, and is not converted.
+ *
+ * <p>The lookups never create the converted strings: the hash code of a converted key is computed
+ * during a scan of the key, and two keys are compared by streaming their conversions side by side.
+ * So {@link #get(Object)}, {@link #containsKey(Object)} and {@link #put(String, Object)} of an
+ * existing key allocate no object. Any {@link CharSequence} can be used as a key to look up.
+ *
+ * <p>This map does not permit {@code null} keys, but permits {@code null} values. This map is not
+ * synchronized.
+ *
+ * @param <V> The type of the mapped values.
+ * @since 1.1
+ */
+public final class NormalizedKeyMap<V> extends AbstractMap<String, V> {
+
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private final CaseConverter converter;
+  private Node<V>[] table;
+  private int size;
+  private int modCount;
+  private Set<Map.Entry<String, V>> entrySet;
+
+  /**
+   * The constructor which takes the converter by which the keys are compared.
+   *
+   * @param converter The converter by which the keys are compared.
+   */
+  public NormalizedKeyMap(CaseConverter converter) {
+    this(converter, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * The constructor which takes the converter by which the keys are compared, and the expected
+   * number of the entries.
+   *
+   * @param converter The converter by which the keys are compared.
+   * @param expectedSize The expected number of the entries.
+   * @throws IllegalArgumentException If {@code expectedSize} is negative.
+   */
+  public NormalizedKeyMap(CaseConverter converter, int expectedSize) {
+    if (expectedSize < 0) {
+      throw new IllegalArgumentException("The expected size must not be negative: " + expectedSize);
+    }
+    this.converter = Objects.requireNonNull(converter);
+    this.table = newTable(tableSizeFor(expectedSize));
+  }
+
+  /**
+   * Returns the converter by which the keys of this map are compared.
+   *
+   * @return The converter.
+   */
+  public CaseConverter converter() {
+    return converter;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return findNode(key) != null;
+  }
+
+  @Override
+  public V get(Object key) {
+    var node = findNode(key);
+    return (node != null) ? node.value : null;
+  }
+
+  @Override
+  public V getOrDefault(Object key, V defaultValue) {
+    var node = findNode(key);
+    return (node != null) ? node.value : defaultValue;
+  }
+
+  @Override
+  public V put(String key, V value) {
+    Objects.requireNonNull(key);
+    int hash = converter.convertedHashCode(key);
+    int index = hash & (table.length - 1);
+    for (var node = table[index]; node != null; node = node.next) {
+      if (node.hash == hash && converter.compareConverted(node.key, key) == 0) {
+        var old = node.value;
+        node.value = value;
+        return old;
+      }
+    }
+
+    table[index] = new Node<>(hash, key, value, table[index]);
+    size++;
+    modCount++;
+    if (size > table.length - (table.length >>> 2)) {
+      resize();
+    }
+    return null;
+  }
+
+  @Override
+  public V remove(Object key) {
+    if (!(key instanceof CharSequence cs)) {
+      return null;
+    }
+    int hash = converter.convertedHashCode(cs);
+    int index = hash & (table.length - 1);
+    Node<V> prev = null;
+    for (var node = table[index]; node != null; prev = node, node = node.next) {
+      if (node.hash == hash && converter.compareConverted(node.key, cs) == 0) {
+        unlink(index, prev, node);
+        return node.value;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public void clear() {
+    if (size > 0) {
+      Arrays.fill(table, null);
+      size = 0;
+      modCount++;
+    }
+  }
+
+  @Override
+  public Set<Map.Entry<String, V>> entrySet() {
+    var es = entrySet;
+    if (es == null) {
+      es = new EntrySet();
+      entrySet = es;
+    }
+    return es;
+  }
+
+  private Node<V> findNode(Object key) {
+    if (!(key instanceof CharSequence cs)) {
+      return null;
+    }
+    int hash = converter.convertedHashCode(cs);
+    for (var node = table[hash & (table.length - 1)]; node != null; node = node.next) {
+      if (node.hash == hash && converter.compareConverted(node.key, cs) == 0) {
+        return node;
+      }
+    }
+    return null;
+  }
+
+  private void unlink(int index, Node<V> prev, Node<V> node) {
+    if (prev == null) {
+      table[index] = node.next;
+    } else {
+      prev.next = node.next;
+    }
+    size--;
+    modCount++;
+  }
+
+  private void resize() {
+    var oldTable = table;
+    var newTable = NormalizedKeyMap.<V>newTable(oldTable.length << 1);
+    int mask = newTable.length - 1;
+    for (var head : oldTable) {
+      for (var node = head; node != null; ) {
+        var next = node.next;
+        int index = node.hash & mask;
+        node.next = newTable[index];
+        newTable[index] = node;
+        node = next;
+      }
+    }
+    table = newTable;
+  }
+
+  private static int tableSizeFor(int expectedSize) {
+    long n = Math.max(DEFAULT_CAPACITY, (long) expectedSize * 4 / 3 + 1);
+    return (int) Math.min(1 << 30, Long.highestOneBit(n - 1) << 1);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <V> Node<V>[] newTable(int length) {
+    return (Node<V>[]) new Node<?>[length];
+  }
+
+  private static final class Node<V> implements Map.Entry<String, V> {
+    final int hash;
+    final String key;
+    V value;
+    Node<V> next;
+
+    Node(int hash, String key, V value, Node<V> next) {
+      this.hash = hash;
+      this.key = key;
+      this.value = value;
+      this.next = next;
+    }
+
+    @Override
+    public String getKey() {
+      return key;
+    }
+
+    @Override
+    public V getValue() {
+      return value;
+    }
+
+    @Override
+    public V setValue(V value) {
+      var old = this.value;
+      this.value = value;
+      return old;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return (o instanceof Map.Entry<?, ?> e)
+          && key.equals(e.getKey())
+          && Objects.equals(value, e.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      return key.hashCode() ^ Objects.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+      return key + "=" + value;
+    }
+  }
+
+  private final class EntrySet extends AbstractSet<Map.Entry<String, V>> {
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public void clear() {
+      NormalizedKeyMap.this.clear();
+    }
+
+    @Override
+    public Iterator<Map.Entry<String, V>> iterator() {
+      return new EntryIterator();
+    }
+  }
+
+  private final class EntryIterator implements Iterator<Map.Entry<String, V>> {
+    private int index;
+    private Node<V> next;
+    private Node<V> current;
+    private int expectedModCount = modCount;
+
+    EntryIterator() {
+      advanceFrom(0);
+    }
+
+    private void advanceFrom(int start) {
+      var t = table;
+      for (int i = start; i < t.length; i++) {
+        if (t[i] != null) {
+          index = i;
+          next = t[i];
+          return;
+        }
+      }
+      index = t.length;
+      next = null;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next != null;
+    }
+
+    @Override
+    public Map.Entry<String, V> next() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      var node = next;
+      if (node == null) {
+        throw new NoSuchElementException();
+      }
+      current = node;
+      if (node.next != null) {
+        next = node.next;
+      } else {
+        advanceFrom(index + 1);
+      }
+      return node;
+    }
+
+    @Override
+    public void remove() {
+      if (current == null) {
+        throw new IllegalStateException();
+      }
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      int i = current.hash & (table.length - 1);
+      Node<V> prev = null;
+      for (var node = table[i]; node != null; prev = node, node = node.next) {
+        if (node == current) {
+          unlink(i, prev, node);
+          break;
+        }
+      }
+      current = null;
+      expectedModCount = modCount;
+    }
+  }
+}
@@ -4,6 +4,8 @@
  */
 package com.github.sttk.stringcase;
 
+import com.github.sttk.stringcase.codepoint.CodepointSet;
+
 /**
  * Is a class that represents options which specifies the ways of case conversion of strings.
  *
@@ -34,6 +36,16 @@ public class Options {
    */
   public final String keep;
 
+  private static final int STYLE_COUNT = CaseStyle.values().length;
+  private static final int CASING_COUNT = CaseConverter.Casing.values().length;
+  private static final int ASCII_JOINER_COUNT = 0x80;
+
+  private CodepointSet separatorSet;
+  private CodepointSet keptSet;
+  private CaseConverter[] converters;
+  private CaseConverter[] asciiJoinerConverters;
+  private CaseConverter[] lastJoinerConverters;
+
   /**
    * The constructor which takes the arguments that specifies the ways of case conversion.
    *
@@ -56,4 +68,77 @@ public class Options {
     this.separators = separators;
     this.keep = keep;
   }
+
+  // Returns the set of the separators, which is parsed at the first call and reused by the
+  // converters created with these options afterwards, or null if no separator is specified.
+  // The set is immutable, so threads racing on the first call only parse it more than once.
+  CodepointSet separatorSet() {
+    var set = separatorSet;
+    if (set == null && separators != null && !separators.isEmpty()) {
+      set = new CodepointSet(separators);
+      separatorSet = set;
+    }
+    return set;
+  }
+
+  // Returns the set of the kept characters in the same way as separatorSet().
+  CodepointSet keptSet() {
+    var set = keptSet;
+    if (set == null && keep != null && !keep.isEmpty()) {
+      set = new CodepointSet(keep);
+      keptSet = set;
+    }
+    return set;
+  }
+
+  // Returns the converter to the case style with these options, which is compiled at the first
+  // call and returned by the later calls, so that the static methods of StringCase which take
+  // options allocate nothing once the options have been used. Like the sets, a converter is
+  // immutable, so threads racing on the first call only compile it more than once.
+  CaseConverter converterOf(CaseStyle style) {
+    var array = converters;
+    if (array == null) {
+      array = new CaseConverter[STYLE_COUNT];
+      converters = array;
+    }
+    var converter = array[style.ordinal()];
+    if (converter == null) {
+      converter = new CaseConverter(style, this);
+      array[style.ordinal()] = converter;
+    }
+    return converter;
+  }
+
+  // Returns the converter with the casing and the joiner with these options in the same way as
+  // converterOf(CaseStyle), so that upperize, lowerize and capitalize allocate nothing once the
+  // options have been used. A converter with an ASCII joiner is kept for each joiner, and one with
+  // another joiner is kept only until a converter with another non-ASCII joiner is compiled.
+  CaseConverter converterOf(CaseConverter.Casing casing, int joiner) {
+    if (joiner >= 0 && joiner < ASCII_JOINER_COUNT) {
+      var array = asciiJoinerConverters;
+      if (array == null) {
+        array = new CaseConverter[CASING_COUNT * ASCII_JOINER_COUNT];
+        asciiJoinerConverters = array;
+      }
+      int index = casing.ordinal() * ASCII_JOINER_COUNT + joiner;
+      var converter = array[index];
+      if (converter == null) {
+        converter = new CaseConverter(casing, joiner, this);
+        array[index] = converter;
+      }
+      return converter;
+    }
+
+    var array = lastJoinerConverters;
+    if (array == null) {
+      array = new CaseConverter[CASING_COUNT];
+      lastJoinerConverters = array;
+    }
+    var converter = array[casing.ordinal()];
+    if (converter == null || converter.joiner != joiner) {
+      converter = new CaseConverter(casing, joiner, this);
+      array[casing.ordinal()] = converter;
+    }
+    return converter;
+  }
 }
@@ -4,9 +4,10 @@
  */
 package com.github.sttk.stringcase;
 
-import com.github.sttk.stringcase.codepoint.Ascii;
-import com.github.sttk.stringcase.codepoint.CodepointBuffer;
-import java.util.Arrays;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Is the class that provides the static methods to convert a string to following cases.
@@ -28,13 +29,105 @@ import java.util.Arrays;
 public final class StringCase {
   private StringCase() {}
 
-  private enum ChIs {
-    FirstOfStr,
-    NextOfUpper,
-    NextOfContdUpper,
-    NextOfSepMark,
-    NextOfKeptMark,
-    Others,
+  private static final Options DEFAULT_OPTIONS = new Options(false, true, null, null);
+
+  private static final CaseConverter[] DEFAULT_CONVERTERS =
+      new CaseConverter[CaseStyle.values().length];
+
+  private static final CaseStyle[] DETECTION_ORDER = {
+    CaseStyle.SNAKE,
+    CaseStyle.CAMEL,
+    CaseStyle.KEBAB,
+    CaseStyle.MACRO,
+    CaseStyle.PASCAL,
+    CaseStyle.COBOL,
+    CaseStyle.TRAIN,
+    CaseStyle.ADA,
+    CaseStyle.TITLE,
+  };
+
+  static {
+    for (var style : CaseStyle.values()) {
+      DEFAULT_CONVERTERS[style.ordinal()] = new CaseConverter(style, DEFAULT_OPTIONS);
+    }
+  }
+
+  /**
+   * Creates a {@link CaseConverter} which converts strings to the specified case style with the
+   * specified options.
+   *
+   * <p>The separators and the kept characters in the options are parsed only once here, so the
+   * returned converter is suitable for converting many strings with the same options. The converter
+   * is compiled at the first call for the options object and the case style, and the same instance
+   * is returned afterwards. The returned converter is immutable and thread-safe.
+   *
+   * @param style The case style to which strings are converted.
+   * @param opts The options which specifies the ways of case conversion.
+   * @return A {@link CaseConverter} object.
+   * @since 1.1
+   */
+  public static CaseConverter compile(CaseStyle style, Options opts) {
+    return opts.converterOf(style);
+  }
+
+  /**
+   * Gets a {@link CaseConverter} which converts strings to the specified case style.
+   *
+   * <p>The returned converter treats the end of a sequence of non-alphabetical characters as a word
+   * boundary, but not the beginning. Because converters with these default options are created in
+   * advance, this method returns the same instance for the same case style.
+   *
+   * @param style The case style to which strings are converted.
+   * @return A {@link CaseConverter} object.
+   * @since 1.1
+   */
+  public static CaseConverter compile(CaseStyle style) {
+    return DEFAULT_CONVERTERS[style.ordinal()];
+  }
+
+  /**
+   * Gets a {@link CaseConverter} which works as same as {@link #upperize(String, int, Options)}.
+   *
+   * <p>The converter is compiled at the first call for the options object and the joiner, and the
+   * same instance is returned afterwards.
+   *
+   * @param joiner A joiner code point.
+   * @param opts The {@link Options} object which holds the fields to customize separation rules.
+   * @return A {@link CaseConverter} object.
+   * @since 1.1
+   */
+  public static CaseConverter compileUpperize(int joiner, Options opts) {
+    return opts.converterOf(CaseConverter.Casing.UPPER, joiner);
+  }
+
+  /**
+   * Gets a {@link CaseConverter} which works as same as {@link #lowerize(String, int, Options)}.
+   *
+   * <p>The converter is compiled at the first call for the options object and the joiner, and the
+   * same instance is returned afterwards.
+   *
+   * @param joiner A joiner code point.
+   * @param opts The {@link Options} object which holds the fields to customize separation rules.
+   * @return A {@link CaseConverter} object.
+   * @since 1.1
+   */
+  public static CaseConverter compileLowerize(int joiner, Options opts) {
+    return opts.converterOf(CaseConverter.Casing.LOWER, joiner);
+  }
+
+  /**
+   * Gets a {@link CaseConverter} which works as same as {@link #capitalize(String, int, Options)}.
+   *
+   * <p>The converter is compiled at the first call for the options object and the joiner, and the
+   * same instance is returned afterwards.
+   *
+   * @param joiner A joiner code point.
+   * @param opts The {@link Options} object which holds the fields to customize separation rules.
+   * @return A {@link CaseConverter} object.
+   * @since 1.1
+   */
+  public static CaseConverter compileCapitalize(int joiner, Options opts) {
+    return opts.converterOf(CaseConverter.Casing.CAPITAL, joiner);
   }
 
   /**
@@ -108,85 +201,105 @@ public final class StringCase {
    * @return The converted string.
    */
   public static String upperize(String input, int joiner, Options opts) {
-    var result = new CodepointBuffer(input.length());
+    return compileUpperize(joiner, opts).convert(input);
+  }
 
-    var flag = ChIs.FirstOfStr;
+  /**
+   * Converts the specified range of the input character sequence to uppercase-based words joined by
+   * the specified joiner {@code char} as same as {@link #upperize(String, char, Options)}.
+   *
+   * @param input The input character sequence.
+   * @param start The start index of the range, inclusive.
+   * @param end The end index of the range, exclusive.
+   * @param joiner A joiner {@code char}.
+   * @param opts The {@link Options} object which holds the fields to customize separation rules.
+   * @return The converted string.
+   * @throws IndexOutOfBoundsException If {@code start} or {@code end} is out of the input.
+   * @since 1.1
+   */
+  public static String upperize(CharSequence input, int start, int end, char joiner, Options opts) {
+    return upperize(input, start, end, (int) joiner, opts);
+  }
 
-    int[] sepChs = null;
-    if (opts.separators != null && !opts.separators.isEmpty()) {
-      sepChs = opts.separators.codePoints().toArray();
-      Arrays.sort(sepChs);
-    }
+  /**
+   * Converts the specified range of the input character sequence to uppercase-based words joined by
+   * the specified joiner code point as same as {@link #upperize(String, int, Options)}.
+   *
+   * @param input The input character sequence.
+   * @param start The start index of the range, inclusive.
+   * @param end The end index of the range, exclusive.
+   * @param joiner A joiner code point.
+   * @param opts The {@link Options} object which holds the fields to customize separation rules.
+   * @return The converted string.
+   * @throws IndexOutOfBoundsException If {@code start} or {@code end} is out of the input.
+   * @since 1.1
+   */
+  public static String upperize(CharSequence input, int start, int end, int joiner, Options opts) {
+    return compileUpperize(joiner, opts).convert(input, start, end);
+  }
 
-    int[] keptChs = null;
-    if (opts.keep != null && !opts.keep.isEmpty()) {
-      keptChs = opts.keep.codePoints().toArray();
-      Arrays.sort(keptChs);
-    }
+  /**
+   * Converts the input character sequence to uppercase-based words joined by the specified joiner
+   * {@code char} as same as {@link #upperize(String, char, Options)}, and appends the result to the
+   * specified {@link StringBuilder}.
+   *
+   * @param input The input character sequence.
+   * @param joiner A joiner {@code char}.
+   * @param opts The {@link Options} object which holds the fields to customize separation rules.
+   * @param output The {@link StringBuilder} to which the converted string is appended.
+   * @since 1.1
+   */
+  public static void upperize(CharSequence input, char joiner, Options opts, StringBuilder output) {
+    upperize(input, (int) joiner, opts, output);
+  }
 
-    for (int ch : input.codePoints().toArray()) {
-      if (Ascii.isUpperCase(ch)) {
-        if (flag == ChIs.FirstOfStr) {
-          result.append(ch);
-          flag = ChIs.NextOfUpper;
-        } else if (flag == ChIs.NextOfUpper
-            || flag == ChIs.NextOfContdUpper
-            || (!opts.separateAfterNonAlphabets && flag == ChIs.NextOfKeptMark)) {
-          result.append(ch);
-          flag = ChIs.NextOfContdUpper;
-        } else {
-          result.append(joiner, ch);
-          flag = ChIs.NextOfUpper;
-        }
-      } else if (Ascii.isLowerCase(ch)) {
-        if (flag == ChIs.NextOfContdUpper) {
-          int prev = result.last();
-          result.replaceLast(joiner, prev, Ascii.toUpperCase(ch));
-        } else if (flag == ChIs.NextOfSepMark
-            || (opts.separateAfterNonAlphabets && flag == ChIs.NextOfKeptMark)) {
-          result.append(joiner, Ascii.toUpperCase(ch));
-        } else {
-          result.append(Ascii.toUpperCase(ch));
-        }
-        flag = ChIs.Others;
-      } else {
-        var isKeptChar = false;
-        if (Ascii.isDigit(ch)) {
-          isKeptChar = true;
-        } else if (sepChs != null) {
-          if (Arrays.binarySearch(sepChs, ch) < 0) {
-            isKeptChar = true;
-          }
-        } else if (keptChs != null) {
-          if (Arrays.binarySearch(keptChs, ch) >= 0) {
-            isKeptChar = true;
-          }
-        }
+  /**
+   * Converts the input character sequence to uppercase-based words joined by the specified joiner
+   * {@code char} as same as {@link #upperize(String, char, Options)}, and appends the result to the
+   * specified {@link Appendable}.
+   *
+   * @param input The input character sequence.
+   * @param joiner A joiner {@code char}.
+   * @param opts The {@link Options} object which holds the fields to customize separation rules.
+   * @param output The {@link Appendable} to which the converted string is appended.
+   * @throws IOException If an I/O error occurs on the output.
+   * @since 1.1
+   */
+  public static void upperize(CharSequence input, char joiner, Options opts, Appendable output)
+      throws IOException {
+    upperize(input, (int) joiner, opts, output);
+  }
 
-        if (isKeptChar) {
-          if (opts.separateBeforeNonAlphabets) {
-            if (flag == ChIs.FirstOfStr || flag == ChIs.NextOfKeptMark) {
-              result.append(ch);
-            } else {
-              result.append(joiner, ch);
-            }
-          } else {
-            if (flag != ChIs.NextOfSepMark) {
-              result.append(ch);
-            } else {
-              result.append(joiner, ch);
-            }
-          }
-          flag = ChIs.NextOfKeptMark;
-        } else {
-          if (flag != ChIs.FirstOfStr) {
-            flag = ChIs.NextOfSepMark;
-          }
-        }
-      }
-    }
+  /**
+   * Converts the input character sequence to uppercase-based words joined by the specified joiner
+   * code point as same as {@link #upperize(String, int, Options)}, and appends the result to the
+   * specified {@link StringBuilder}.
+   *
+   * @param input The input character sequence.
+   * @param joiner A joiner code point.
+   * @param opts The {@link Options} object which holds the fields to customize separation rules.
+   * @param output The {@link StringBuilder} to which the converted string is appended.
+   * @since 1.1
+   */
+  public static void upperize(CharSequence input, int joiner, Options opts, StringBuilder output) {
+    compileUpperize(joiner, opts).convert(input, output);
+  }
 
-    return result.toString();
+  /**
+   * Converts the input character sequence to uppercase-based words joined by the specified joiner
+   * code point as same as {@link #upperize(String, int, Options)}, and appends the result to the
+   * specified {@link Appendable}.
+   *
+   * @param input The input character sequence.
+   * @param joiner A joiner code point.
+   * @param opts The {@link Options} object which holds the fields to customize separation rules.
+   * @param output The {@link Appendable} to which the converted string is appended.
+   * @throws IOException If an I/O error occurs on the output.
+   * @since 1.1
+   */
+  public static void upperize(CharSequence input, int joiner, Options opts, Appendable output)
+      throws IOException {
+    compileUpperize(joiner, opts).convert(input, output);
   }
 
   /**
@@ -260,85 +373,105 @@ public final class StringCase {
    * @return The converted string.
    */
   public static String lowerize(String input, int joiner, Options opts) {
-    var result = new CodepointBuffer(input.length());
+    return compileLowerize(joiner, opts).convert(input);
+  }
 
-    var flag = ChIs.FirstOfStr;
+  /**
+   * Converts the specified range of the input character sequence to lowercase-based words joined by
+   * the specified joiner {@code char} as same as {@link #lowerize(String, char, Options)}.
+   *
+   * @param input The input character sequence.
+   * @param start The start index of the range, inclusive.
+   * @param end The end index of the range, exclusive.
+   * @param joiner A joiner {@code char}.
+   * @param opts The {@link Options} object which holds the fields to customize separation rules.
+   * @return The converted string.
+   * @throws IndexOutOfBoundsException If {@code start} or {@code end} is out of the input.
+   * @since 1.1
+   */
+  public static String lowerize(CharSequence input, int start, int end, char joiner, Options opts) {
+    return lowerize(input, start, end, (int) joiner, opts);
+  }
 
-    int[] sepChs = null;
-    if (opts.separators != null && !opts.separators.isEmpty()) {
-      sepChs = opts.separators.codePoints().toArray();
-      Arrays.sort(sepChs);
-    }
+  /**
+   * Converts the specified range of the input character sequence to lowercase-based words joined by
+   * the specified joiner code point as same as {@link #lowerize(String, int, Options)}.
+   *
+   * @param input The input character sequence.
+   * @param start The start index of the range, inclusive.
+   * @param end The end index of the range, exclusive.
+   * @param joiner A joiner code point.
+   * @param opts The {@link Options} object which holds the fields to customize separation rules.
+   * @return The converted string.
+   * @throws IndexOutOfBoundsException If {@code start} or {@code end} is out of the input.
+   * @since 1.1
+   */
+  public static String lowerize(CharSequence input, int start, int end, int joiner, Options opts) {
+    return compileLowerize(joiner, opts).convert(input, start, end);
+  }
 
-    int[] keptChs = null;
-    if (opts.keep != null && !opts.keep.isEmpty()) {
-      keptChs = opts.keep.codePoints().toArray();
-      Arrays.sort(keptChs);
-    }
+  /**
+   * Converts the input character sequence to lowercase-based words joined by the specified joiner
+   * {@code char} as same as {@link #lowerize(String, char, Options)}, and appends the result to the
+   * specified {@link StringBuilder}.
+   *
+   * @param input The input character sequence.
+   * @param joiner A joiner {@code char}.
+   * @param opts The {@link Options} object which holds the fields to customize separation rules.
+   * @param output The {@link StringBuilder} to which the converted string is appended.
+   * @since 1.1
+   */
+  public static void lowerize(CharSequence input, char joiner, Options opts, StringBuilder output) {
+    lowerize(input, (int) joiner, opts, output);
+  }
 
-    for (int ch : input.codePoints().toArray()) {
-      if (Ascii.isUpperCase(ch)) {
-        if (flag == ChIs.FirstOfStr) {
-          result.append(Ascii.toLowerCase(ch));
-          flag = ChIs.NextOfUpper;
-        } else if (flag == ChIs.NextOfUpper
-            || flag == ChIs.NextOfContdUpper
-            || (!opts.separateAfterNonAlphabets && flag == ChIs.NextOfKeptMark)) {
-          result.append(Ascii.toLowerCase(ch));
-          flag = ChIs.NextOfContdUpper;
-        } else {
-          result.append(joiner, Ascii.toLowerCase(ch));
-          flag = ChIs.NextOfUpper;
-        }
-      } else if (Ascii.isLowerCase(ch)) {
-        if (flag == ChIs.NextOfContdUpper) {
-          int prev = result.last();
-          result.replaceLast(joiner, prev, ch);
-        } else if (flag == ChIs.NextOfSepMark
-            || (opts.separateAfterNonAlphabets && flag == ChIs.NextOfKeptMark)) {
-          result.append(joiner, ch);
-        } else {
-          result.append(ch);
-        }
-        flag = ChIs.Others;
-      } else {
-        var isKeptChar = false;
-        if (Ascii.isDigit(ch)) {
-          isKeptChar = true;
-        } else if (sepChs != null) {
-          if (Arrays.binarySearch(sepChs, ch) < 0) {
-            isKeptChar = true;
-          }
-        } else if (keptChs != null) {
-          if (Arrays.binarySearch(keptChs, ch) >= 0) {
-            isKeptChar = true;
-          }
-        }
+  /**
+   * Converts the input character sequence to lowercase-based words joined by the specified joiner
+   * {@code char} as same as {@link #lowerize(String, char, Options)}, and appends the result to the
+   * specified {@link Appendable}.
+   *
+   * @param input The input character sequence.
+   * @param joiner A joiner {@code char}.
+   * @param opts The {@link Options} object which holds the fields to customize separation rules.
+   * @param output The {@link Appendable} to which the converted string is appended.
+   * @throws IOException If an I/O error occurs on the output.
+   * @since 1.1
+   */
+  public static void lowerize(CharSequence input, char joiner, Options opts, Appendable output)
+      throws IOException {
+    lowerize(input, (int) joiner, opts, output);
+  }
 
-        if (isKeptChar) {
-          if (opts.separateBeforeNonAlphabets) {
-            if (flag == ChIs.FirstOfStr || flag == ChIs.NextOfKeptMark) {
-              result.append(ch);
-            } else {
-              result.append(joiner, ch);
-            }
-          } else {
-            if (flag != ChIs.NextOfSepMark) {
-              result.append(ch);
-            } else {
-              result.append(joiner, ch);
-            }
-          }
-          flag = ChIs.NextOfKeptMark;
-        } else {
-          if (flag != ChIs.FirstOfStr) {
-            flag = ChIs.NextOfSepMark;
-          }
-        }
-      }
-    }
+  /**
+   * Converts the input character sequence to lowercase-based words joined by the specified joiner
+   * code point as same as {@link #lowerize(String, int, Options)}, and appends the result to the
+   * specified {@link StringBuilder}.
+   *
+   * @param input The input character sequence.
+   * @param joiner A joiner code point.
+   * @param opts The {@link Options} object which holds the fields to customize separation rules.
+   * @param output The {@link StringBuilder} to which the converted string is appended.
+   * @since 1.1
+   */
+  public static void lowerize(CharSequence input, int joiner, Options opts, StringBuilder output) {
+    compileLowerize(joiner, opts).convert(input, output);
+  }
 
-    return result.toString();
+  /**
+   * Converts the input character sequence to lowercase-based words joined by the specified joiner
+   * code point as same as {@link #lowerize(String, int, Options)}, and appends the result to the
+   * specified {@link Appendable}.
+   *
+   * @param input The input character sequence.
+   * @param joiner A joiner code point.
+   * @param opts The {@link Options} object which holds the fields to customize separation rules.
+   * @param output The {@link Appendable} to which the converted string is appended.
+   * @throws IOException If an I/O error occurs on the output.
+   * @since 1.1
+   */
+  public static void lowerize(CharSequence input, int joiner, Options opts, Appendable output)
+      throws IOException {
+    compileLowerize(joiner, opts).convert(input, output);
   }
 
   /**
@@ -412,90 +545,109 @@ public final class StringCase {
    * @return The converted string.
    */
   public static String capitalize(String input, int joiner, Options opts) {
-    var result = new CodepointBuffer(input.length());
+    return compileCapitalize(joiner, opts).convert(input);
+  }
 
-    var flag = ChIs.FirstOfStr;
+  /**
+   * Converts the specified range of the input character sequence to capitalized words joined by the
+   * specified joiner {@code char} as same as {@link #capitalize(String, char, Options)}.
+   *
+   * @param input The input character sequence.
+   * @param start The start index of the range, inclusive.
+   * @param end The end index of the range, exclusive.
+   * @param joiner A joiner {@code char}.
+   * @param opts The {@link Options} object which holds the fields to customize separation rules.
+   * @return The converted string.
+   * @throws IndexOutOfBoundsException If {@code start} or {@code end} is out of the input.
+   * @since 1.1
+   */
+  public static String capitalize(
+      CharSequence input, int start, int end, char joiner, Options opts) {
+    return capitalize(input, start, end, (int) joiner, opts);
+  }
 
-    int[] sepChs = null;
-    if (opts.separators != null && !opts.separators.isEmpty()) {
-      sepChs = opts.separators.codePoints().toArray();
-      Arrays.sort(sepChs);
-    }
+  /**
+   * Converts the specified range of the input character sequence to capitalized words joined by the
+   * specified joiner code point as same as {@link #capitalize(String, int, Options)}.
+   *
+   * @param input The input character sequence.
+   * @param start The start index of the range, inclusive.
+   * @param end The end index of the range, exclusive.
+   * @param joiner A joiner code point.
+   * @param opts The {@link Options} object which holds the fields to customize separation rules.
+   * @return The converted string.
+   * @throws IndexOutOfBoundsException If {@code start} or {@code end} is out of the input.
+   * @since 1.1
+   */
+  public static String capitalize(
+      CharSequence input, int start, int end, int joiner, Options opts) {
+    return compileCapitalize(joiner, opts).convert(input, start, end);
+  }
 
-    int[] keptChs = null;
-    if (opts.keep != null && !opts.keep.isEmpty()) {
-      keptChs = opts.keep.codePoints().toArray();
-      Arrays.sort(keptChs);
-    }
+  /**
+   * Converts the input character sequence to capitalized words joined by the specified joiner
+   * {@code char} as same as {@link #capitalize(String, char, Options)}, and appends the result to
+   * the specified {@link StringBuilder}.
+   *
+   * @param input The input character sequence.
+   * @param joiner A joiner {@code char}.
+   * @param opts The {@link Options} object which holds the fields to customize separation rules.
+   * @param output The {@link StringBuilder} to which the converted string is appended.
+   * @since 1.1
+   */
+  public static void capitalize(
+      CharSequence input, char joiner, Options opts, StringBuilder output) {
+    capitalize(input, (int) joiner, opts, output);
+  }
 
-    for (int ch : input.codePoints().toArray()) {
-      if (Ascii.isUpperCase(ch)) {
-        if (flag == ChIs.FirstOfStr) {
-          result.append(ch);
-          flag = ChIs.NextOfUpper;
-        } else if (flag == ChIs.NextOfUpper
-            || flag == ChIs.NextOfContdUpper
-            || (!opts.separateAfterNonAlphabets && flag == ChIs.NextOfKeptMark)) {
-          result.append(Ascii.toLowerCase(ch));
-          flag = ChIs.NextOfContdUpper;
-        } else {
-          result.append(joiner, ch);
-          flag = ChIs.NextOfUpper;
-        }
-      } else if (Ascii.isLowerCase(ch)) {
-        if (flag == ChIs.FirstOfStr) {
-          result.append(Ascii.toUpperCase(ch));
-        } else if (flag == ChIs.NextOfContdUpper) {
-          int prev = result.last();
-          if (Ascii.isLowerCase(prev)) {
-            prev = Ascii.toUpperCase(prev);
-          }
-          result.replaceLast(joiner, prev, ch);
-        } else if (flag == ChIs.NextOfSepMark
-            || (opts.separateAfterNonAlphabets && flag == ChIs.NextOfKeptMark)) {
-          result.append(joiner, Ascii.toUpperCase(ch));
-        } else {
-          result.append(ch);
-        }
-        flag = ChIs.Others;
-      } else {
-        var isKeptChar = false;
-        if (Ascii.isDigit(ch)) {
-          isKeptChar = true;
-        } else if (sepChs != null) {
-          if (Arrays.binarySearch(sepChs, ch) < 0) {
-            isKeptChar = true;
-          }
-        } else if (keptChs != null) {
-          if (Arrays.binarySearch(keptChs, ch) >= 0) {
-            isKeptChar = true;
-          }
-        }
+  /**
+   * Converts the input character sequence to capitalized words joined by the specified joiner
+   * {@code char} as same as {@link #capitalize(String, char, Options)}, and appends the result to
+   * the specified {@link Appendable}.
+   *
+   * @param input The input character sequence.
+   * @param joiner A joiner {@code char}.
+   * @param opts The {@link Options} object which holds the fields to customize separation rules.
+   * @param output The {@link Appendable} to which the converted string is appended.
+   * @throws IOException If an I/O error occurs on the output.
+   * @since 1.1
+   */
+  public static void capitalize(CharSequence input, char joiner, Options opts, Appendable output)
+      throws IOException {
+    capitalize(input, (int) joiner, opts, output);
+  }
 
-        if (isKeptChar) {
-          if (opts.separateBeforeNonAlphabets) {
-            if (flag == ChIs.FirstOfStr || flag == ChIs.NextOfKeptMark) {
-              result.append(ch);
-            } else {
-              result.append(joiner, ch);
-            }
-          } else {
-            if (flag != ChIs.NextOfSepMark) {
-              result.append(ch);
-            } else {
-              result.append(joiner, ch);
-            }
-          }
-          flag = ChIs.NextOfKeptMark;
-        } else {
-          if (flag != ChIs.FirstOfStr) {
-            flag = ChIs.NextOfSepMark;
-          }
-        }
-      }
-    }
+  /**
+   * Converts the input character sequence to capitalized words joined by the specified joiner code
+   * point as same as {@link #capitalize(String, int, Options)}, and appends the result to the
+   * specified {@link StringBuilder}.
+   *
+   * @param input The input character sequence.
+   * @param joiner A joiner code point.
+   * @param opts The {@link Options} object which holds the fields to customize separation rules.
+   * @param output The {@link StringBuilder} to which the converted string is appended.
+   * @since 1.1
+   */
+  public static void capitalize(
+      CharSequence input, int joiner, Options opts, StringBuilder output) {
+    compileCapitalize(joiner, opts).convert(input, output);
+  }
 
-    return result.toString();
+  /**
+   * Converts the input character sequence to capitalized words joined by the specified joiner code
+   * point as same as {@link #capitalize(String, int, Options)}, and appends the result to the
+   * specified {@link Appendable}.
+   *
+   * @param input The input character sequence.
+   * @param joiner A joiner code point.
+   * @param opts The {@link Options} object which holds the fields to customize separation rules.
+   * @param output The {@link Appendable} to which the converted string is appended.
+   * @throws IOException If an I/O error occurs on the output.
+   * @since 1.1
+   */
+  public static void capitalize(CharSequence input, int joiner, Options opts, Appendable output)
+      throws IOException {
+    compileCapitalize(joiner, opts).convert(input, output);
   }
 
   /**
@@ -506,76 +658,7 @@ public final class StringCase {
    * @return A string converted to camel case.
    */
   public static String camelCaseWithOptions(String input, Options opts) {
-    var result = new CodepointBuffer(input.length());
-
-    var flag = ChIs.FirstOfStr;
-
-    int[] sepChs = null;
-    if (opts.separators != null && !opts.separators.isEmpty()) {
-      sepChs = opts.separators.codePoints().toArray();
-      Arrays.sort(sepChs);
-    }
-
-    int[] keptChs = null;
-    if (opts.keep != null && !opts.keep.isEmpty()) {
-      keptChs = opts.keep.codePoints().toArray();
-      Arrays.sort(keptChs);
-    }
-
-    for (int ch : input.codePoints().toArray()) {
-      if (Ascii.isUpperCase(ch)) {
-        if (flag == ChIs.FirstOfStr) {
-          result.append(Ascii.toLowerCase(ch));
-          flag = ChIs.NextOfUpper;
-        } else if (flag == ChIs.NextOfUpper
-            || flag == ChIs.NextOfContdUpper
-            || (!opts.separateAfterNonAlphabets && flag == ChIs.NextOfKeptMark)) {
-          result.append(Ascii.toLowerCase(ch));
-          flag = ChIs.NextOfContdUpper;
-        } else {
-          result.append(ch);
-          flag = ChIs.NextOfUpper;
-        }
-      } else if (Ascii.isLowerCase(ch)) {
-        if (flag == ChIs.NextOfContdUpper) {
-          int prev = result.last();
-          if (Ascii.isLowerCase(prev)) {
-            prev = Ascii.toUpperCase(prev);
-          }
-          result.replaceLast(prev, ch);
-        } else if (flag == ChIs.NextOfSepMark
-            || (opts.separateAfterNonAlphabets && flag == ChIs.NextOfKeptMark)) {
-          result.append(Ascii.toUpperCase(ch));
-        } else {
-          result.append(ch);
-        }
-        flag = ChIs.Others;
-      } else {
-        var isKeptChar = false;
-        if (Ascii.isDigit(ch)) {
-          isKeptChar = true;
-        } else if (sepChs != null) {
-          if (Arrays.binarySearch(sepChs, ch) < 0) {
-            isKeptChar = true;
-          }
-        } else if (keptChs != null) {
-          if (Arrays.binarySearch(keptChs, ch) >= 0) {
-            isKeptChar = true;
-          }
-        }
-
-        if (isKeptChar) {
-          result.append(ch);
-          flag = ChIs.NextOfKeptMark;
-        } else {
-          if (flag != ChIs.FirstOfStr) {
-            flag = ChIs.NextOfSepMark;
-          }
-        }
-      }
-    }
-
-    return result.toString();
+    return compile(CaseStyle.CAMEL, opts).convert(input);
   }
 
   /**
@@ -588,280 +671,1516 @@ public final class StringCase {
    * @return A string converted to camel case.
    */
   public static String camelCase(String input) {
-    return camelCaseWithOptions(input, new Options(false, true, null, null));
+    return compile(CaseStyle.CAMEL).convert(input);
   }
 
   /**
-   * Converts the input string to cobol case with the specified options.
+   * Converts the specified range of the input character sequence to camel case with the specified
+   * options.
    *
-   * @param input The input string.
+   * @param input The input character sequence.
+   * @param start The start index of the range, inclusive.
+   * @param end The end index of the range, exclusive.
    * @param opts The options which specifies the ways of case conversion.
-   * @return A string converted to cobol case.
+   * @return A string converted to camel case.
+   * @throws IndexOutOfBoundsException If {@code start} or {@code end} is out of the input.
+   * @since 1.1
    */
-  public static String cobolCaseWithOptions(String input, Options opts) {
-    final int HYPHEN = 0x2d;
-    return upperize(input, HYPHEN, opts);
+  public static String camelCaseWithOptions(CharSequence input, int start, int end, Options opts) {
+    return compile(CaseStyle.CAMEL, opts).convert(input, start, end);
   }
 
   /**
-   * Converts the input string to cobol case.
+   * Converts the specified range of the input character sequence to camel case.
    *
    * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
    * the beginning.
    *
-   * @param input The input string.
-   * @return A string converted to cobol case.
+   * @param input The input character sequence.
+   * @param start The start index of the range, inclusive.
+   * @param end The end index of the range, exclusive.
+   * @return A string converted to camel case.
+   * @throws IndexOutOfBoundsException If {@code start} or {@code end} is out of the input.
+   * @since 1.1
    */
-  public static String cobolCase(String input) {
-    final int HYPHEN = 0x2d;
-    return upperize(input, HYPHEN, new Options(false, true, null, null));
+  public static String camelCase(CharSequence input, int start, int end) {
+    return compile(CaseStyle.CAMEL).convert(input, start, end);
   }
 
   /**
-   * Converts the input string to kebab case with the specified options.
+   * Converts the input character sequence to camel case with the specified options, and appends the
+   * result to the specified {@link StringBuilder}.
    *
-   * @param input The input string.
+   * @param input The input character sequence.
    * @param opts The options which specifies the ways of case conversion.
-   * @return A string converted to kebab case.
+   * @param output The {@link StringBuilder} to which the converted string is appended.
+   * @since 1.1
    */
-  public static String kebabCaseWithOptions(String input, Options opts) {
-    final int HYPHEN = 0x2d;
-    return lowerize(input, HYPHEN, opts);
+  public static void camelCaseWithOptions(CharSequence input, Options opts, StringBuilder output) {
+    compile(CaseStyle.CAMEL, opts).convert(input, output);
   }
 
   /**
-   * Converts the input string to kebab case.
+   * Converts the input character sequence to camel case with the specified options, and appends the
+   * result to the specified {@link Appendable}.
    *
-   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
-   * the beginning.
-   *
-   * @param input The input string.
-   * @return A string converted to kebab case.
+   * @param input The input character sequence.
+   * @param opts The options which specifies the ways of case conversion.
+   * @param output The {@link Appendable} to which the converted string is appended.
+   * @throws IOException If an I/O error occurs on the output.
+   * @since 1.1
    */
-  public static String kebabCase(String input) {
-    final int HYPHEN = 0x2d;
-    return lowerize(input, HYPHEN, new Options(false, true, null, null));
+  public static void camelCaseWithOptions(CharSequence input, Options opts, Appendable output)
+      throws IOException {
+    compile(CaseStyle.CAMEL, opts).convert(input, output);
   }
 
   /**
-   * Converts the input string to macro case with the specified options.
+   * Converts the input character sequence to camel case, and appends the result to the specified
+   * {@link StringBuilder}.
    *
-   * @param input The input string.
-   * @param opts The options which specifies the ways of case conversion.
-   * @return A string converted to macro case.
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning.
+   *
+   * @param input The input character sequence.
+   * @param output The {@link StringBuilder} to which the converted string is appended.
+   * @since 1.1
    */
-  public static String macroCaseWithOptions(String input, Options opts) {
-    final int UNDERSCORE = 0x5f;
-    return upperize(input, UNDERSCORE, opts);
+  public static void camelCase(CharSequence input, StringBuilder output) {
+    compile(CaseStyle.CAMEL).convert(input, output);
   }
 
   /**
-   * Converts the input string to macro case.
+   * Converts the input character sequence to camel case, and appends the result to the specified
+   * {@link Appendable}.
    *
    * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
    * the beginning.
    *
-   * @param input The input string.
-   * @return A string converted to macro case.
+   * @param input The input character sequence.
+   * @param output The {@link Appendable} to which the converted string is appended.
+   * @throws IOException If an I/O error occurs on the output.
+   * @since 1.1
    */
-  public static String macroCase(String input) {
-    final int UNDERSCORE = 0x5f;
-    return upperize(input, UNDERSCORE, new Options(false, true, null, null));
+  public static void camelCase(CharSequence input, Appendable output) throws IOException {
+    compile(CaseStyle.CAMEL).convert(input, output);
   }
 
   /**
-   * Converts the input string to pascal case with the specified options.
+   * Converts the input string to cobol case with the specified options.
    *
    * @param input The input string.
    * @param opts The options which specifies the ways of case conversion.
-   * @return A string converted to pascal case.
+   * @return A string converted to cobol case.
    */
-  public static String pascalCaseWithOptions(String input, Options opts) {
-    var result = new CodepointBuffer(input.length());
-
-    var flag = ChIs.FirstOfStr;
-
-    int[] sepChs = null;
-    if (opts.separators != null && !opts.separators.isEmpty()) {
-      sepChs = opts.separators.codePoints().toArray();
-      Arrays.sort(sepChs);
-    }
-
-    int[] keptChs = null;
-    if (opts.keep != null && !opts.keep.isEmpty()) {
-      keptChs = opts.keep.codePoints().toArray();
-      Arrays.sort(keptChs);
-    }
-
-    for (int ch : input.codePoints().toArray()) {
-      if (Ascii.isUpperCase(ch)) {
-        if (flag == ChIs.NextOfUpper
-            || flag == ChIs.NextOfContdUpper
-            || (!opts.separateAfterNonAlphabets && flag == ChIs.NextOfKeptMark)) {
-          result.append(Ascii.toLowerCase(ch));
-          flag = ChIs.NextOfContdUpper;
-        } else {
-          result.append(ch);
-          flag = ChIs.NextOfUpper;
-        }
-      } else if (Ascii.isLowerCase(ch)) {
-        if (flag == ChIs.FirstOfStr) {
-          result.append(Ascii.toUpperCase(ch));
-        } else if (flag == ChIs.NextOfContdUpper) {
-          int prev = result.last();
-          if (Ascii.isLowerCase(prev)) {
-            prev = Ascii.toUpperCase(prev);
-          }
-          result.replaceLast(prev, ch);
-        } else if (flag == ChIs.NextOfSepMark
-            || (opts.separateAfterNonAlphabets && flag == ChIs.NextOfKeptMark)) {
-          result.append(Ascii.toUpperCase(ch));
-        } else {
-          result.append(ch);
-        }
-        flag = ChIs.Others;
-      } else {
-        var isKeptChar = false;
-        if (Ascii.isDigit(ch)) {
-          isKeptChar = true;
-        } else if (sepChs != null) {
-          if (Arrays.binarySearch(sepChs, ch) < 0) {
-            isKeptChar = true;
-          }
-        } else if (keptChs != null) {
-          if (Arrays.binarySearch(keptChs, ch) >= 0) {
-            isKeptChar = true;
-          }
-        }
-
-        if (isKeptChar) {
-          result.append(ch);
-          flag = ChIs.NextOfKeptMark;
-        } else {
-          if (flag != ChIs.FirstOfStr) {
-            flag = ChIs.NextOfSepMark;
-          }
-        }
-      }
-    }
-
-    return result.toString();
+  public static String cobolCaseWithOptions(String input, Options opts) {
+    return compile(CaseStyle.COBOL, opts).convert(input);
   }
 
   /**
-   * Converts the input string to pascal case.
+   * Converts the input string to cobol case.
    *
    * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
    * the beginning.
    *
    * @param input The input string.
-   * @return A string converted to pascal case.
+   * @return A string converted to cobol case.
    */
-  public static String pascalCase(String input) {
-    return pascalCaseWithOptions(input, new Options(false, true, null, null));
+  public static String cobolCase(String input) {
+    return compile(CaseStyle.COBOL).convert(input);
   }
 
   /**
-   * Converts the input string to snake case with the specified options.
+   * Converts the specified range of the input character sequence to cobol case with the specified
+   * options.
    *
-   * @param input The input string.
+   * @param input The input character sequence.
+   * @param start The start index of the range, inclusive.
+   * @param end The end index of the range, exclusive.
    * @param opts The options which specifies the ways of case conversion.
-   * @return A string converted to snake case.
+   * @return A string converted to cobol case.
+   * @throws IndexOutOfBoundsException If {@code start} or {@code end} is out of the input.
+   * @since 1.1
    */
-  public static String snakeCaseWithOptions(String input, Options opts) {
-    final int UNDERSCORE = 0x5f;
-    return lowerize(input, UNDERSCORE, opts);
+  public static String cobolCaseWithOptions(CharSequence input, int start, int end, Options opts) {
+    return compile(CaseStyle.COBOL, opts).convert(input, start, end);
   }
 
   /**
-   * Converts the input string to snake case.
+   * Converts the specified range of the input character sequence to cobol case.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning.
+   *
+   * @param input The input character sequence.
+   * @param start The start index of the range, inclusive.
+   * @param end The end index of the range, exclusive.
+   * @return A string converted to cobol case.
+   * @throws IndexOutOfBoundsException If {@code start} or {@code end} is out of the input.
+   * @since 1.1
+   */
+  public static String cobolCase(CharSequence input, int start, int end) {
+    return compile(CaseStyle.COBOL).convert(input, start, end);
+  }
+
+  /**
+   * Converts the input character sequence to cobol case with the specified options, and appends the
+   * result to the specified {@link StringBuilder}.
+   *
+   * @param input The input character sequence.
+   * @param opts The options which specifies the ways of case conversion.
+   * @param output The {@link StringBuilder} to which the converted string is appended.
+   * @since 1.1
+   */
+  public static void cobolCaseWithOptions(CharSequence input, Options opts, StringBuilder output) {
+    compile(CaseStyle.COBOL, opts).convert(input, output);
+  }
+
+  /**
+   * Converts the input character sequence to cobol case with the specified options, and appends the
+   * result to the specified {@link Appendable}.
+   *
+   * @param input The input character sequence.
+   * @param opts The options which specifies the ways of case conversion.
+   * @param output The {@link Appendable} to which the converted string is appended.
+   * @throws IOException If an I/O error occurs on the output.
+   * @since 1.1
+   */
+  public static void cobolCaseWithOptions(CharSequence input, Options opts, Appendable output)
+      throws IOException {
+    compile(CaseStyle.COBOL, opts).convert(input, output);
+  }
+
+  /**
+   * Converts the input character sequence to cobol case, and appends the result to the specified
+   * {@link StringBuilder}.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning.
+   *
+   * @param input The input character sequence.
+   * @param output The {@link StringBuilder} to which the converted string is appended.
+   * @since 1.1
+   */
+  public static void cobolCase(CharSequence input, StringBuilder output) {
+    compile(CaseStyle.COBOL).convert(input, output);
+  }
+
+  /**
+   * Converts the input character sequence to cobol case, and appends the result to the specified
+   * {@link Appendable}.
    *
    * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
    * the beginning.
    *
+   * @param input The input character sequence.
+   * @param output The {@link Appendable} to which the converted string is appended.
+   * @throws IOException If an I/O error occurs on the output.
+   * @since 1.1
+   */
+  public static void cobolCase(CharSequence input, Appendable output) throws IOException {
+    compile(CaseStyle.COBOL).convert(input, output);
+  }
+
+  /**
+   * Converts the input string to kebab case with the specified options.
+   *
    * @param input The input string.
-   * @return A string converted to snake case.
+   * @param opts The options which specifies the ways of case conversion.
+   * @return A string converted to kebab case.
    */
-  public static String snakeCase(String input) {
-    final int UNDERSCORE = 0x5f;
-    return lowerize(input, UNDERSCORE, new Options(false, true, null, null));
+  public static String kebabCaseWithOptions(String input, Options opts) {
+    return compile(CaseStyle.KEBAB, opts).convert(input);
   }
 
   /**
-   * Converts the input string to train case with the specified options.
+   * Converts the input string to kebab case.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning.
    *
    * @param input The input string.
+   * @return A string converted to kebab case.
+   */
+  public static String kebabCase(String input) {
+    return compile(CaseStyle.KEBAB).convert(input);
+  }
+
+  /**
+   * Converts the specified range of the input character sequence to kebab case with the specified
+   * options.
+   *
+   * @param input The input character sequence.
+   * @param start The start index of the range, inclusive.
+   * @param end The end index of the range, exclusive.
    * @param opts The options which specifies the ways of case conversion.
-   * @return A string converted to train case.
+   * @return A string converted to kebab case.
+   * @throws IndexOutOfBoundsException If {@code start} or {@code end} is out of the input.
+   * @since 1.1
    */
-  public static String trainCaseWithOptions(String input, Options opts) {
-    final int HYPHEN = 0x2d;
-    return capitalize(input, HYPHEN, opts);
+  public static String kebabCaseWithOptions(CharSequence input, int start, int end, Options opts) {
+    return compile(CaseStyle.KEBAB, opts).convert(input, start, end);
   }
 
   /**
-   * Converts the input string to train case.
+   * Converts the specified range of the input character sequence to kebab case.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning.
+   *
+   * @param input The input character sequence.
+   * @param start The start index of the range, inclusive.
+   * @param end The end index of the range, exclusive.
+   * @return A string converted to kebab case.
+   * @throws IndexOutOfBoundsException If {@code start} or {@code end} is out of the input.
+   * @since 1.1
+   */
+  public static String kebabCase(CharSequence input, int start, int end) {
+    return compile(CaseStyle.KEBAB).convert(input, start, end);
+  }
+
+  /**
+   * Converts the input character sequence to kebab case with the specified options, and appends the
+   * result to the specified {@link StringBuilder}.
+   *
+   * @param input The input character sequence.
+   * @param opts The options which specifies the ways of case conversion.
+   * @param output The {@link StringBuilder} to which the converted string is appended.
+   * @since 1.1
+   */
+  public static void kebabCaseWithOptions(CharSequence input, Options opts, StringBuilder output) {
+    compile(CaseStyle.KEBAB, opts).convert(input, output);
+  }
+
+  /**
+   * Converts the input character sequence to kebab case with the specified options, and appends the
+   * result to the specified {@link Appendable}.
+   *
+   * @param input The input character sequence.
+   * @param opts The options which specifies the ways of case conversion.
+   * @param output The {@link Appendable} to which the converted string is appended.
+   * @throws IOException If an I/O error occurs on the output.
+   * @since 1.1
+   */
+  public static void kebabCaseWithOptions(CharSequence input, Options opts, Appendable output)
+      throws IOException {
+    compile(CaseStyle.KEBAB, opts).convert(input, output);
+  }
+
+  /**
+   * Converts the input character sequence to kebab case, and appends the result to the specified
+   * {@link StringBuilder}.
    *
    * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
    * the beginning.
    *
+   * @param input The input character sequence.
+   * @param output The {@link StringBuilder} to which the converted string is appended.
+   * @since 1.1
+   */
+  public static void kebabCase(CharSequence input, StringBuilder output) {
+    compile(CaseStyle.KEBAB).convert(input, output);
+  }
+
+  /**
+   * Converts the input character sequence to kebab case, and appends the result to the specified
+   * {@link Appendable}.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning.
+   *
+   * @param input The input character sequence.
+   * @param output The {@link Appendable} to which the converted string is appended.
+   * @throws IOException If an I/O error occurs on the output.
+   * @since 1.1
+   */
+  public static void kebabCase(CharSequence input, Appendable output) throws IOException {
+    compile(CaseStyle.KEBAB).convert(input, output);
+  }
+
+  /**
+   * Converts the input string to macro case with the specified options.
+   *
    * @param input The input string.
-   * @return A string converted to train case.
+   * @param opts The options which specifies the ways of case conversion.
+   * @return A string converted to macro case.
    */
-  public static String trainCase(String input) {
-    final int HYPHEN = 0x2d;
-    return capitalize(input, HYPHEN, new Options(false, true, null, null));
+  public static String macroCaseWithOptions(String input, Options opts) {
+    return compile(CaseStyle.MACRO, opts).convert(input);
   }
 
   /**
-   * Converts the input string to Ada case with the specified options.
+   * Converts the input string to macro case.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning.
    *
    * @param input The input string.
+   * @return A string converted to macro case.
+   */
+  public static String macroCase(String input) {
+    return compile(CaseStyle.MACRO).convert(input);
+  }
+
+  /**
+   * Converts the specified range of the input character sequence to macro case with the specified
+   * options.
+   *
+   * @param input The input character sequence.
+   * @param start The start index of the range, inclusive.
+   * @param end The end index of the range, exclusive.
    * @param opts The options which specifies the ways of case conversion.
-   * @return A string converted to Ada case.
+   * @return A string converted to macro case.
+   * @throws IndexOutOfBoundsException If {@code start} or {@code end} is out of the input.
+   * @since 1.1
    */
-  public static String adaCaseWithOptions(String input, Options opts) {
-    final int UNDERSCORE = 0x5f;
-    return capitalize(input, UNDERSCORE, opts);
+  public static String macroCaseWithOptions(CharSequence input, int start, int end, Options opts) {
+    return compile(CaseStyle.MACRO, opts).convert(input, start, end);
   }
 
   /**
-   * Converts the input string to Ada case.
+   * Converts the specified range of the input character sequence to macro case.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning.
+   *
+   * @param input The input character sequence.
+   * @param start The start index of the range, inclusive.
+   * @param end The end index of the range, exclusive.
+   * @return A string converted to macro case.
+   * @throws IndexOutOfBoundsException If {@code start} or {@code end} is out of the input.
+   * @since 1.1
+   */
+  public static String macroCase(CharSequence input, int start, int end) {
+    return compile(CaseStyle.MACRO).convert(input, start, end);
+  }
+
+  /**
+   * Converts the input character sequence to macro case with the specified options, and appends the
+   * result to the specified {@link StringBuilder}.
+   *
+   * @param input The input character sequence.
+   * @param opts The options which specifies the ways of case conversion.
+   * @param output The {@link StringBuilder} to which the converted string is appended.
+   * @since 1.1
+   */
+  public static void macroCaseWithOptions(CharSequence input, Options opts, StringBuilder output) {
+    compile(CaseStyle.MACRO, opts).convert(input, output);
+  }
+
+  /**
+   * Converts the input character sequence to macro case with the specified options, and appends the
+   * result to the specified {@link Appendable}.
+   *
+   * @param input The input character sequence.
+   * @param opts The options which specifies the ways of case conversion.
+   * @param output The {@link Appendable} to which the converted string is appended.
+   * @throws IOException If an I/O error occurs on the output.
+   * @since 1.1
+   */
+  public static void macroCaseWithOptions(CharSequence input, Options opts, Appendable output)
+      throws IOException {
+    compile(CaseStyle.MACRO, opts).convert(input, output);
+  }
+
+  /**
+   * Converts the input character sequence to macro case, and appends the result to the specified
+   * {@link StringBuilder}.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning.
+   *
+   * @param input The input character sequence.
+   * @param output The {@link StringBuilder} to which the converted string is appended.
+   * @since 1.1
+   */
+  public static void macroCase(CharSequence input, StringBuilder output) {
+    compile(CaseStyle.MACRO).convert(input, output);
+  }
+
+  /**
+   * Converts the input character sequence to macro case, and appends the result to the specified
+   * {@link Appendable}.
    *
    * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
    * the beginning.
    *
+   * @param input The input character sequence.
+   * @param output The {@link Appendable} to which the converted string is appended.
+   * @throws IOException If an I/O error occurs on the output.
+   * @since 1.1
+   */
+  public static void macroCase(CharSequence input, Appendable output) throws IOException {
+    compile(CaseStyle.MACRO).convert(input, output);
+  }
+
+  /**
+   * Converts the input string to pascal case with the specified options.
+   *
    * @param input The input string.
-   * @return A string converted to Ada case.
+   * @param opts The options which specifies the ways of case conversion.
+   * @return A string converted to pascal case.
    */
-  public static String adaCase(String input) {
-    final int UNDERSCORE = 0x5f;
-    return capitalize(input, UNDERSCORE, new Options(false, true, null, null));
+  public static String pascalCaseWithOptions(String input, Options opts) {
+    return compile(CaseStyle.PASCAL, opts).convert(input);
   }
 
   /**
-   * Converts the input string to title case with the specified options.
+   * Converts the input string to pascal case.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning.
    *
    * @param input The input string.
+   * @return A string converted to pascal case.
+   */
+  public static String pascalCase(String input) {
+    return compile(CaseStyle.PASCAL).convert(input);
+  }
+
+  /**
+   * Converts the specified range of the input character sequence to pascal case with the specified
+   * options.
+   *
+   * @param input The input character sequence.
+   * @param start The start index of the range, inclusive.
+   * @param end The end index of the range, exclusive.
    * @param opts The options which specifies the ways of case conversion.
-   * @return A string converted to title case.
+   * @return A string converted to pascal case.
+   * @throws IndexOutOfBoundsException If {@code start} or {@code end} is out of the input.
+   * @since 1.1
    */
-  public static String titleCaseWithOptions(String input, Options opts) {
-    final int SPACE = 0x20;
-    return capitalize(input, SPACE, opts);
+  public static String pascalCaseWithOptions(CharSequence input, int start, int end, Options opts) {
+    return compile(CaseStyle.PASCAL, opts).convert(input, start, end);
   }
 
   /**
-   * Converts the input string to title case.
+   * Converts the specified range of the input character sequence to pascal case.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning.
+   *
+   * @param input The input character sequence.
+   * @param start The start index of the range, inclusive.
+   * @param end The end index of the range, exclusive.
+   * @return A string converted to pascal case.
+   * @throws IndexOutOfBoundsException If {@code start} or {@code end} is out of the input.
+   * @since 1.1
+   */
+  public static String pascalCase(CharSequence input, int start, int end) {
+    return compile(CaseStyle.PASCAL).convert(input, start, end);
+  }
+
+  /**
+   * Converts the input character sequence to pascal case with the specified options, and appends
+   * the result to the specified {@link StringBuilder}.
+   *
+   * @param input The input character sequence.
+   * @param opts The options which specifies the ways of case conversion.
+   * @param output The {@link StringBuilder} to which the converted string is appended.
+   * @since 1.1
+   */
+  public static void pascalCaseWithOptions(CharSequence input, Options opts, StringBuilder output) {
+    compile(CaseStyle.PASCAL, opts).convert(input, output);
+  }
+
+  /**
+   * Converts the input character sequence to pascal case with the specified options, and appends
+   * the result to the specified {@link Appendable}.
+   *
+   * @param input The input character sequence.
+   * @param opts The options which specifies the ways of case conversion.
+   * @param output The {@link Appendable} to which the converted string is appended.
+   * @throws IOException If an I/O error occurs on the output.
+   * @since 1.1
+   */
+  public static void pascalCaseWithOptions(CharSequence input, Options opts, Appendable output)
+      throws IOException {
+    compile(CaseStyle.PASCAL, opts).convert(input, output);
+  }
+
+  /**
+   * Converts the input character sequence to pascal case, and appends the result to the specified
+   * {@link StringBuilder}.
    *
    * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
    * the beginning.
    *
+   * @param input The input character sequence.
+   * @param output The {@link StringBuilder} to which the converted string is appended.
+   * @since 1.1
+   */
+  public static void pascalCase(CharSequence input, StringBuilder output) {
+    compile(CaseStyle.PASCAL).convert(input, output);
+  }
+
+  /**
+   * Converts the input character sequence to pascal case, and appends the result to the specified
+   * {@link Appendable}.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning.
+   *
+   * @param input The input character sequence.
+   * @param output The {@link Appendable} to which the converted string is appended.
+   * @throws IOException If an I/O error occurs on the output.
+   * @since 1.1
+   */
+  public static void pascalCase(CharSequence input, Appendable output) throws IOException {
+    compile(CaseStyle.PASCAL).convert(input, output);
+  }
+
+  /**
+   * Converts the input string to snake case with the specified options.
+   *
    * @param input The input string.
-   * @return A string converted to title case.
+   * @param opts The options which specifies the ways of case conversion.
+   * @return A string converted to snake case.
    */
-  public static String titleCase(String input) {
-    final int SPACE = 0x20;
-    return capitalize(input, SPACE, new Options(false, true, null, null));
+  public static String snakeCaseWithOptions(String input, Options opts) {
+    return compile(CaseStyle.SNAKE, opts).convert(input);
+  }
+
+  /**
+   * Converts the input string to snake case.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning.
+   *
+   * @param input The input string.
+   * @return A string converted to snake case.
+   */
+  public static String snakeCase(String input) {
+    return compile(CaseStyle.SNAKE).convert(input);
+  }
+
+  /**
+   * Converts the specified range of the input character sequence to snake case with the specified
+   * options.
+   *
+   * @param input The input character sequence.
+   * @param start The start index of the range, inclusive.
+   * @param end The end index of the range, exclusive.
+   * @param opts The options which specifies the ways of case conversion.
+   * @return A string converted to snake case.
+   * @throws IndexOutOfBoundsException If {@code start} or {@code end} is out of the input.
+   * @since 1.1
+   */
+  public static String snakeCaseWithOptions(CharSequence input, int start, int end, Options opts) {
+    return compile(CaseStyle.SNAKE, opts).convert(input, start, end);
+  }
+
+  /**
+   * Converts the specified range of the input character sequence to snake case.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning.
+   *
+   * @param input The input character sequence.
+   * @param start The start index of the range, inclusive.
+   * @param end The end index of the range, exclusive.
+   * @return A string converted to snake case.
+   * @throws IndexOutOfBoundsException If {@code start} or {@code end} is out of the input.
+   * @since 1.1
+   */
+  public static String snakeCase(CharSequence input, int start, int end) {
+    return compile(CaseStyle.SNAKE).convert(input, start, end);
+  }
+
+  /**
+   * Converts the input character sequence to snake case with the specified options, and appends the
+   * result to the specified {@link StringBuilder}.
+   *
+   * @param input The input character sequence.
+   * @param opts The options which specifies the ways of case conversion.
+   * @param output The {@link StringBuilder} to which the converted string is appended.
+   * @since 1.1
+   */
+  public static void snakeCaseWithOptions(CharSequence input, Options opts, StringBuilder output) {
+    compile(CaseStyle.SNAKE, opts).convert(input, output);
+  }
+
+  /**
+   * Converts the input character sequence to snake case with the specified options, and appends the
+   * result to the specified {@link Appendable}.
+   *
+   * @param input The input character sequence.
+   * @param opts The options which specifies the ways of case conversion.
+   * @param output The {@link Appendable} to which the converted string is appended.
+   * @throws IOException If an I/O error occurs on the output.
+   * @since 1.1
+   */
+  public static void snakeCaseWithOptions(CharSequence input, Options opts, Appendable output)
+      throws IOException {
+    compile(CaseStyle.SNAKE, opts).convert(input, output);
+  }
+
+  /**
+   * Converts the input character sequence to snake case, and appends the result to the specified
+   * {@link StringBuilder}.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning.
+   *
+   * @param input The input character sequence.
+   * @param output The {@link StringBuilder} to which the converted string is appended.
+   * @since 1.1
+   */
+  public static void snakeCase(CharSequence input, StringBuilder output) {
+    compile(CaseStyle.SNAKE).convert(input, output);
+  }
+
+  /**
+   * Converts the input character sequence to snake case, and appends the result to the specified
+   * {@link Appendable}.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning.
+   *
+   * @param input The input character sequence.
+   * @param output The {@link Appendable} to which the converted string is appended.
+   * @throws IOException If an I/O error occurs on the output.
+   * @since 1.1
+   */
+  public static void snakeCase(CharSequence input, Appendable output) throws IOException {
+    compile(CaseStyle.SNAKE).convert(input, output);
+  }
+
+  /**
+   * Converts the input string to train case with the specified options.
+   *
+   * @param input The input string.
+   * @param opts The options which specifies the ways of case conversion.
+   * @return A string converted to train case.
+   */
+  public static String trainCaseWithOptions(String input, Options opts) {
+    return compile(CaseStyle.TRAIN, opts).convert(input);
+  }
+
+  /**
+   * Converts the input string to train case.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning.
+   *
+   * @param input The input string.
+   * @return A string converted to train case.
+   */
+  public static String trainCase(String input) {
+    return compile(CaseStyle.TRAIN).convert(input);
+  }
+
+  /**
+   * Converts the specified range of the input character sequence to train case with the specified
+   * options.
+   *
+   * @param input The input character sequence.
+   * @param start The start index of the range, inclusive.
+   * @param end The end index of the range, exclusive.
+   * @param opts The options which specifies the ways of case conversion.
+   * @return A string converted to train case.
+   * @throws IndexOutOfBoundsException If {@code start} or {@code end} is out of the input.
+   * @since 1.1
+   */
+  public static String trainCaseWithOptions(CharSequence input, int start, int end, Options opts) {
+    return compile(CaseStyle.TRAIN, opts).convert(input, start, end);
+  }
+
+  /**
+   * Converts the specified range of the input character sequence to train case.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning.
+   *
+   * @param input The input character sequence.
+   * @param start The start index of the range, inclusive.
+   * @param end The end index of the range, exclusive.
+   * @return A string converted to train case.
+   * @throws IndexOutOfBoundsException If {@code start} or {@code end} is out of the input.
+   * @since 1.1
+   */
+  public static String trainCase(CharSequence input, int start, int end) {
+    return compile(CaseStyle.TRAIN).convert(input, start, end);
+  }
+
+  /**
+   * Converts the input character sequence to train case with the specified options, and appends the
+   * result to the specified {@link StringBuilder}.
+   *
+   * @param input The input character sequence.
+   * @param opts The options which specifies the ways of case conversion.
+   * @param output The {@link StringBuilder} to which the converted string is appended.
+   * @since 1.1
+   */
+  public static void trainCaseWithOptions(CharSequence input, Options opts, StringBuilder output) {
+    compile(CaseStyle.TRAIN, opts).convert(input, output);
+  }
+
+  /**
+   * Converts the input character sequence to train case with the specified options, and appends the
+   * result to the specified {@link Appendable}.
+   *
+   * @param input The input character sequence.
+   * @param opts The options which specifies the ways of case conversion.
+   * @param output The {@link Appendable} to which the converted string is appended.
+   * @throws IOException If an I/O error occurs on the output.
+   * @since 1.1
+   */
+  public static void trainCaseWithOptions(CharSequence input, Options opts, Appendable output)
+      throws IOException {
+    compile(CaseStyle.TRAIN, opts).convert(input, output);
+  }
+
+  /**
+   * Converts the input character sequence to train case, and appends the result to the specified
+   * {@link StringBuilder}.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning.
+   *
+   * @param input The input character sequence.
+   * @param output The {@link StringBuilder} to which the converted string is appended.
+   * @since 1.1
+   */
+  public static void trainCase(CharSequence input, StringBuilder output) {
+    compile(CaseStyle.TRAIN).convert(input, output);
+  }
+
+  /**
+   * Converts the input character sequence to train case, and appends the result to the specified
+   * {@link Appendable}.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning.
+   *
+   * @param input The input character sequence.
+   * @param output The {@link Appendable} to which the converted string is appended.
+   * @throws IOException If an I/O error occurs on the output.
+   * @since 1.1
+   */
+  public static void trainCase(CharSequence input, Appendable output) throws IOException {
+    compile(CaseStyle.TRAIN).convert(input, output);
+  }
+
+  /**
+   * Converts the input string to Ada case with the specified options.
+   *
+   * @param input The input string.
+   * @param opts The options which specifies the ways of case conversion.
+   * @return A string converted to Ada case.
+   */
+  public static String adaCaseWithOptions(String input, Options opts) {
+    return compile(CaseStyle.ADA, opts).convert(input);
+  }
+
+  /**
+   * Converts the input string to Ada case.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning.
+   *
+   * @param input The input string.
+   * @return A string converted to Ada case.
+   */
+  public static String adaCase(String input) {
+    return compile(CaseStyle.ADA).convert(input);
+  }
+
+  /**
+   * Converts the specified range of the input character sequence to Ada case with the specified
+   * options.
+   *
+   * @param input The input character sequence.
+   * @param start The start index of the range, inclusive.
+   * @param end The end index of the range, exclusive.
+   * @param opts The options which specifies the ways of case conversion.
+   * @return A string converted to Ada case.
+   * @throws IndexOutOfBoundsException If {@code start} or {@code end} is out of the input.
+   * @since 1.1
+   */
+  public static String adaCaseWithOptions(CharSequence input, int start, int end, Options opts) {
+    return compile(CaseStyle.ADA, opts).convert(input, start, end);
+  }
+
+  /**
+   * Converts the specified range of the input character sequence to Ada case.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning.
+   *
+   * @param input The input character sequence.
+   * @param start The start index of the range, inclusive.
+   * @param end The end index of the range, exclusive.
+   * @return A string converted to Ada case.
+   * @throws IndexOutOfBoundsException If {@code start} or {@code end} is out of the input.
+   * @since 1.1
+   */
+  public static String adaCase(CharSequence input, int start, int end) {
+    return compile(CaseStyle.ADA).convert(input, start, end);
+  }
+
+  /**
+   * Converts the input character sequence to Ada case with the specified options, and appends the
+   * result to the specified {@link StringBuilder}.
+   *
+   * @param input The input character sequence.
+   * @param opts The options which specifies the ways of case conversion.
+   * @param output The {@link StringBuilder} to which the converted string is appended.
+   * @since 1.1
+   */
+  public static void adaCaseWithOptions(CharSequence input, Options opts, StringBuilder output) {
+    compile(CaseStyle.ADA, opts).convert(input, output);
+  }
+
+  /**
+   * Converts the input character sequence to Ada case with the specified options, and appends the
+   * result to the specified {@link Appendable}.
+   *
+   * @param input The input character sequence.
+   * @param opts The options which specifies the ways of case conversion.
+   * @param output The {@link Appendable} to which the converted string is appended.
+   * @throws IOException If an I/O error occurs on the output.
+   * @since 1.1
+   */
+  public static void adaCaseWithOptions(CharSequence input, Options opts, Appendable output)
+      throws IOException {
+    compile(CaseStyle.ADA, opts).convert(input, output);
+  }
+
+  /**
+   * Converts the input character sequence to Ada case, and appends the result to the specified
+   * {@link StringBuilder}.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning.
+   *
+   * @param input The input character sequence.
+   * @param output The {@link StringBuilder} to which the converted string is appended.
+   * @since 1.1
+   */
+  public static void adaCase(CharSequence input, StringBuilder output) {
+    compile(CaseStyle.ADA).convert(input, output);
+  }
+
+  /**
+   * Converts the input character sequence to Ada case, and appends the result to the specified
+   * {@link Appendable}.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning.
+   *
+   * @param input The input character sequence.
+   * @param output The {@link Appendable} to which the converted string is appended.
+   * @throws IOException If an I/O error occurs on the output.
+   * @since 1.1
+   */
+  public static void adaCase(CharSequence input, Appendable output) throws IOException {
+    compile(CaseStyle.ADA).convert(input, output);
+  }
+
+  /**
+   * Converts the input string to title case with the specified options.
+   *
+   * @param input The input string.
+   * @param opts The options which specifies the ways of case conversion.
+   * @return A string converted to title case.
+   */
+  public static String titleCaseWithOptions(String input, Options opts) {
+    return compile(CaseStyle.TITLE, opts).convert(input);
+  }
+
+  /**
+   * Converts the input string to title case.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning.
+   *
+   * @param input The input string.
+   * @return A string converted to title case.
+   */
+  public static String titleCase(String input) {
+    return compile(CaseStyle.TITLE).convert(input);
+  }
+
+  /**
+   * Converts the specified range of the input character sequence to title case with the specified
+   * options.
+   *
+   * @param input The input character sequence.
+   * @param start The start index of the range, inclusive.
+   * @param end The end index of the range, exclusive.
+   * @param opts The options which specifies the ways of case conversion.
+   * @return A string converted to title case.
+   * @throws IndexOutOfBoundsException If {@code start} or {@code end} is out of the input.
+   * @since 1.1
+   */
+  public static String titleCaseWithOptions(CharSequence input, int start, int end, Options opts) {
+    return compile(CaseStyle.TITLE, opts).convert(input, start, end);
+  }
+
+  /**
+   * Converts the specified range of the input character sequence to title case.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning.
+   *
+   * @param input The input character sequence.
+   * @param start The start index of the range, inclusive.
+   * @param end The end index of the range, exclusive.
+   * @return A string converted to title case.
+   * @throws IndexOutOfBoundsException If {@code start} or {@code end} is out of the input.
+   * @since 1.1
+   */
+  public static String titleCase(CharSequence input, int start, int end) {
+    return compile(CaseStyle.TITLE).convert(input, start, end);
+  }
+
+  /**
+   * Converts the input character sequence to title case with the specified options, and appends the
+   * result to the specified {@link StringBuilder}.
+   *
+   * @param input The input character sequence.
+   * @param opts The options which specifies the ways of case conversion.
+   * @param output The {@link StringBuilder} to which the converted string is appended.
+   * @since 1.1
+   */
+  public static void titleCaseWithOptions(CharSequence input, Options opts, StringBuilder output) {
+    compile(CaseStyle.TITLE, opts).convert(input, output);
+  }
+
+  /**
+   * Converts the input character sequence to title case with the specified options, and appends the
+   * result to the specified {@link Appendable}.
+   *
+   * @param input The input character sequence.
+   * @param opts The options which specifies the ways of case conversion.
+   * @param output The {@link Appendable} to which the converted string is appended.
+   * @throws IOException If an I/O error occurs on the output.
+   * @since 1.1
+   */
+  public static void titleCaseWithOptions(CharSequence input, Options opts, Appendable output)
+      throws IOException {
+    compile(CaseStyle.TITLE, opts).convert(input, output);
+  }
+
+  /**
+   * Converts the input character sequence to title case, and appends the result to the specified
+   * {@link StringBuilder}.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning.
+   *
+   * @param input The input character sequence.
+   * @param output The {@link StringBuilder} to which the converted string is appended.
+   * @since 1.1
+   */
+  public static void titleCase(CharSequence input, StringBuilder output) {
+    compile(CaseStyle.TITLE).convert(input, output);
+  }
+
+  /**
+   * Converts the input character sequence to title case, and appends the result to the specified
+   * {@link Appendable}.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning.
+   *
+   * @param input The input character sequence.
+   * @param output The {@link Appendable} to which the converted string is appended.
+   * @throws IOException If an I/O error occurs on the output.
+   * @since 1.1
+   */
+  public static void titleCase(CharSequence input, Appendable output) throws IOException {
+    compile(CaseStyle.TITLE).convert(input, output);
+  }
+
+  /**
+   * Converts the input character sequence to each of the specified case styles with the specified
+   * options.
+   *
+   * <p>The word boundaries of the input are determined only once and shared by all the case styles,
+   * so this method is faster than converting the input to each case style one by one.
+   *
+   * @param input The input character sequence.
+   * @param styles The case styles to which the input is converted.
+   * @param opts The options which specifies the ways of case conversion.
+   * @return A map from each of the specified case styles to the converted string.
+   * @since 1.1
+   */
+  public static Map<CaseStyle, String> convertManyWithOptions(
+      CharSequence input, Set<CaseStyle> styles, Options opts) {
+    return compile(CaseStyle.SNAKE, opts).convertMany(input, styles);
+  }
+
+  /**
+   * Converts the input character sequence to each of the specified case styles.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning.
+   *
+   * @param input The input character sequence.
+   * @param styles The case styles to which the input is converted.
+   * @return A map from each of the specified case styles to the converted string.
+   * @see #convertManyWithOptions(CharSequence, Set, Options)
+   * @since 1.1
+   */
+  public static Map<CaseStyle, String> convertMany(CharSequence input, Set<CaseStyle> styles) {
+    return compile(CaseStyle.SNAKE).convertMany(input, styles);
+  }
+
+  /**
+   * Splits the input character sequence into words with the specified options, and writes the start
+   * and end offsets of each word into the specified array.
+   *
+   * <p>The words are the same as the words which the case conversions with the same options join.
+   * This method allocates no object except at the first call with the options, which compiles the
+   * converter for them. See {@link #compile(CaseStyle, Options)}.
+   *
+   * @param input The input character sequence.
+   * @param opts The options which specifies the ways of word separation.
+   * @param offsets The array into which the offsets of the words are written.
+   * @return The number of the words.
+   * @see CaseConverter#tokenize(CharSequence, int[])
+   * @since 1.1
+   */
+  public static int tokenizeWithOptions(CharSequence input, Options opts, int[] offsets) {
+    return compile(CaseStyle.SNAKE, opts).tokenize(input, offsets);
+  }
+
+  /**
+   * Splits the input character sequence into words, and writes the start and end offsets of each
+   * word into the specified array.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning.
+   *
+   * @param input The input character sequence.
+   * @param offsets The array into which the offsets of the words are written.
+   * @return The number of the words.
+   * @see CaseConverter#tokenize(CharSequence, int[])
+   * @since 1.1
+   */
+  public static int tokenize(CharSequence input, int[] offsets) {
+    return compile(CaseStyle.SNAKE).tokenize(input, offsets);
+  }
+
+  /**
+   * Splits the input character sequence into words with the specified options, and passes the start
+   * and end offsets of each word to the specified consumer in order.
+   *
+   * @param input The input character sequence.
+   * @param opts The options which specifies the ways of word separation.
+   * @param consumer The consumer which receives the offsets of each word.
+   * @return The number of the words.
+   * @see CaseConverter#tokenize(CharSequence, CaseConverter.WordConsumer)
+   * @since 1.1
+   */
+  public static int tokenizeWithOptions(
+      CharSequence input, Options opts, CaseConverter.WordConsumer consumer) {
+    return compile(CaseStyle.SNAKE, opts).tokenize(input, consumer);
+  }
+
+  /**
+   * Splits the input character sequence into words, and passes the start and end offsets of each
+   * word to the specified consumer in order.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning.
+   *
+   * @param input The input character sequence.
+   * @param consumer The consumer which receives the offsets of each word.
+   * @return The number of the words.
+   * @see CaseConverter#tokenize(CharSequence, CaseConverter.WordConsumer)
+   * @since 1.1
+   */
+  public static int tokenize(CharSequence input, CaseConverter.WordConsumer consumer) {
+    return compile(CaseStyle.SNAKE).tokenize(input, consumer);
+  }
+
+  /**
+   * Checks whether the input character sequence is in Ada case with the specified options, that is,
+   * whether {@link #adaCaseWithOptions(String, Options)} returns the same string.
+   *
+   * <p>This method returns at the first mismatch, and allocates no object except at the first call
+   * with the options, which compiles the converter for them. See {@link #compile(CaseStyle,
+   * Options)}.
+   *
+   * @param input The input character sequence.
+   * @param opts The options which specifies the ways of case conversion.
+   * @return {@code true} if the input is in Ada case, otherwise {@code false}.
+   * @since 1.1
+   */
+  public static boolean isAdaCaseWithOptions(CharSequence input, Options opts) {
+    return compile(CaseStyle.ADA, opts).isConverted(input);
+  }
+
+  /**
+   * Checks whether the input character sequence is in Ada case, that is, whether {@link
+   * #adaCase(String)} returns the same string.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning. This method allocates no object and returns at the first mismatch.
+   *
+   * @param input The input character sequence.
+   * @return {@code true} if the input is in Ada case, otherwise {@code false}.
+   * @since 1.1
+   */
+  public static boolean isAdaCase(CharSequence input) {
+    return compile(CaseStyle.ADA).isConverted(input);
+  }
+
+  /**
+   * Checks whether the input character sequence is in camel case with the specified options, that
+   * is, whether {@link #camelCaseWithOptions(String, Options)} returns the same string.
+   *
+   * <p>This method returns at the first mismatch, and allocates no object except at the first call
+   * with the options, which compiles the converter for them. See {@link #compile(CaseStyle,
+   * Options)}.
+   *
+   * @param input The input character sequence.
+   * @param opts The options which specifies the ways of case conversion.
+   * @return {@code true} if the input is in camel case, otherwise {@code false}.
+   * @since 1.1
+   */
+  public static boolean isCamelCaseWithOptions(CharSequence input, Options opts) {
+    return compile(CaseStyle.CAMEL, opts).isConverted(input);
+  }
+
+  /**
+   * Checks whether the input character sequence is in camel case, that is, whether {@link
+   * #camelCase(String)} returns the same string.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning. This method allocates no object and returns at the first mismatch.
+   *
+   * @param input The input character sequence.
+   * @return {@code true} if the input is in camel case, otherwise {@code false}.
+   * @since 1.1
+   */
+  public static boolean isCamelCase(CharSequence input) {
+    return compile(CaseStyle.CAMEL).isConverted(input);
+  }
+
+  /**
+   * Checks whether the input character sequence is in cobol case with the specified options, that
+   * is, whether {@link #cobolCaseWithOptions(String, Options)} returns the same string.
+   *
+   * <p>This method returns at the first mismatch, and allocates no object except at the first call
+   * with the options, which compiles the converter for them. See {@link #compile(CaseStyle,
+   * Options)}.
+   *
+   * @param input The input character sequence.
+   * @param opts The options which specifies the ways of case conversion.
+   * @return {@code true} if the input is in cobol case, otherwise {@code false}.
+   * @since 1.1
+   */
+  public static boolean isCobolCaseWithOptions(CharSequence input, Options opts) {
+    return compile(CaseStyle.COBOL, opts).isConverted(input);
+  }
+
+  /**
+   * Checks whether the input character sequence is in cobol case, that is, whether {@link
+   * #cobolCase(String)} returns the same string.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning. This method allocates no object and returns at the first mismatch.
+   *
+   * @param input The input character sequence.
+   * @return {@code true} if the input is in cobol case, otherwise {@code false}.
+   * @since 1.1
+   */
+  public static boolean isCobolCase(CharSequence input) {
+    return compile(CaseStyle.COBOL).isConverted(input);
+  }
+
+  /**
+   * Checks whether the input character sequence is in kebab case with the specified options, that
+   * is, whether {@link #kebabCaseWithOptions(String, Options)} returns the same string.
+   *
+   * <p>This method returns at the first mismatch, and allocates no object except at the first call
+   * with the options, which compiles the converter for them. See {@link #compile(CaseStyle,
+   * Options)}.
+   *
+   * @param input The input character sequence.
+   * @param opts The options which specifies the ways of case conversion.
+   * @return {@code true} if the input is in kebab case, otherwise {@code false}.
+   * @since 1.1
+   */
+  public static boolean isKebabCaseWithOptions(CharSequence input, Options opts) {
+    return compile(CaseStyle.KEBAB, opts).isConverted(input);
+  }
+
+  /**
+   * Checks whether the input character sequence is in kebab case, that is, whether {@link
+   * #kebabCase(String)} returns the same string.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning. This method allocates no object and returns at the first mismatch.
+   *
+   * @param input The input character sequence.
+   * @return {@code true} if the input is in kebab case, otherwise {@code false}.
+   * @since 1.1
+   */
+  public static boolean isKebabCase(CharSequence input) {
+    return compile(CaseStyle.KEBAB).isConverted(input);
+  }
+
+  /**
+   * Checks whether the input character sequence is in macro case with the specified options, that
+   * is, whether {@link #macroCaseWithOptions(String, Options)} returns the same string.
+   *
+   * <p>This method returns at the first mismatch, and allocates no object except at the first call
+   * with the options, which compiles the converter for them. See {@link #compile(CaseStyle,
+   * Options)}.
+   *
+   * @param input The input character sequence.
+   * @param opts The options which specifies the ways of case conversion.
+   * @return {@code true} if the input is in macro case, otherwise {@code false}.
+   * @since 1.1
+   */
+  public static boolean isMacroCaseWithOptions(CharSequence input, Options opts) {
+    return compile(CaseStyle.MACRO, opts).isConverted(input);
+  }
+
+  /**
+   * Checks whether the input character sequence is in macro case, that is, whether {@link
+   * #macroCase(String)} returns the same string.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning. This method allocates no object and returns at the first mismatch.
+   *
+   * @param input The input character sequence.
+   * @return {@code true} if the input is in macro case, otherwise {@code false}.
+   * @since 1.1
+   */
+  public static boolean isMacroCase(CharSequence input) {
+    return compile(CaseStyle.MACRO).isConverted(input);
+  }
+
+  /**
+   * Checks whether the input character sequence is in pascal case with the specified options, that
+   * is, whether {@link #pascalCaseWithOptions(String, Options)} returns the same string.
+   *
+   * <p>This method returns at the first mismatch, and allocates no object except at the first call
+   * with the options, which compiles the converter for them. See {@link #compile(CaseStyle,
+   * Options)}.
+   *
+   * @param input The input character sequence.
+   * @param opts The options which specifies the ways of case conversion.
+   * @return {@code true} if the input is in pascal case, otherwise {@code false}.
+   * @since 1.1
+   */
+  public static boolean isPascalCaseWithOptions(CharSequence input, Options opts) {
+    return compile(CaseStyle.PASCAL, opts).isConverted(input);
+  }
+
+  /**
+   * Checks whether the input character sequence is in pascal case, that is, whether {@link
+   * #pascalCase(String)} returns the same string.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning. This method allocates no object and returns at the first mismatch.
+   *
+   * @param input The input character sequence.
+   * @return {@code true} if the input is in pascal case, otherwise {@code false}.
+   * @since 1.1
+   */
+  public static boolean isPascalCase(CharSequence input) {
+    return compile(CaseStyle.PASCAL).isConverted(input);
+  }
+
+  /**
+   * Checks whether the input character sequence is in snake case with the specified options, that
+   * is, whether {@link #snakeCaseWithOptions(String, Options)} returns the same string.
+   *
+   * <p>This method returns at the first mismatch, and allocates no object except at the first call
+   * with the options, which compiles the converter for them. See {@link #compile(CaseStyle,
+   * Options)}.
+   *
+   * @param input The input character sequence.
+   * @param opts The options which specifies the ways of case conversion.
+   * @return {@code true} if the input is in snake case, otherwise {@code false}.
+   * @since 1.1
+   */
+  public static boolean isSnakeCaseWithOptions(CharSequence input, Options opts) {
+    return compile(CaseStyle.SNAKE, opts).isConverted(input);
+  }
+
+  /**
+   * Checks whether the input character sequence is in snake case, that is, whether {@link
+   * #snakeCase(String)} returns the same string.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning. This method allocates no object and returns at the first mismatch.
+   *
+   * @param input The input character sequence.
+   * @return {@code true} if the input is in snake case, otherwise {@code false}.
+   * @since 1.1
+   */
+  public static boolean isSnakeCase(CharSequence input) {
+    return compile(CaseStyle.SNAKE).isConverted(input);
+  }
+
+  /**
+   * Checks whether the input character sequence is in title case with the specified options, that
+   * is, whether {@link #titleCaseWithOptions(String, Options)} returns the same string.
+   *
+   * <p>This method returns at the first mismatch, and allocates no object except at the first call
+   * with the options, which compiles the converter for them. See {@link #compile(CaseStyle,
+   * Options)}.
+   *
+   * @param input The input character sequence.
+   * @param opts The options which specifies the ways of case conversion.
+   * @return {@code true} if the input is in title case, otherwise {@code false}.
+   * @since 1.1
+   */
+  public static boolean isTitleCaseWithOptions(CharSequence input, Options opts) {
+    return compile(CaseStyle.TITLE, opts).isConverted(input);
+  }
+
+  /**
+   * Checks whether the input character sequence is in title case, that is, whether {@link
+   * #titleCase(String)} returns the same string.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning. This method allocates no object and returns at the first mismatch.
+   *
+   * @param input The input character sequence.
+   * @return {@code true} if the input is in title case, otherwise {@code false}.
+   * @since 1.1
+   */
+  public static boolean isTitleCase(CharSequence input) {
+    return compile(CaseStyle.TITLE).isConverted(input);
+  }
+
+  /**
+   * Checks whether the input character sequence is in train case with the specified options, that
+   * is, whether {@link #trainCaseWithOptions(String, Options)} returns the same string.
+   *
+   * <p>This method returns at the first mismatch, and allocates no object except at the first call
+   * with the options, which compiles the converter for them. See {@link #compile(CaseStyle,
+   * Options)}.
+   *
+   * @param input The input character sequence.
+   * @param opts The options which specifies the ways of case conversion.
+   * @return {@code true} if the input is in train case, otherwise {@code false}.
+   * @since 1.1
+   */
+  public static boolean isTrainCaseWithOptions(CharSequence input, Options opts) {
+    return compile(CaseStyle.TRAIN, opts).isConverted(input);
+  }
+
+  /**
+   * Checks whether the input character sequence is in train case, that is, whether {@link
+   * #trainCase(String)} returns the same string.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning. This method allocates no object and returns at the first mismatch.
+   *
+   * @param input The input character sequence.
+   * @return {@code true} if the input is in train case, otherwise {@code false}.
+   * @since 1.1
+   */
+  public static boolean isTrainCase(CharSequence input) {
+    return compile(CaseStyle.TRAIN).isConverted(input);
+  }
+
+  /**
+   * Detects all the case styles in which the input character sequence already is.
+   *
+   * <p>The returned value is a bit set in which the bit at {@code 1 << style.ordinal()} is set if
+   * {@link #compile(CaseStyle)} of the style returns the same string as the input. For example,
+   * {@code "foo"} is in snake case, kebab case and camel case at once. If the input is in none of
+   * the case styles, that is, a mixed case, this method returns 0.
+   *
+   * <p>All the case styles are checked in a single pass over the input with the same word
+   * segmentation as the conversions, and no object is allocated.
+   *
+   * @param input The input character sequence.
+   * @return The bit set of the case styles in which the input is.
+   * @since 1.1
+   */
+  public static int detectAll(CharSequence input) {
+    return compile(CaseStyle.SNAKE).detect(input);
+  }
+
+  /**
+   * Detects the case style in which the input character sequence already is.
+   *
+   * <p>If the input is in multiple case styles, the first of them in the order of snake case, camel
+   * case, kebab case, macro case, pascal case, cobol case, train case, Ada case and title case is
+   * returned. For example, {@code "foo"} is detected as snake case and {@code "Foo"} as pascal
+   * case.
+   *
+   * @param input The input character sequence.
+   * @return The detected case style, or {@code null} if the input is in a mixed case.
+   * @see #detectAll(CharSequence)
+   * @since 1.1
+   */
+  public static CaseStyle detect(CharSequence input) {
+    return firstStyleOf(detectAll(input));
+  }
+
+  /**
+   * Detects the case style of each of the input character sequences with {@link
+   * #detect(CharSequence)}, and counts the inputs for each case style.
+   *
+   * <p>The returned array has the counts at the ordinals of the case styles, and the count of the
+   * inputs in mixed cases at the last index, which is {@code CaseStyle.values().length}.
+   *
+   * @param inputs The input character sequences.
+   * @return The counts of the inputs for each case style and for mixed cases.
+   * @since 1.1
+   */
+  public static long[] detectHistogram(Iterable<? extends CharSequence> inputs) {
+    var converter = compile(CaseStyle.SNAKE);
+    int mixed = CaseStyle.values().length;
+    var counts = new long[mixed + 1];
+    for (var input : inputs) {
+      var style = firstStyleOf(converter.detect(input));
+      counts[(style != null) ? style.ordinal() : mixed]++;
+    }
+    return counts;
+  }
+
+  private static CaseStyle firstStyleOf(int bits) {
+    if (bits != 0) {
+      for (var style : DETECTION_ORDER) {
+        if ((bits & (1 << style.ordinal())) != 0) {
+          return style;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns a {@link Comparator} which orders character sequences by the strings into which they
+   * are converted to the specified case style with the specified options.
+   *
+   * @param style The case style by whose conversions character sequences are ordered.
+   * @param opts The options which specifies the ways of case conversion.
+   * @return A {@link Comparator} object.
+   * @see CaseConverter#comparator()
+   * @since 1.1
+   */
+  public static Comparator<CharSequence> comparatorWithOptions(CaseStyle style, Options opts) {
+    return compile(style, opts).comparator();
+  }
+
+  /**
+   * Returns a {@link Comparator} which orders character sequences by the strings into which they
+   * are converted to the specified case style.
+   *
+   * <p>It treats the end of a sequence of non-alphabetical characters as a word boundary, but not
+   * the beginning. The same instance is returned for the same case style.
+   *
+   * @param style The case style by whose conversions character sequences are ordered.
+   * @return A {@link Comparator} object.
+   * @see CaseConverter#comparator()
+   * @since 1.1
+   */
+  public static Comparator<CharSequence> comparator(CaseStyle style) {
+    return compile(style).comparator();
   }
 }
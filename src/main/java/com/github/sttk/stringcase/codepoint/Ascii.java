@@ -4,9 +4,41 @@
  */
 package com.github.sttk.stringcase.codepoint;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
 public final class Ascii {
   private Ascii() {}
 
+  // Reads and writes eight bytes of a byte array at once as a long, whose lowest byte is the first.
+  private static final VarHandle LONGS =
+      MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+  private static final long ONES = 0x0101010101010101L;
+  private static final long HIGH_BITS = 0x8080808080808080L;
+  private static final long CASE_BITS = 0x2020202020202020L;
+
+  // The scanner of the runs of letters with the Vector API, which is used instead of the code of
+  // this class for arrays if the opt-in module com.github.sttk.stringcase.vector is found.
+  private static final RunScanner SCANNER = loadScanner();
+
+  // The Vector API is in the incubator module, which is not resolved unless it is added with the
+  // option "--add-modules jdk.incubator.vector", so the scanner is looked up only in that case.
+  private static RunScanner loadScanner() {
+    if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+      return null;
+    }
+    try {
+      return ServiceLoader.load(RunScanner.class).findFirst().orElse(null);
+    } catch (ServiceConfigurationError | LinkageError e) {
+      return null;
+    }
+  }
+
   public static boolean isUpperCase(int codepoint) {
     return (0x41 <= codepoint && codepoint <= 0x5a);
   }
@@ -19,6 +51,132 @@ public final class Ascii {
     return (0x30 <= codepoint && codepoint <= 0x39);
   }
 
+  // Returns the index of the first char from the start which is not an ASCII lowercase letter. If
+  // the char sequence is a buffer backed by an array, the array is scanned instead.
+  public static int lowerCaseRunEnd(CharSequence cs, int start, int end) {
+    if (cs instanceof CharBuffer cb && cb.hasArray()) {
+      int offset = cb.arrayOffset() + cb.position();
+      return lowerCaseRunEnd(cb.array(), offset + start, offset + end) - offset;
+    }
+    int i = start;
+    while (i < end && isLowerCase(cs.charAt(i))) {
+      i++;
+    }
+    return i;
+  }
+
+  public static int upperCaseRunEnd(CharSequence cs, int start, int end) {
+    if (cs instanceof CharBuffer cb && cb.hasArray()) {
+      int offset = cb.arrayOffset() + cb.position();
+      return upperCaseRunEnd(cb.array(), offset + start, offset + end) - offset;
+    }
+    int i = start;
+    while (i < end && isUpperCase(cs.charAt(i))) {
+      i++;
+    }
+    return i;
+  }
+
+  public static int lowerCaseRunEnd(char[] chars, int start, int end) {
+    if (SCANNER != null) {
+      return SCANNER.lowerCaseRunEnd(chars, start, end);
+    }
+    int i = start;
+    while (i < end && isLowerCase(chars[i])) {
+      i++;
+    }
+    return i;
+  }
+
+  public static int upperCaseRunEnd(char[] chars, int start, int end) {
+    if (SCANNER != null) {
+      return SCANNER.upperCaseRunEnd(chars, start, end);
+    }
+    int i = start;
+    while (i < end && isUpperCase(chars[i])) {
+      i++;
+    }
+    return i;
+  }
+
+  // Returns the index of the first byte from the start which is not an ASCII lowercase letter.
+  // Eight bytes are tested at once, and only the bytes after the last eight are tested one by one.
+  public static int lowerCaseRunEnd(byte[] bytes, int start, int end) {
+    if (SCANNER != null) {
+      return SCANNER.lowerCaseRunEnd(bytes, start, end);
+    }
+    int i = start;
+    for (; i + 8 <= end; i += 8) {
+      long outside = ~inRange((long) LONGS.get(bytes, i), 0x61, 0x7a) & HIGH_BITS;
+      if (outside != 0) {
+        return i + (Long.numberOfTrailingZeros(outside) >>> 3);
+      }
+    }
+    while (i < end && isLowerCase(bytes[i])) {
+      i++;
+    }
+    return i;
+  }
+
+  public static int upperCaseRunEnd(byte[] bytes, int start, int end) {
+    if (SCANNER != null) {
+      return SCANNER.upperCaseRunEnd(bytes, start, end);
+    }
+    int i = start;
+    for (; i + 8 <= end; i += 8) {
+      long outside = ~inRange((long) LONGS.get(bytes, i), 0x41, 0x5a) & HIGH_BITS;
+      if (outside != 0) {
+        return i + (Long.numberOfTrailingZeros(outside) >>> 3);
+      }
+    }
+    while (i < end && isUpperCase(bytes[i])) {
+      i++;
+    }
+    return i;
+  }
+
+  // Copies the bytes of ASCII letters, with their cases flipped if specified. The cases of eight
+  // letters are flipped at once by toggling the bit 0x20 of each byte.
+  public static void copyLetters(
+      byte[] src, int srcPos, byte[] dst, int dstPos, int length, boolean flipCase) {
+    if (!flipCase) {
+      System.arraycopy(src, srcPos, dst, dstPos, length);
+      return;
+    }
+    if (SCANNER != null) {
+      SCANNER.copyFlippingCases(src, srcPos, dst, dstPos, length);
+      return;
+    }
+    int i = 0;
+    for (; i + 8 <= length; i += 8) {
+      LONGS.set(dst, dstPos + i, (long) LONGS.get(src, srcPos + i) ^ CASE_BITS);
+    }
+    for (; i < length; i++) {
+      dst[dstPos + i] = (byte) (src[srcPos + i] ^ 0x20);
+    }
+  }
+
+  // Flips the cases of the ASCII letters in the specified range of the array in place.
+  public static void flipCases(char[] chars, int start, int end) {
+    if (SCANNER != null) {
+      SCANNER.flipCases(chars, start, end);
+      return;
+    }
+    for (int i = start; i < end; i++) {
+      chars[i] ^= 0x20;
+    }
+  }
+
+  // Returns a long whose each byte has its high bit set if the byte of the word is from lo to hi.
+  // The high bits are cleared before the additions so that no carry crosses the bytes, and a byte
+  // whose high bit was set, which is not ASCII, is excluded at last.
+  private static long inRange(long word, int lo, int hi) {
+    long low7 = word & ~HIGH_BITS;
+    long notLess = low7 + (0x80 - lo) * ONES;
+    long greater = low7 + (0x7f - hi) * ONES;
+    return notLess & ~greater & ~word & HIGH_BITS;
+  }
+
   public static int toUpperCase(int codepoint) {
     return (codepoint + 0x41 - 0x61);
   }
@@ -0,0 +1,61 @@
+/*
+ * CharArrayPool class.
+ * Copyright (C) 2026 Takayuki Sato. All Rights Reserved.
+ */
+package com.github.sttk.stringcase.codepoint;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// A small lock-free pool of scratch char arrays. An array is taken out of a slot by an atomic swap,
+// so it is used by only one caller at a time. The slots are not bound to threads, so this works
+// with virtual threads as well, which would each hold their own array with a ThreadLocal.
+public final class CharArrayPool {
+
+  static final int MIN_LENGTH = 64;
+  static final int PROBES = 4;
+
+  final AtomicReferenceArray<char[]> slots;
+  final int mask;
+  final int maxLength;
+
+  public CharArrayPool(int slotCount, int maxLength) {
+    int n = Integer.highestOneBit(Math.max(slotCount, 1) * 2 - 1);
+    this.slots = new AtomicReferenceArray<>(n);
+    this.mask = n - 1;
+    this.maxLength = maxLength;
+  }
+
+  // Returns a pooled array whose length is at least the specified length, or a new one if there is
+  // no such array in the slots near the one for the current thread.
+  public char[] acquire(int minLength) {
+    int start = startIndex();
+    for (int i = 0; i < PROBES; i++) {
+      int index = (start + i) & mask;
+      var chars = slots.get(index);
+      if (chars != null && chars.length >= minLength && slots.compareAndSet(index, chars, null)) {
+        return chars;
+      }
+    }
+    return new char[Math.max(minLength, MIN_LENGTH)];
+  }
+
+  // Puts the array back into an empty slot. An array longer than the maximum length is dropped, so
+  // that a rare huge input does not keep its buffer alive.
+  public void release(char[] chars) {
+    if (chars.length > maxLength) {
+      return;
+    }
+    int start = startIndex();
+    for (int i = 0; i < PROBES; i++) {
+      int index = (start + i) & mask;
+      if (slots.get(index) == null && slots.compareAndSet(index, null, chars)) {
+        return;
+      }
+    }
+  }
+
+  private int startIndex() {
+    long id = Thread.currentThread().threadId();
+    return (int) (id ^ (id >>> 32)) * 0x9e3779b9 >>> 16;
+  }
+}
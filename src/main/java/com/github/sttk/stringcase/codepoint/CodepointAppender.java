@@ -0,0 +1,76 @@
+/*
+ * CodepointAppender class.
+ * Copyright (C) 2026 Takayuki Sato. All Rights Reserved.
+ */
+package com.github.sttk.stringcase.codepoint;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+public final class CodepointAppender implements CodepointSink {
+
+  private static final int NONE = -1;
+
+  final Appendable out;
+
+  // The last code point is held back until the next one comes, because it can be replaced.
+  int pending = NONE;
+
+  public CodepointAppender(Appendable out) {
+    this.out = out;
+  }
+
+  @Override
+  public void append(int cp) {
+    if (pending != NONE) {
+      write(pending);
+    }
+    pending = cp;
+  }
+
+  @Override
+  public void append(int cp0, int cp1) {
+    append(cp0);
+    append(cp1);
+  }
+
+  @Override
+  public int last() {
+    if (pending == NONE) {
+      throw new IndexOutOfBoundsException("No code point which can be replaced");
+    }
+    return pending;
+  }
+
+  @Override
+  public void replaceLast(int cp0, int cp1) {
+    pending = cp0;
+    append(cp1);
+  }
+
+  @Override
+  public void replaceLast(int cp0, int cp1, int cp2) {
+    pending = cp0;
+    append(cp1);
+    append(cp2);
+  }
+
+  public void flush() {
+    if (pending != NONE) {
+      write(pending);
+      pending = NONE;
+    }
+  }
+
+  private void write(int cp) {
+    try {
+      if (Character.isBmpCodePoint(cp)) {
+        out.append((char) cp);
+      } else {
+        out.append(Character.highSurrogate(cp)).append(Character.lowSurrogate(cp));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
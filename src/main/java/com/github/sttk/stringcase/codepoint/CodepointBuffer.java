@@ -4,51 +4,113 @@
  */
 package com.github.sttk.stringcase.codepoint;
 
-public final class CodepointBuffer {
+import java.util.Arrays;
 
-  final StringBuilder buf;
-  int lastCpIndex = 0;
+public final class CodepointBuffer implements CodepointSink {
+
+  char[] chars;
+  int length;
+  int lastCpIndex;
 
   public CodepointBuffer(int capacity) {
-    buf = new StringBuilder(capacity);
-  }
-
-  public void append(int... cps) {
-    switch (cps.length) {
-      case 0:
-        return;
-      case 1:
-        lastCpIndex = buf.length();
-        buf.appendCodePoint(cps[0]);
-        return;
-      default:
-        buf.append(new String(cps, 0, cps.length));
-        lastCpIndex = buf.length() - Character.charCount(cps[cps.length - 1]);
+    this.chars = new char[capacity];
+  }
+
+  public CodepointBuffer(char[] chars) {
+    this.chars = chars;
+  }
+
+  @Override
+  public void append(int cp) {
+    lastCpIndex = length;
+    put(cp);
+  }
+
+  @Override
+  public void append(int cp0, int cp1) {
+    put(cp0);
+    append(cp1);
+  }
+
+  // Returns the array which this buffer writes into, which may be replaced by a larger one.
+  public char[] chars() {
+    return chars;
+  }
+
+  @Override
+  public void appendRun(CharSequence src, int start, int end, boolean flipCase) {
+    int n = end - start;
+    if (length + n > chars.length) {
+      grow(length + n);
+    }
+    if (src instanceof String str) {
+      str.getChars(start, end, chars, length);
+      if (flipCase) {
+        Ascii.flipCases(chars, length, length + n);
+      }
+    } else {
+      int flip = flipCase ? 0x20 : 0;
+      for (int i = start, j = length; i < end; i++, j++) {
+        chars[j] = (char) (src.charAt(i) ^ flip);
+      }
     }
+    length += n;
+    lastCpIndex = length - 1;
+  }
+
+  public void clear() {
+    length = 0;
+    lastCpIndex = 0;
   }
 
   public boolean isEmpty() {
-    return (buf.length() == 0);
+    return (length == 0);
   }
 
+  @Override
   public int last() {
-    return buf.codePointAt(lastCpIndex);
+    if (lastCpIndex == length) {
+      throw new IndexOutOfBoundsException("No code point which can be replaced");
+    }
+    return Character.codePointAt(chars, lastCpIndex, length);
   }
 
-  public void replaceLast(int cp0, int... cps) {
-    buf.delete(lastCpIndex, buf.length());
-
-    buf.appendCodePoint(cp0);
-    if (cps.length == 0) {
-      return;
-    }
+  @Override
+  public void replaceLast(int cp0, int cp1) {
+    length = lastCpIndex;
+    put(cp0);
+    append(cp1);
+  }
 
-    buf.append(new String(cps, 0, cps.length));
-    lastCpIndex = buf.length() - Character.charCount(cps[cps.length - 1]);
+  @Override
+  public void replaceLast(int cp0, int cp1, int cp2) {
+    length = lastCpIndex;
+    put(cp0);
+    put(cp1);
+    append(cp2);
   }
 
   @Override
   public String toString() {
-    return buf.toString();
+    return new String(chars, 0, length);
+  }
+
+  private void put(int cp) {
+    if (Character.isBmpCodePoint(cp)) {
+      if (length == chars.length) {
+        grow(length + 1);
+      }
+      chars[length++] = (char) cp;
+    } else {
+      if (length + 2 > chars.length) {
+        grow(length + 2);
+      }
+      chars[length++] = Character.highSurrogate(cp);
+      chars[length++] = Character.lowSurrogate(cp);
+    }
+  }
+
+  private void grow(int minCapacity) {
+    chars = Arrays.copyOf(chars, Math.max(minCapacity, chars.length << 1));
   }
 }
@@ -0,0 +1,62 @@
+/*
+ * CodepointBuilder class.
+ * Copyright (C) 2026 Takayuki Sato. All Rights Reserved.
+ */
+package com.github.sttk.stringcase.codepoint;
+
+public final class CodepointBuilder implements CodepointSink {
+
+  final StringBuilder buf;
+  int lastCpIndex;
+
+  public CodepointBuilder(StringBuilder buf) {
+    this.buf = buf;
+    this.lastCpIndex = buf.length();
+  }
+
+  @Override
+  public void append(int cp) {
+    lastCpIndex = buf.length();
+    buf.appendCodePoint(cp);
+  }
+
+  @Override
+  public void append(int cp0, int cp1) {
+    buf.appendCodePoint(cp0);
+    append(cp1);
+  }
+
+  @Override
+  public void appendRun(CharSequence src, int start, int end, boolean flipCase) {
+    if (flipCase) {
+      for (int i = start; i < end; i++) {
+        buf.append((char) (src.charAt(i) ^ 0x20));
+      }
+    } else {
+      buf.append(src, start, end);
+    }
+    lastCpIndex = buf.length() - 1;
+  }
+
+  @Override
+  public int last() {
+    if (lastCpIndex == buf.length()) {
+      throw new IndexOutOfBoundsException("No code point which can be replaced");
+    }
+    return buf.codePointAt(lastCpIndex);
+  }
+
+  @Override
+  public void replaceLast(int cp0, int cp1) {
+    buf.setLength(lastCpIndex);
+    buf.appendCodePoint(cp0);
+    append(cp1);
+  }
+
+  @Override
+  public void replaceLast(int cp0, int cp1, int cp2) {
+    buf.setLength(lastCpIndex);
+    buf.appendCodePoint(cp0).appendCodePoint(cp1);
+    append(cp2);
+  }
+}
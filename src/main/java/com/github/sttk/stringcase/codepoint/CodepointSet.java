@@ -0,0 +1,54 @@
+/*
+ * CodepointSet class.
+ * Copyright (C) 2026 Takayuki Sato. All Rights Reserved.
+ */
+package com.github.sttk.stringcase.codepoint;
+
+import java.util.Arrays;
+
+// Holds the ASCII members in a 128-bit bitmap of two longs, so that testing an ASCII char costs a
+// shift and a mask, and the non-ASCII members in a sorted array, which is scanned linearly while it
+// is short and searched by bisection otherwise.
+public final class CodepointSet {
+
+  private static final int MAX_LINEAR_SEARCH = 8;
+
+  final long low;
+  final long high;
+  final int[] nonAscii;
+
+  public CodepointSet(String chars) {
+    long low = 0L;
+    long high = 0L;
+    for (int i = 0; i < chars.length(); i++) {
+      char ch = chars.charAt(i);
+      if (ch < 0x40) {
+        low |= 1L << ch;
+      } else if (ch < 0x80) {
+        high |= 1L << ch;
+      }
+    }
+    this.low = low;
+    this.high = high;
+    this.nonAscii = chars.codePoints().filter(cp -> cp >= 0x80).sorted().distinct().toArray();
+  }
+
+  public boolean contains(int codepoint) {
+    if (codepoint < 0x40) {
+      return ((low >>> codepoint) & 1L) != 0L;
+    }
+    if (codepoint < 0x80) {
+      return ((high >>> codepoint) & 1L) != 0L;
+    }
+    var members = nonAscii;
+    if (members.length > MAX_LINEAR_SEARCH) {
+      return Arrays.binarySearch(members, codepoint) >= 0;
+    }
+    for (int member : members) {
+      if (member >= codepoint) {
+        return member == codepoint;
+      }
+    }
+    return false;
+  }
+}
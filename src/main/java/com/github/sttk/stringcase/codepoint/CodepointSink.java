@@ -0,0 +1,27 @@
+/*
+ * CodepointSink interface.
+ * Copyright (C) 2026 Takayuki Sato. All Rights Reserved.
+ */
+package com.github.sttk.stringcase.codepoint;
+
+public interface CodepointSink {
+
+  void append(int cp);
+
+  void append(int cp0, int cp1);
+
+  // Appends a run of ASCII letters of the source, with their cases flipped if specified. The last
+  // of them becomes the last code point.
+  default void appendRun(CharSequence src, int start, int end, boolean flipCase) {
+    int flip = flipCase ? 0x20 : 0;
+    for (int i = start; i < end; i++) {
+      append(src.charAt(i) ^ flip);
+    }
+  }
+
+  int last();
+
+  void replaceLast(int cp0, int cp1);
+
+  void replaceLast(int cp0, int cp1, int cp2);
+}
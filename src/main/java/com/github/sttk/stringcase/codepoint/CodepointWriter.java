@@ -0,0 +1,142 @@
+/*
+ * CodepointWriter class.
+ * Copyright (C) 2026 Takayuki Sato. All Rights Reserved.
+ */
+package com.github.sttk.stringcase.codepoint;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+// Collects the code points into a fixed array, and writes them to the writer in blocks when the
+// array is full. The last code point is held back in the array, because it can be replaced.
+public final class CodepointWriter implements CodepointSink {
+
+  // The minimum capacity, which holds the last code point and the replacement of it with up to
+  // three code points.
+  private static final int MIN_CAPACITY = 8;
+
+  final Writer out;
+  final char[] chars;
+  int length;
+  int lastCpIndex;
+
+  public CodepointWriter(Writer out, int capacity) {
+    this.out = out;
+    this.chars = new char[Math.max(capacity, MIN_CAPACITY)];
+  }
+
+  @Override
+  public void append(int cp) {
+    ensure(2);
+    lastCpIndex = length;
+    put(cp);
+  }
+
+  @Override
+  public void append(int cp0, int cp1) {
+    ensure(4);
+    put(cp0);
+    lastCpIndex = length;
+    put(cp1);
+  }
+
+  @Override
+  public void appendRun(CharSequence src, int start, int end, boolean flipCase) {
+    int flip = flipCase ? 0x20 : 0;
+    while (start < end) {
+      if (length == chars.length) {
+        flushBeforeLast();
+      }
+      int n = Math.min(end - start, chars.length - length);
+      if (src instanceof String str) {
+        str.getChars(start, start + n, chars, length);
+        if (flipCase) {
+          Ascii.flipCases(chars, length, length + n);
+        }
+      } else if (src instanceof CharBuffer cb && cb.hasArray()) {
+        System.arraycopy(cb.array(), cb.arrayOffset() + cb.position() + start, chars, length, n);
+        if (flipCase) {
+          Ascii.flipCases(chars, length, length + n);
+        }
+      } else {
+        for (int i = start, j = length; i < start + n; i++, j++) {
+          chars[j] = (char) (src.charAt(i) ^ flip);
+        }
+      }
+      start += n;
+      length += n;
+      lastCpIndex = length - 1;
+    }
+  }
+
+  @Override
+  public int last() {
+    if (lastCpIndex == length) {
+      throw new IndexOutOfBoundsException("No code point which can be replaced");
+    }
+    return Character.codePointAt(chars, lastCpIndex, length);
+  }
+
+  @Override
+  public void replaceLast(int cp0, int cp1) {
+    length = lastCpIndex;
+    ensure(4);
+    put(cp0);
+    lastCpIndex = length;
+    put(cp1);
+  }
+
+  @Override
+  public void replaceLast(int cp0, int cp1, int cp2) {
+    length = lastCpIndex;
+    ensure(6);
+    put(cp0);
+    put(cp1);
+    lastCpIndex = length;
+    put(cp2);
+  }
+
+  // Writes the collected chars but the last code point, which can still be replaced.
+  public void flushBeforeLast() {
+    int n = lastCpIndex;
+    write(n);
+    System.arraycopy(chars, n, chars, 0, length - n);
+    length -= n;
+    lastCpIndex = 0;
+  }
+
+  // Writes all the collected chars including the last code point.
+  public void flush() {
+    write(length);
+    length = 0;
+    lastCpIndex = 0;
+  }
+
+  private void ensure(int n) {
+    if (length + n > chars.length) {
+      flushBeforeLast();
+    }
+  }
+
+  private void put(int cp) {
+    if (Character.isBmpCodePoint(cp)) {
+      chars[length++] = (char) cp;
+    } else {
+      chars[length++] = Character.highSurrogate(cp);
+      chars[length++] = Character.lowSurrogate(cp);
+    }
+  }
+
+  private void write(int n) {
+    if (n == 0) {
+      return;
+    }
+    try {
+      out.write(chars, 0, n);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
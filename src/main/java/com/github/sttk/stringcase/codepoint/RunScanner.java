@@ -0,0 +1,31 @@
+/*
+ * RunScanner interface.
+ * Copyright (C) 2026 Takayuki Sato. All Rights Reserved.
+ */
+package com.github.sttk.stringcase.codepoint;
+
+// Finds and copies the runs of ASCII letters in arrays, many elements at a step.
+//
+// This is the service which the opt-in module com.github.sttk.stringcase.vector provides with the
+// incubator Vector API, and which Ascii uses instead of its own code only if the module is found.
+// So the methods must return the same results as the ones of Ascii.
+public interface RunScanner {
+
+  // Returns the index of the first byte from the start which is not an ASCII lowercase letter.
+  int lowerCaseRunEnd(byte[] bytes, int start, int end);
+
+  // Returns the index of the first byte from the start which is not an ASCII uppercase letter.
+  int upperCaseRunEnd(byte[] bytes, int start, int end);
+
+  // Returns the index of the first char from the start which is not an ASCII lowercase letter.
+  int lowerCaseRunEnd(char[] chars, int start, int end);
+
+  // Returns the index of the first char from the start which is not an ASCII uppercase letter.
+  int upperCaseRunEnd(char[] chars, int start, int end);
+
+  // Copies the bytes of ASCII letters with their cases flipped.
+  void copyFlippingCases(byte[] src, int srcPos, byte[] dst, int dstPos, int length);
+
+  // Flips the cases of the ASCII letters in the specified range of the array in place.
+  void flipCases(char[] chars, int start, int end);
+}
@@ -0,0 +1,101 @@
+/*
+ * Utf8 class.
+ * Copyright (C) 2026 Takayuki Sato. All Rights Reserved.
+ */
+package com.github.sttk.stringcase.codepoint;
+
+import java.nio.ByteBuffer;
+
+public final class Utf8 {
+  private Utf8() {}
+
+  public static final int REPLACEMENT_CHARACTER = 0xfffd;
+
+  private static final int QUESTION_MARK = 0x3f;
+
+  // Decodes a code point at the index and returns it packed with its byte length as
+  // (length << 24 | codepoint). A malformed sequence is decoded into U+FFFD per its maximal
+  // subpart, and an encoded surrogate is decoded into one U+FFFD, as same as
+  // new String(bytes, UTF_8) does.
+  public static int decode(ByteBuffer buf, int index, int limit) {
+    int b0 = buf.get(index) & 0xff;
+    if (b0 < 0x80) {
+      return pack(b0, 1);
+    }
+
+    int n;
+    int lo = 0x80;
+    int hi = 0xbf;
+    if (b0 < 0xc2) {
+      return pack(REPLACEMENT_CHARACTER, 1);
+    } else if (b0 < 0xe0) {
+      n = 2;
+    } else if (b0 < 0xf0) {
+      n = 3;
+      if (b0 == 0xe0) {
+        lo = 0xa0;
+      }
+    } else if (b0 < 0xf5) {
+      n = 4;
+      if (b0 == 0xf0) {
+        lo = 0x90;
+      } else if (b0 == 0xf4) {
+        hi = 0x8f;
+      }
+    } else {
+      return pack(REPLACEMENT_CHARACTER, 1);
+    }
+
+    int cp = b0 & (0xff >>> (n + 1));
+    for (int i = 1; i < n; i++) {
+      if (index + i >= limit) {
+        return pack(REPLACEMENT_CHARACTER, i);
+      }
+      int b = buf.get(index + i) & 0xff;
+      if (b < lo || b > hi) {
+        return pack(REPLACEMENT_CHARACTER, i);
+      }
+      cp = (cp << 6) | (b & 0x3f);
+      lo = 0x80;
+      hi = 0xbf;
+    }
+    if (Character.MIN_SURROGATE <= cp && cp <= Character.MAX_SURROGATE) {
+      return pack(REPLACEMENT_CHARACTER, n);
+    }
+    return pack(cp, n);
+  }
+
+  public static int codepoint(int packed) {
+    return packed & 0xffffff;
+  }
+
+  public static int length(int packed) {
+    return packed >>> 24;
+  }
+
+  private static int pack(int cp, int length) {
+    return (length << 24) | cp;
+  }
+
+  // Encodes a code point into the buffer. An unpaired surrogate is encoded as '?', as same as the
+  // encoder of the JDK does.
+  public static void encode(int cp, ByteBuffer buf) {
+    if (cp < 0x80) {
+      buf.put((byte) cp);
+    } else if (cp < 0x800) {
+      buf.put((byte) (0xc0 | (cp >>> 6)));
+      buf.put((byte) (0x80 | (cp & 0x3f)));
+    } else if (Character.MIN_SURROGATE <= cp && cp <= Character.MAX_SURROGATE) {
+      buf.put((byte) QUESTION_MARK);
+    } else if (cp < 0x10000) {
+      buf.put((byte) (0xe0 | (cp >>> 12)));
+      buf.put((byte) (0x80 | ((cp >>> 6) & 0x3f)));
+      buf.put((byte) (0x80 | (cp & 0x3f)));
+    } else {
+      buf.put((byte) (0xf0 | (cp >>> 18)));
+      buf.put((byte) (0x80 | ((cp >>> 12) & 0x3f)));
+      buf.put((byte) (0x80 | ((cp >>> 6) & 0x3f)));
+      buf.put((byte) (0x80 | (cp & 0x3f)));
+    }
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Utf8Buffer class.
+ * Copyright (C) 2026 Takayuki Sato. All Rights Reserved.
+ */
+package com.github.sttk.stringcase.codepoint;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+public final class Utf8Buffer implements CodepointSink {
+
+  final ByteBuffer buf;
+  int lastCpPos = -1;
+  int lastCp;
+
+  public Utf8Buffer(ByteBuffer buf) {
+    this.buf = buf;
+  }
+
+  @Override
+  public void append(int cp) {
+    lastCpPos = buf.position();
+    lastCp = cp;
+    Utf8.encode(cp, buf);
+  }
+
+  @Override
+  public void append(int cp0, int cp1) {
+    Utf8.encode(cp0, buf);
+    append(cp1);
+  }
+
+  // Appends a run of ASCII letters of the source bytes, with their cases flipped if specified.
+  public void appendRun(byte[] src, int start, int end, boolean flipCase) {
+    int n = end - start;
+    if (buf.hasArray()) {
+      if (buf.remaining() < n) {
+        throw new BufferOverflowException();
+      }
+      int pos = buf.position();
+      Ascii.copyLetters(src, start, buf.array(), buf.arrayOffset() + pos, n, flipCase);
+      buf.position(pos + n);
+    } else {
+      int flip = flipCase ? 0x20 : 0;
+      for (int i = start; i < end; i++) {
+        buf.put((byte) (src[i] ^ flip));
+      }
+    }
+    lastCpPos = buf.position() - 1;
+    lastCp = src[end - 1] ^ (flipCase ? 0x20 : 0);
+  }
+
+  @Override
+  public int last() {
+    if (lastCpPos < 0) {
+      throw new IndexOutOfBoundsException("No code point which can be replaced");
+    }
+    return lastCp;
+  }
+
+  @Override
+  public void replaceLast(int cp0, int cp1) {
+    buf.position(lastCpPos);
+    append(cp0, cp1);
+  }
+
+  @Override
+  public void replaceLast(int cp0, int cp1, int cp2) {
+    buf.position(lastCpPos);
+    Utf8.encode(cp0, buf);
+    append(cp1, cp2);
+  }
+}
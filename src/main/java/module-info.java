@@ -6,8 +6,17 @@
 /**
  * Contains a package for converting strings to various naming conventions.
  *
+ * <p>The runs of letters in long inputs are found and copied with the incubator Vector API if the
+ * opt-in module {@code com.github.sttk.stringcase.vector} is on the module path, or is on the class
+ * path and the incubator module is added with {@code --add-modules jdk.incubator.vector}.
+ *
  * @version 1.0
  */
+@SuppressWarnings("module")
 module com.github.sttk.stringcase {
   exports com.github.sttk.stringcase;
+  exports com.github.sttk.stringcase.codepoint to
+      com.github.sttk.stringcase.vector;
+
+  uses com.github.sttk.stringcase.codepoint.RunScanner;
 }
@@ -0,0 +1,127 @@
+package com.github.sttk.stringcase;
+
+import static com.github.sttk.stringcase.StringCase.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("missing-explicit-ctor")
+public class CachingCaseConverterTest {
+
+  @Test
+  void convertAndReturnSameInstanceOnHit() {
+    var cache = new CachingCaseConverter(compile(CaseStyle.SNAKE), 100);
+    assertThat(cache.maximumSize()).isEqualTo(100);
+    assertThat(cache.converter()).isSameAs(compile(CaseStyle.SNAKE));
+
+    var first = cache.convert("userId");
+    assertThat(first).isEqualTo("user_id");
+    assertThat(cache.hitCount()).isEqualTo(0);
+    assertThat(cache.missCount()).isEqualTo(1);
+    assertThat(cache.size()).isEqualTo(1);
+
+    var second = cache.convert(new String("userId"));
+    assertThat(second).isSameAs(first);
+    assertThat(cache.hitCount()).isEqualTo(1);
+    assertThat(cache.missCount()).isEqualTo(1);
+
+    assertThat(cache.convert("createdAt")).isEqualTo("created_at");
+    assertThat(cache.convert("")).isEqualTo("");
+    assertThat(cache.size()).isEqualTo(3);
+  }
+
+  @Test
+  void convertWithOptions() {
+    var opts = new Options(true, false, "-", "_");
+    var cache = new CachingCaseConverter(compile(CaseStyle.CAMEL, opts), 10);
+    var input = "abc-123_def";
+    assertThat(cache.convert(input)).isEqualTo(camelCaseWithOptions(input, opts));
+    assertThat(cache.convert(input)).isEqualTo(camelCaseWithOptions(input, opts));
+    assertThat(cache.hitCount()).isEqualTo(1);
+  }
+
+  @Test
+  void evictWhenFull() {
+    var cache = new CachingCaseConverter(compile(CaseStyle.KEBAB), 32);
+    for (int i = 0; i < 1000; i++) {
+      var input = "key" + i + "Name";
+      assertThat(cache.convert(input)).isEqualTo(kebabCase(input));
+      assertThat(cache.size()).isLessThanOrEqualTo(32);
+    }
+    assertThat(cache.missCount()).isEqualTo(1000);
+    assertThat(cache.evictionCount()).isEqualTo(1000 - cache.size());
+  }
+
+  @Test
+  void evictLeastRecentlyUsed() {
+    var cache = new CachingCaseConverter(compile(CaseStyle.MACRO), 1);
+    var a = cache.convert("fooBar");
+    assertThat(cache.convert("fooBar")).isSameAs(a);
+    cache.convert("bazQux");
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cache.evictionCount()).isEqualTo(1);
+    assertThat(cache.convert("fooBar")).isNotSameAs(a).isEqualTo("FOO_BAR");
+  }
+
+  @Test
+  void clear() {
+    var cache = new CachingCaseConverter(compile(CaseStyle.SNAKE), 10);
+    cache.convert("fooBar");
+    cache.convert("fooBar");
+    cache.clear();
+    assertThat(cache.size()).isEqualTo(0);
+    assertThat(cache.hitCount()).isEqualTo(1);
+    assertThat(cache.missCount()).isEqualTo(1);
+  }
+
+  @Test
+  void convertConcurrently() throws Exception {
+    var cache = new CachingCaseConverter(compile(CaseStyle.SNAKE), 64);
+    var executor = Executors.newFixedThreadPool(4);
+    try {
+      var tasks = new ArrayList<Callable<Boolean>>();
+      for (int t = 0; t < 4; t++) {
+        tasks.add(
+            () -> {
+              for (int i = 0; i < 10_000; i++) {
+                var input = "fieldName" + (i % 100);
+                if (!cache.convert(input).equals(snakeCase(input))) {
+                  return false;
+                }
+              }
+              return true;
+            });
+      }
+      for (var future : executor.invokeAll(tasks)) {
+        assertThat(future.get()).isTrue();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertThat(cache.hitCount() + cache.missCount()).isEqualTo(40_000);
+    assertThat(cache.size()).isLessThanOrEqualTo(64);
+  }
+
+  @Test
+  void throwIfMaximumSizeIsInvalid() {
+    try {
+      new CachingCaseConverter(compile(CaseStyle.SNAKE), 0);
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertThat(e.getMessage()).isEqualTo("The maximum size must be at least 1: 0");
+    }
+  }
+
+  @Test
+  void throwIfConverterIsNull() {
+    try {
+      new CachingCaseConverter(null, 16);
+      fail();
+    } catch (NullPointerException e) {
+    }
+  }
+}
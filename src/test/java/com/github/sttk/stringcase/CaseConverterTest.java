@@ -0,0 +1,1423 @@
+package com.github.sttk.stringcase;
+
+import static com.github.sttk.stringcase.StringCase.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("missing-explicit-ctor")
+public class CaseConverterTest {
+
+  @Nested
+  class Compile {
+    @Test
+    void convertWithDefaultOptions() {
+      var input = "abc123-456defG89HIJklMN12";
+      assertThat(compile(CaseStyle.ADA).convert(input)).isEqualTo(adaCase(input));
+      assertThat(compile(CaseStyle.CAMEL).convert(input)).isEqualTo(camelCase(input));
+      assertThat(compile(CaseStyle.COBOL).convert(input)).isEqualTo(cobolCase(input));
+      assertThat(compile(CaseStyle.KEBAB).convert(input)).isEqualTo(kebabCase(input));
+      assertThat(compile(CaseStyle.MACRO).convert(input)).isEqualTo(macroCase(input));
+      assertThat(compile(CaseStyle.PASCAL).convert(input)).isEqualTo(pascalCase(input));
+      assertThat(compile(CaseStyle.SNAKE).convert(input)).isEqualTo(snakeCase(input));
+      assertThat(compile(CaseStyle.TITLE).convert(input)).isEqualTo(titleCase(input));
+      assertThat(compile(CaseStyle.TRAIN).convert(input)).isEqualTo(trainCase(input));
+
+      assertThat(compile(CaseStyle.SNAKE).convert(input))
+          .isEqualTo("abc123_456_def_g89_hi_jkl_mn12");
+    }
+
+    @Test
+    void returnSameInstanceForDefaultOptions() {
+      for (var style : CaseStyle.values()) {
+        assertThat(compile(style)).isSameAs(compile(style));
+      }
+    }
+
+    @Test
+    void returnSameInstanceForSameOptions() {
+      var opts = new Options(true, true, "-_", null);
+      for (var style : CaseStyle.values()) {
+        assertThat(compile(style, opts)).isSameAs(compile(style, opts));
+        assertThat(compile(style, opts)).isNotSameAs(compile(style));
+        assertThat(compile(style, opts))
+            .isNotSameAs(compile(style, new Options(true, true, "-_", null)));
+      }
+      assertThat(compile(CaseStyle.SNAKE, opts)).isNotSameAs(compile(CaseStyle.KEBAB, opts));
+      assertThat(compile(CaseStyle.SNAKE, opts).convert("abc-def_Ghi")).isEqualTo("abc_def_ghi");
+    }
+
+    @Test
+    void convertWithOptions() {
+      var opts = new Options(true, true, "-_", null);
+      var input = ":.abc~!@def#$ghi%&jk(lm)no/?";
+      var converter = compile(CaseStyle.SNAKE, opts);
+      assertThat(converter.convert(input)).isEqualTo(snakeCaseWithOptions(input, opts));
+      assertThat(converter.convert(input)).isEqualTo(":._abc_~!@_def_#$_ghi_%&_jk_(_lm_)_no_/?");
+
+      opts = new Options(false, true, null, "%");
+      converter = compile(CaseStyle.CAMEL, opts);
+      assertThat(converter.convert(input)).isEqualTo(camelCaseWithOptions(input, opts));
+      assertThat(converter.convert(input)).isEqualTo("abcDefGhi%JkLmNo");
+    }
+
+    @Test
+    void shareParsedCharsOfSameOptions() {
+      var opts = new Options(false, true, "-_👍", null);
+      var snake = compile(CaseStyle.SNAKE, opts);
+      var kebab = compile(CaseStyle.KEBAB, opts);
+      assertThat(snake.sepChs).isNotNull().isSameAs(kebab.sepChs);
+      assertThat(snake.keptChs).isNull();
+      assertThat(snake.convert("abc-def👍Ghi.jk")).isEqualTo("abc_def_ghi._jk");
+
+      opts = new Options(false, true, null, ".");
+      assertThat(compile(CaseStyle.CAMEL, opts).keptChs)
+          .isNotNull()
+          .isSameAs(compile(CaseStyle.TITLE, opts).keptChs);
+
+      opts = new Options(false, true, "", "");
+      assertThat(compile(CaseStyle.CAMEL, opts).sepChs).isNull();
+      assertThat(compile(CaseStyle.CAMEL, opts).keptChs).isNull();
+    }
+
+    @Test
+    void convertEmpty() {
+      for (var style : CaseStyle.values()) {
+        assertThat(compile(style).convert("")).isEqualTo("");
+      }
+    }
+
+    @Test
+    void convertWithSurrogatePairs() {
+      var converter = compile(CaseStyle.SNAKE, new Options(false, true, null, "👍"));
+      assertThat(converter.convert("abc👍Def")).isEqualTo("abc👍_def");
+      assertThat(converter.convert("👍abc😀def")).isEqualTo("👍_abc_def");
+
+      converter = compile(CaseStyle.KEBAB, new Options(false, true, "👍", null));
+      assertThat(converter.convert("abc👍Def😀ghi")).isEqualTo("abc-def😀-ghi");
+    }
+
+    @Test
+    void convertWithUnpairedSurrogates() {
+      assertThat(compile(CaseStyle.SNAKE).convert("abc\uD800def\uDC00")).isEqualTo("abc_def");
+
+      var converter = compile(CaseStyle.SNAKE, new Options(false, true, "-", null));
+      assertThat(converter.convert("abc\uD800def\uDC00")).isEqualTo("abc\uD800_def\uDC00");
+      assertThat(converter.convert("\uDC00\uD800")).isEqualTo("\uDC00\uD800");
+    }
+
+    @Test
+    void reuseConverter() {
+      var converter = compile(CaseStyle.MACRO, new Options(true, true, null, null));
+      assertThat(converter.convert("fooBar123Baz")).isEqualTo("FOO_BAR_123_BAZ");
+      assertThat(converter.convert("abcDefGHIjk")).isEqualTo("ABC_DEF_GH_IJK");
+      assertThat(converter.convert("fooBar123Baz")).isEqualTo("FOO_BAR_123_BAZ");
+    }
+  }
+
+  @Nested
+  class CompileWithJoiner {
+    @Test
+    void upperize() {
+      var opts = new Options(true, true, null, null);
+      var converter = compileUpperize('.', opts);
+      assertThat(converter.convert("fooBar123Baz")).isEqualTo("FOO.BAR.123.BAZ");
+      assertThat(converter.convert("fooBar123Baz"))
+          .isEqualTo(StringCase.upperize("fooBar123Baz", '.', opts));
+    }
+
+    @Test
+    void lowerize() {
+      var opts = new Options(true, true, null, null);
+      var converter = compileLowerize('.', opts);
+      assertThat(converter.convert("fooBar123Baz")).isEqualTo("foo.bar.123.baz");
+      assertThat(converter.convert("fooBar123Baz"))
+          .isEqualTo(StringCase.lowerize("fooBar123Baz", '.', opts));
+    }
+
+    @Test
+    void capitalize() {
+      var opts = new Options(true, true, null, null);
+      var converter = compileCapitalize('.', opts);
+      assertThat(converter.convert("fooBar123Baz")).isEqualTo("Foo.Bar.123.Baz");
+      assertThat(converter.convert("fooBar123Baz"))
+          .isEqualTo(StringCase.capitalize("fooBar123Baz", '.', opts));
+    }
+
+    @Test
+    void returnSameInstance() {
+      var opts = new Options(true, true, "-_", null);
+      for (var joiner : new int[] {'.', '-', 0x1F600}) {
+        assertThat(compileUpperize(joiner, opts)).isSameAs(compileUpperize(joiner, opts));
+        assertThat(compileLowerize(joiner, opts)).isSameAs(compileLowerize(joiner, opts));
+        assertThat(compileCapitalize(joiner, opts)).isSameAs(compileCapitalize(joiner, opts));
+        assertThat(compileUpperize(joiner, opts))
+            .isNotSameAs(compileUpperize(joiner, new Options(true, true, "-_", null)));
+      }
+      assertThat(compileUpperize('.', opts)).isNotSameAs(compileUpperize('-', opts));
+      assertThat(compileUpperize('.', opts)).isNotSameAs(compileLowerize('.', opts));
+      assertThat(compileLowerize('.', opts)).isNotSameAs(compileCapitalize('.', opts));
+
+      assertThat(compileUpperize('.', opts).convert("abc-def_Ghi")).isEqualTo("ABC.DEF.GHI");
+      assertThat(compileLowerize('-', opts).convert("abc-def_Ghi")).isEqualTo("abc-def-ghi");
+      assertThat(compileCapitalize(0x1F600, opts).convert("abc-def_Ghi"))
+          .isEqualTo("Abc\ud83d\ude00Def\ud83d\ude00Ghi");
+      assertThat(compileCapitalize(0x1F44D, opts).convert("abc-def_Ghi"))
+          .isEqualTo("Abc\ud83d\udc4dDef\ud83d\udc4dGhi");
+      assertThat(compileCapitalize(0x1F600, opts).convert("abc-def_Ghi"))
+          .isEqualTo("Abc\ud83d\ude00Def\ud83d\ude00Ghi");
+    }
+  }
+
+  @Nested
+  class ConvertToAppendable {
+    @Test
+    void appendToStringBuilder() {
+      var output = new StringBuilder("xyz:");
+      compile(CaseStyle.SNAKE).convert("abcDefGHIjk", output);
+      assertThat(output.toString()).isEqualTo("xyz:abc_def_gh_ijk");
+    }
+
+    @Test
+    void appendToWriter() throws IOException {
+      for (var style : CaseStyle.values()) {
+        var converter = compile(style);
+        for (var input : new String[] {"abcDefGHIjk", "ABCdEF", "123ABC456DEF", "👍ABCd", ""}) {
+          var output = new StringWriter();
+          converter.convert(input, output);
+          assertThat(output.toString()).isEqualTo(converter.convert(input));
+        }
+      }
+    }
+
+    @Test
+    void appendToWriterWithOptions() throws IOException {
+      var opts = new Options(true, true, "-", null);
+      var converter = compile(CaseStyle.TRAIN, opts);
+      var output = new StringWriter();
+      output.append("xyz:");
+      converter.convert(new StringBuilder("abcDEFghi-JKL$mn😀"), (Appendable) output);
+      assertThat(output.toString()).isEqualTo("xyz:Abc-De-Fghi-Jkl-$-Mn-😀");
+    }
+
+    @Test
+    void throwIOException() {
+      var output =
+          new Writer() {
+            @Override
+            public void write(char[] cbuf, int off, int len) throws IOException {
+              throw new IOException("fail");
+            }
+
+            @Override
+            public void flush() {}
+
+            @Override
+            public void close() {}
+          };
+      try {
+        compile(CaseStyle.SNAKE).convert("abc", output);
+        fail();
+      } catch (IOException e) {
+        assertThat(e.getMessage()).isEqualTo("fail");
+      }
+    }
+  }
+
+  @Nested
+  class ConvertRange {
+    @Test
+    void convertCharSequence() {
+      var converter = compile(CaseStyle.KEBAB);
+      assertThat(converter.convert(new StringBuilder("abcDefGHIjk"))).isEqualTo("abc-def-gh-ijk");
+      assertThat(converter.convert(CharBuffer.wrap("abcDefGHIjk"))).isEqualTo("abc-def-gh-ijk");
+    }
+
+    @Test
+    void convertRange() {
+      var converter = compile(CaseStyle.SNAKE);
+      var input = "{\"userId\":1,\"createdAt\":2}";
+      assertThat(converter.convert(input, 2, 8)).isEqualTo("user_id");
+      assertThat(converter.convert(input, 13, 22)).isEqualTo("created_at");
+    }
+
+    @Test
+    void convertRangeIntoStringBuilder() {
+      var converter = compile(CaseStyle.MACRO);
+      var output = new StringBuilder("xyz:");
+      converter.convert("..abcDefGHIjk..", 2, 13, output);
+      assertThat(output.toString()).isEqualTo("xyz:ABC_DEF_GH_IJK");
+    }
+
+    @Test
+    void convertRangeIntoAppendable() throws IOException {
+      var converter = compile(CaseStyle.PASCAL);
+      var output = new StringWriter();
+      converter.convert("..abcDefGHIjk..", 2, 13, output);
+      assertThat(output.toString()).isEqualTo("AbcDefGhIjk");
+    }
+
+    @Test
+    void convertRangeSplittingSurrogatePair() {
+      var converter = compile(CaseStyle.SNAKE, new Options(false, true, "-", null));
+      var input = "ab👍cd";
+      assertThat(converter.convert(input, 0, 3)).isEqualTo("ab\uD83D");
+      assertThat(converter.convert(input, 3, 6)).isEqualTo("\uDC4D_cd");
+      assertThat(converter.convert(input, 0, 6)).isEqualTo("ab👍_cd");
+    }
+
+    @Test
+    void throwIfRangeIsOutOfInput() throws IOException {
+      var converter = compile(CaseStyle.SNAKE);
+      try {
+        converter.convert("abc", -1, 2);
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+      }
+      try {
+        converter.convert("abc", 0, 4, new StringBuilder());
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+      }
+      try {
+        converter.convert("abc", 2, 1, new StringWriter());
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+      }
+    }
+  }
+
+  @Nested
+  class ConvertUtf8 {
+    private static String convertBytes(CaseConverter converter, String input) {
+      var in = ByteBuffer.wrap(input.getBytes(StandardCharsets.UTF_8));
+      var out = ByteBuffer.allocate(in.remaining() * 2 + 8);
+      converter.convert(in, out);
+      assertThat(in.hasRemaining()).isFalse();
+      return new String(out.array(), 0, out.position(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void convertBytes() {
+      var inputs = new String[] {"abcDefGHIjk", "ABCdEF", "123ABC456DEF", "👍ABCd", ""};
+      checkConvertBytes(
+          CaseStyle.ADA, inputs, "Abc_Def_Gh_Ijk", "Ab_Cd_Ef", "123_Abc456_Def", "Ab_Cd", "");
+      checkConvertBytes(
+          CaseStyle.CAMEL, inputs, "abcDefGhIjk", "abCdEf", "123Abc456Def", "abCd", "");
+      checkConvertBytes(
+          CaseStyle.COBOL, inputs, "ABC-DEF-GH-IJK", "AB-CD-EF", "123-ABC456-DEF", "AB-CD", "");
+      checkConvertBytes(
+          CaseStyle.KEBAB, inputs, "abc-def-gh-ijk", "ab-cd-ef", "123-abc456-def", "ab-cd", "");
+      checkConvertBytes(
+          CaseStyle.MACRO, inputs, "ABC_DEF_GH_IJK", "AB_CD_EF", "123_ABC456_DEF", "AB_CD", "");
+      checkConvertBytes(
+          CaseStyle.PASCAL, inputs, "AbcDefGhIjk", "AbCdEf", "123Abc456Def", "AbCd", "");
+      checkConvertBytes(
+          CaseStyle.SNAKE, inputs, "abc_def_gh_ijk", "ab_cd_ef", "123_abc456_def", "ab_cd", "");
+      checkConvertBytes(
+          CaseStyle.TITLE, inputs, "Abc Def Gh Ijk", "Ab Cd Ef", "123 Abc456 Def", "Ab Cd", "");
+      checkConvertBytes(
+          CaseStyle.TRAIN, inputs, "Abc-Def-Gh-Ijk", "Ab-Cd-Ef", "123-Abc456-Def", "Ab-Cd", "");
+    }
+
+    static void checkConvertBytes(CaseStyle style, String[] inputs, String... expected) {
+      var converter = compile(style);
+      for (int i = 0; i < inputs.length; i++) {
+        assertThat(convertBytes(converter, inputs[i])).as(style.name()).isEqualTo(expected[i]);
+      }
+    }
+
+    @Test
+    void convertBytesWithNonAsciiOptions() {
+      var converter = compile(CaseStyle.SNAKE, new Options(true, true, null, "é👍"));
+      assertThat(convertBytes(converter, "caféAu👍Lait€x")).isEqualTo("caf_é_au_👍_lait_x");
+
+      converter = compile(CaseStyle.TITLE, new Options(false, true, "・", null));
+      assertThat(convertBytes(converter, "fooBar・バズqux")).isEqualTo("Foo Bar バズ Qux");
+
+      converter = compileLowerize(0x30fb, new Options(false, true, null, null));
+      assertThat(convertBytes(converter, "fooBarBaz")).isEqualTo("foo・bar・baz");
+    }
+
+    @Test
+    void convertBytesFromPositionToLimit() {
+      var converter = compile(CaseStyle.MACRO);
+      var in = ByteBuffer.wrap("{\"userId\":1}".getBytes(StandardCharsets.UTF_8));
+      in.position(2).limit(8);
+      var out = ByteBuffer.allocate(16);
+      out.put((byte) '[');
+      converter.convert(in, out);
+      out.put((byte) ']');
+      assertThat(in.position()).isEqualTo(8);
+      assertThat(new String(out.array(), 0, out.position(), StandardCharsets.UTF_8))
+          .isEqualTo("[USER_ID]");
+    }
+
+    @Test
+    void convertByteArray() {
+      var out = ByteBuffer.allocateDirect(16);
+      compile(CaseStyle.KEBAB).convert("userId".getBytes(StandardCharsets.UTF_8), out);
+      out.flip();
+      assertThat(StandardCharsets.UTF_8.decode(out).toString()).isEqualTo("user-id");
+    }
+
+    @Test
+    void replaceMalformedBytes() {
+      // A truncated sequence becomes one U+FFFD, and each lone continuation byte becomes one
+      // U+FFFD.
+      var converter = compile(CaseStyle.SNAKE, new Options(true, true, null, "\ufffd"));
+      var cases =
+          new Object[][] {
+            {new byte[] {'a', 'b', (byte) 0xe3, (byte) 0x81, 'C', 'd'}, "ab_\ufffd_cd"},
+            {new byte[] {'a', 'b', (byte) 0xe3, (byte) 0x81}, "ab_\ufffd"},
+            {new byte[] {'a', (byte) 0xf0, (byte) 0x9f, (byte) 0x91, 'B'}, "a_\ufffd_b"},
+            {new byte[] {'a', (byte) 0x80, 'b'}, "a_\ufffd_b"},
+            {new byte[] {'a', (byte) 0x80, (byte) 0x80, 'b'}, "a_\ufffd\ufffd_b"},
+          };
+      for (var c : cases) {
+        var out = ByteBuffer.allocate(32);
+        converter.convert((byte[]) c[0], out);
+        assertThat(new String(out.array(), 0, out.position(), StandardCharsets.UTF_8))
+            .isEqualTo(c[1]);
+      }
+
+      // Unless it is kept, U+FFFD is dropped as a separator like other non-ASCII chars.
+      var out = ByteBuffer.allocate(32);
+      compile(CaseStyle.SNAKE).convert(new byte[] {'a', 'b', (byte) 0xe3, (byte) 0x81, 'C'}, out);
+      assertThat(new String(out.array(), 0, out.position(), StandardCharsets.UTF_8))
+          .isEqualTo("ab_c");
+    }
+
+    @Test
+    void convertMalformedBytesAsSameAsString() {
+      var rnd = new Random(1);
+      var choices =
+          new byte[] {
+            0x41,
+            0x62,
+            0x5f,
+            0x31,
+            (byte) 0x80,
+            (byte) 0xc3,
+            (byte) 0xa9,
+            (byte) 0xe0,
+            (byte) 0xed,
+            (byte) 0xf0,
+            (byte) 0x9f,
+            (byte) 0xff
+          };
+      var converter = compile(CaseStyle.TRAIN, new Options(true, true, "_", null));
+      for (int n = 0; n < 10000; n++) {
+        var bytes = new byte[rnd.nextInt(12)];
+        for (int i = 0; i < bytes.length; i++) {
+          bytes[i] = choices[rnd.nextInt(choices.length)];
+        }
+        var expected =
+            converter
+                .convert(new String(bytes, StandardCharsets.UTF_8))
+                .getBytes(StandardCharsets.UTF_8);
+        var out = ByteBuffer.allocate(bytes.length * 4 + 4);
+        converter.convert(bytes, out);
+        assertThat(Arrays.copyOf(out.array(), out.position())).isEqualTo(expected);
+      }
+    }
+
+    @Test
+    void throwIfOutputIsShort() {
+      var out = ByteBuffer.allocate(4);
+      try {
+        compile(CaseStyle.SNAKE).convert("userId".getBytes(StandardCharsets.UTF_8), out);
+        fail();
+      } catch (BufferOverflowException e) {
+      }
+    }
+  }
+
+  @Nested
+  class ConvertLongInput {
+    static final String LOWERS = "abcdefghijklmnopqrstuvwxyz";
+    static final String UPPERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    // Checks that the input is converted into the expected string in every way, which scans the
+    // runs of letters in a string, a char sequence, UTF-8 bytes in an array and not in an array,
+    // and chars written into a writer.
+    static void checkAllWays(CaseConverter converter, String input, String expected)
+        throws IOException {
+      assertThat(converter.convert(input)).as(input).isEqualTo(expected);
+      assertThat(converter.convert(new StringBuilder(input))).as(input).isEqualTo(expected);
+
+      var output = new StringBuilder("x:");
+      converter.convert(input, output);
+      assertThat(output.toString()).as(input).isEqualTo("x:" + expected);
+
+      var utf8 = expected.getBytes(StandardCharsets.UTF_8);
+      var bytes = ByteBuffer.allocate(utf8.length + 8);
+      converter.convert(input.getBytes(StandardCharsets.UTF_8), bytes);
+      assertThat(Arrays.copyOf(bytes.array(), bytes.position())).as(input).isEqualTo(utf8);
+
+      var padded = ("::" + input).getBytes(StandardCharsets.UTF_8);
+      var slice = ByteBuffer.allocate(utf8.length + 8).position(3).slice();
+      converter.convert(ByteBuffer.wrap(padded).position(2).slice(), slice);
+      assertThat(Arrays.copyOfRange(slice.array(), 3, 3 + slice.position()))
+          .as(input)
+          .isEqualTo(utf8);
+
+      var direct = ByteBuffer.allocateDirect(utf8.length + 8);
+      converter.convert(ByteBuffer.wrap(input.getBytes(StandardCharsets.UTF_8)), direct);
+      var directBytes = new byte[direct.position()];
+      direct.flip().get(directBytes);
+      assertThat(directBytes).as(input).isEqualTo(utf8);
+
+      var written = new StringWriter();
+      try (var writer = converter.writer(written)) {
+        writer.write(input);
+      }
+      assertThat(written.toString()).as(input).isEqualTo(expected);
+
+      written = new StringWriter();
+      try (var writer = converter.writer(written)) {
+        for (int i = 0; i < input.length(); i++) {
+          writer.write(input.charAt(i));
+        }
+      }
+      assertThat(written.toString()).as(input).isEqualTo(expected);
+
+      written = new StringWriter();
+      converter.transform(new StringReader(input), written);
+      assertThat(written.toString()).as(input).isEqualTo(expected);
+    }
+
+    @Test
+    void convertAroundMinLengthToFindRuns() throws IOException {
+      // The inputs of 31, 32 and 33 chars, of which the last two are scanned by the runs.
+      var snake = compile(CaseStyle.SNAKE);
+      checkAllWays(snake, LOWERS + "abcdE", LOWERS + "abcd_e");
+      checkAllWays(snake, LOWERS + "abcdeF", LOWERS + "abcde_f");
+      checkAllWays(snake, LOWERS + "abcdefG", LOWERS + "abcdef_g");
+      checkAllWays(
+          compile(CaseStyle.CAMEL), "x" + UPPERS + "ABCDE", "xAbcdefghijklmnopqrstuvwxyzabcde");
+      checkAllWays(
+          compile(CaseStyle.CAMEL), "x" + UPPERS + "ABCDEF", "xAbcdefghijklmnopqrstuvwxyzabcdef");
+    }
+
+    @Test
+    void convertAcronymAtEndOfRun() throws IOException {
+      // The last uppercase letter of a run before a lowercase letter is the head of the next word.
+      var input = UPPERS + "ABCDEFGHa";
+      checkAllWays(compile(CaseStyle.SNAKE), input, LOWERS + "abcdefg_ha");
+      checkAllWays(compile(CaseStyle.CAMEL), input, LOWERS + "abcdefgHa");
+      checkAllWays(compile(CaseStyle.MACRO), input, UPPERS + "ABCDEFG_HA");
+      checkAllWays(compile(CaseStyle.TITLE), input, "A" + LOWERS.substring(1) + "abcdefg Ha");
+
+      // The uppercase letter before the lowercase letter is "R", so the run of "A" to "Z" is a
+      // word.
+      input = "parse" + UPPERS + "Request" + UPPERS;
+      checkAllWays(compile(CaseStyle.KEBAB), input, "parse-" + LOWERS + "-request-" + LOWERS);
+      checkAllWays(
+          compile(CaseStyle.PASCAL),
+          input,
+          "ParseA" + LOWERS.substring(1) + "RequestA" + LOWERS.substring(1));
+    }
+
+    @Test
+    void convertSeparatorsAndDigits() throws IOException {
+      var input = "abc_DEF-ghi jkl123mno" + UPPERS;
+      checkAllWays(compile(CaseStyle.SNAKE), input, "abc_def_ghi_jkl123_mno_" + LOWERS);
+
+      // Only "-" is a separator, so "_" and " " are kept and separated only before them.
+      checkAllWays(
+          compile(CaseStyle.SNAKE, new Options(true, false, "-", null)),
+          input,
+          "abc__def_ghi_ jkl_123mno_" + LOWERS);
+    }
+
+    @Test
+    void convertNonAsciiAndSurrogatePairs() throws IOException {
+      // Non-ASCII chars, including surrogate pairs, are dropped as separators unless they are kept.
+      var input = LOWERS + "\u3042" + LOWERS + "\ud83d\udc4d" + UPPERS;
+      checkAllWays(compile(CaseStyle.SNAKE), input, LOWERS + "_" + LOWERS + "_" + LOWERS);
+      checkAllWays(
+          compile(CaseStyle.SNAKE, new Options(true, true, null, "\u3042\ud83d\udc4d")),
+          input,
+          LOWERS + "_\u3042_" + LOWERS + "_\ud83d\udc4d_" + LOWERS);
+      checkAllWays(
+          compile(CaseStyle.CAMEL, new Options(false, true, null, "\u3042\ud83d\udc4d")),
+          input,
+          LOWERS + "\u3042A" + LOWERS.substring(1) + "\ud83d\udc4dA" + LOWERS.substring(1));
+      checkAllWays(
+          compile(CaseStyle.MACRO, new Options(false, false, null, "\u00e9")),
+          "caf\u00e9" + LOWERS + "\u00e9" + UPPERS,
+          "CAF\u00e9" + UPPERS + "\u00e9" + UPPERS);
+    }
+  }
+
+  @Nested
+  class Streaming {
+    @Test
+    void transformReaderToWriter() throws IOException {
+      var inputs = new String[] {"fooBarBAZ", "HTTPServer2Go", "a👍b_c", ""};
+      checkTransform(CaseStyle.ADA, inputs, "Foo_Bar_Baz", "Http_Server2_Go", "A_B_C", "");
+      checkTransform(CaseStyle.CAMEL, inputs, "fooBarBaz", "httpServer2Go", "aBC", "");
+      checkTransform(CaseStyle.COBOL, inputs, "FOO-BAR-BAZ", "HTTP-SERVER2-GO", "A-B-C", "");
+      checkTransform(CaseStyle.KEBAB, inputs, "foo-bar-baz", "http-server2-go", "a-b-c", "");
+      checkTransform(CaseStyle.MACRO, inputs, "FOO_BAR_BAZ", "HTTP_SERVER2_GO", "A_B_C", "");
+      checkTransform(CaseStyle.PASCAL, inputs, "FooBarBaz", "HttpServer2Go", "ABC", "");
+      checkTransform(CaseStyle.SNAKE, inputs, "foo_bar_baz", "http_server2_go", "a_b_c", "");
+      checkTransform(CaseStyle.TITLE, inputs, "Foo Bar Baz", "Http Server2 Go", "A B C", "");
+      checkTransform(CaseStyle.TRAIN, inputs, "Foo-Bar-Baz", "Http-Server2-Go", "A-B-C", "");
+    }
+
+    static void checkTransform(CaseStyle style, String[] inputs, String... expected)
+        throws IOException {
+      var converter = compile(style);
+      for (int i = 0; i < inputs.length; i++) {
+        var output = new StringWriter();
+        converter.transform(new StringReader(inputs[i]), output);
+        assertThat(output.toString()).as(style.name()).isEqualTo(expected[i]);
+      }
+    }
+
+    @Test
+    void transformLargeInput() throws IOException {
+      var sb = new StringBuilder();
+      var expected = new StringJoiner("_");
+      for (int i = 0; sb.length() < 100_000; i++) {
+        sb.append("fooBar").append(i).append("HTTPServer👍 ");
+        expected.add("foo_bar_" + i + "_http_server_👍");
+      }
+      var input = sb.toString();
+      var converter = compile(CaseStyle.SNAKE, new Options(true, true, " ", null));
+
+      var output = new StringWriter();
+      converter.transform(new StringReader(input), output);
+      assertThat(output.toString()).isEqualTo(expected.toString());
+    }
+
+    @Test
+    void transformIntoBlocks() throws IOException {
+      var input = "x".repeat(8190) + "👍" + "y".repeat(20_000) + "ABC" + "Z".repeat(10_000) + "d";
+      var converter = compile(CaseStyle.MACRO);
+      var expected =
+          "X".repeat(8190) + "_" + "Y".repeat(20_000) + "_ABC" + "Z".repeat(9_999) + "_ZD";
+      assertThat(converter.convert(input)).isEqualTo(expected);
+
+      var calls = new int[1];
+      var output =
+          new StringWriter() {
+            @Override
+            public void write(char[] cbuf, int off, int len) {
+              calls[0]++;
+              super.write(cbuf, off, len);
+            }
+          };
+      converter.transform(new StringReader(input), output);
+      assertThat(output.toString()).isEqualTo(expected);
+      assertThat(calls[0]).isLessThanOrEqualTo(expected.length() / 8000 + 1);
+
+      var stringOutput = new StringWriter();
+      converter.convert(input, stringOutput);
+      assertThat(stringOutput.toString()).isEqualTo(expected);
+    }
+
+    @Test
+    void writeInChunks() throws IOException {
+      var input = "abcDEFghi👍JKLmnoP😀QR";
+      var converter = compile(CaseStyle.TRAIN, new Options(true, true, null, "👍😀"));
+      var expected = "Abc-De-Fghi-👍-Jk-Lmno-P-😀-Qr";
+
+      for (int size = 1; size <= input.length(); size++) {
+        var output = new StringWriter();
+        try (var writer = converter.writer(output)) {
+          for (int i = 0; i < input.length(); i += size) {
+            writer.write(input, i, Math.min(size, input.length() - i));
+          }
+        }
+        assertThat(output.toString()).isEqualTo(expected);
+      }
+    }
+
+    @Test
+    void holdLastCodepointUntilClose() throws IOException {
+      var output = new StringWriter();
+      var writer = compile(CaseStyle.SNAKE).writer(output);
+
+      writer.write("fooHTTP");
+      writer.flush();
+      assertThat(output.toString()).isEqualTo("foo_htt");
+
+      writer.write("server");
+      writer.flush();
+      assertThat(output.toString()).isEqualTo("foo_htt_pserve");
+
+      writer.write("\uD83D");
+      writer.close();
+      assertThat(output.toString()).isEqualTo("foo_htt_pserver");
+
+      writer.close();
+      try {
+        writer.write("abc");
+        fail();
+      } catch (IOException e) {
+        assertThat(e.getMessage()).isEqualTo("Stream closed");
+      }
+    }
+
+    @Test
+    void keepSurrogateSplitAcrossWrites() throws IOException {
+      var output = new StringWriter();
+      var converter = compile(CaseStyle.KEBAB, new Options(false, true, "-", null));
+      try (var writer = converter.writer(output)) {
+        writer.write("ab\uD83D");
+        writer.write("\uDC4Dcd\uD83D");
+        writer.write("x");
+      }
+      assertThat(output.toString()).isEqualTo("ab👍-cd\uD83D-x");
+    }
+  }
+
+  @Nested
+  class ConvertAll {
+    @Test
+    void convertArrayIntoArray() {
+      var converter = compile(CaseStyle.SNAKE);
+      var input = new String[] {"userId", "createdAt", "", "HTTPServerURL", "orderItem👍Id"};
+      var output = new String[input.length];
+      converter.convertAll(input, output);
+      assertThat(output)
+          .containsExactly("user_id", "created_at", "", "http_server_url", "order_item_id");
+    }
+
+    @Test
+    void convertArrayInPlace() {
+      var converter = compile(CaseStyle.CAMEL);
+      var array = new String[] {"user_id", "CREATED_AT", "order-item-id"};
+      converter.convertAll(array, array);
+      assertThat(array).containsExactly("userId", "createdAt", "orderItemId");
+    }
+
+    @Test
+    void convertArrayIntoLongerArray() {
+      var converter = compile(CaseStyle.KEBAB);
+      var output = new String[] {"a", "b", "c"};
+      converter.convertAll(new String[] {"userId"}, output);
+      assertThat(output).containsExactly("user-id", "b", "c");
+    }
+
+    @Test
+    void convertArrayIntoNewArray() {
+      var converter = compile(CaseStyle.MACRO, new Options(true, true, null, null));
+      var output = converter.convertAll(new String[] {"fooBar123Baz", "abcDefGHIjk"});
+      assertThat(output).containsExactly("FOO_BAR_123_BAZ", "ABC_DEF_GH_IJK");
+      assertThat(converter.convertAll(new String[0])).isEmpty();
+    }
+
+    @Test
+    void convertList() {
+      var converter = compile(CaseStyle.TITLE);
+      var output =
+          converter.convertAll(List.of("userId", new StringBuilder("createdAt"), "", "HTTPServer"));
+      assertThat(output).containsExactly("User Id", "Created At", "", "Http Server");
+    }
+
+    @Test
+    void convertAsSameAsOneByOne() {
+      var inputs = new String[] {"abcDefGHIjk", "ABCdEF", "123ABC456DEF", "👍ABCd", ""};
+      checkConvertAll(
+          CaseStyle.ADA, inputs, "Abc_Def_Gh_Ijk", "Ab_Cd_Ef", "123_Abc456_Def", "Ab_Cd", "");
+      checkConvertAll(CaseStyle.CAMEL, inputs, "abcDefGhIjk", "abCdEf", "123Abc456Def", "abCd", "");
+      checkConvertAll(
+          CaseStyle.COBOL, inputs, "ABC-DEF-GH-IJK", "AB-CD-EF", "123-ABC456-DEF", "AB-CD", "");
+      checkConvertAll(
+          CaseStyle.KEBAB, inputs, "abc-def-gh-ijk", "ab-cd-ef", "123-abc456-def", "ab-cd", "");
+      checkConvertAll(
+          CaseStyle.MACRO, inputs, "ABC_DEF_GH_IJK", "AB_CD_EF", "123_ABC456_DEF", "AB_CD", "");
+      checkConvertAll(
+          CaseStyle.PASCAL, inputs, "AbcDefGhIjk", "AbCdEf", "123Abc456Def", "AbCd", "");
+      checkConvertAll(
+          CaseStyle.SNAKE, inputs, "abc_def_gh_ijk", "ab_cd_ef", "123_abc456_def", "ab_cd", "");
+      checkConvertAll(
+          CaseStyle.TITLE, inputs, "Abc Def Gh Ijk", "Ab Cd Ef", "123 Abc456 Def", "Ab Cd", "");
+      checkConvertAll(
+          CaseStyle.TRAIN, inputs, "Abc-Def-Gh-Ijk", "Ab-Cd-Ef", "123-Abc456-Def", "Ab-Cd", "");
+    }
+
+    static void checkConvertAll(CaseStyle style, String[] inputs, String... expected) {
+      var converter = compile(style);
+      assertThat(converter.convertAll(inputs)).as(style.name()).containsExactly(expected);
+      assertThat(converter.convertAll(List.of(inputs))).as(style.name()).containsExactly(expected);
+      for (int i = 0; i < inputs.length; i++) {
+        assertThat(converter.convert(inputs[i])).as(style.name()).isEqualTo(expected[i]);
+      }
+    }
+
+    @Test
+    void throwIfOutputIsShorter() {
+      try {
+        compile(CaseStyle.SNAKE).convertAll(new String[] {"a", "b"}, new String[1]);
+        fail();
+      } catch (IllegalArgumentException e) {
+        assertThat(e.getMessage())
+            .isEqualTo("The output array is shorter than the input array: 1 < 2");
+      }
+    }
+  }
+
+  @Nested
+  class ConvertAllParallel {
+    private static String[] inputs(int n) {
+      var words = new String[] {"user", "Id", "HTTP", "server", "URL", "👍", "123", "_", "-"};
+      var rnd = new Random(1);
+      var inputs = new String[n];
+      for (int i = 0; i < n; i++) {
+        var sb = new StringBuilder();
+        for (int j = rnd.nextInt(6); j >= 0; j--) {
+          sb.append(words[rnd.nextInt(words.length)]);
+        }
+        inputs[i] = sb.toString();
+      }
+      return inputs;
+    }
+
+    @Test
+    void convertAsSameAsSequential() {
+      var input = inputs(10_000);
+      for (var style : CaseStyle.values()) {
+        var converter = compile(style);
+        var expected = converter.convertAll(input);
+
+        var output = new String[input.length];
+        converter.convertAllParallel(input, output);
+        assertThat(output).containsExactly(expected);
+      }
+    }
+
+    @Test
+    void convertWithCustomPoolAndCutoff() {
+      var input = inputs(1_000);
+      var converter = compile(CaseStyle.SNAKE, new Options(true, true, "_", null));
+      var expected = converter.convertAll(input);
+
+      var pool = new ForkJoinPool(3);
+      try {
+        for (int cutoff : new int[] {1, 7, 1000, 5000}) {
+          var output = new String[input.length];
+          converter.convertAllParallel(input, output, pool, cutoff);
+          assertThat(output).containsExactly(expected);
+        }
+
+        var list = converter.convertAllParallel(List.of(input), pool, 16);
+        assertThat(list).containsExactly(expected);
+      } finally {
+        pool.shutdown();
+      }
+    }
+
+    @Test
+    void convertEmpty() {
+      var converter = compile(CaseStyle.SNAKE);
+      var output = new String[0];
+      converter.convertAllParallel(new String[0], output);
+      assertThat(converter.convertAllParallel(List.of(), ForkJoinPool.commonPool(), 1)).isEmpty();
+    }
+
+    @Test
+    void throwIfArgumentIsInvalid() {
+      var converter = compile(CaseStyle.SNAKE);
+      try {
+        converter.convertAllParallel(new String[] {"a", "b"}, new String[1]);
+        fail();
+      } catch (IllegalArgumentException e) {
+        assertThat(e.getMessage())
+            .isEqualTo("The output array is shorter than the input array: 1 < 2");
+      }
+      try {
+        converter.convertAllParallel(new String[1], new String[1], ForkJoinPool.commonPool(), 0);
+        fail();
+      } catch (IllegalArgumentException e) {
+        assertThat(e.getMessage()).isEqualTo("The sequential cutoff must be at least 1: 0");
+      }
+      try {
+        converter.convertAllParallel(List.of("a"), ForkJoinPool.commonPool(), -1);
+        fail();
+      } catch (IllegalArgumentException e) {
+        assertThat(e.getMessage()).isEqualTo("The sequential cutoff must be at least 1: -1");
+      }
+    }
+  }
+
+  @Nested
+  class ReturnInputIfUnchanged {
+    static void checkSameInstance(CaseConverter converter, String input, String expected) {
+      var actual = converter.convert(input);
+      assertThat(actual).as(input).isEqualTo(expected);
+      assertThat(actual == input).as(input).isEqualTo(expected.equals(input));
+    }
+
+    @Test
+    void returnSameInstanceForConvertedInput() {
+      var input = "foo_bar_baz";
+      assertThat(compile(CaseStyle.SNAKE).convert(input)).isSameAs(input);
+      assertThat(snakeCase(input)).isSameAs(input);
+
+      input = "fooBarBaz";
+      assertThat(camelCase(input)).isSameAs(input);
+      assertThat(snakeCase(input)).isNotSameAs(input).isEqualTo("foo_bar_baz");
+
+      input = "FOO-BAR";
+      assertThat(cobolCase(input)).isSameAs(input);
+      input = "Foo Bar";
+      assertThat(titleCase(input)).isSameAs(input);
+      input = "";
+      assertThat(kebabCase(input)).isSameAs(input);
+
+      input = "FOO:BAR";
+      assertThat(upperize(input, ':', new Options(true, true, null, null))).isSameAs(input);
+      input = "foo.bar";
+      assertThat(lowerize(input, '.', new Options(true, true, null, null))).isSameAs(input);
+      input = "Foo+Bar";
+      assertThat(capitalize(input, '+', new Options(true, true, null, null))).isSameAs(input);
+    }
+
+    @Test
+    void returnSameInstanceWithOptions() {
+      var opts = new Options(false, true, "-_", null);
+      var input = "foo_bar_baz";
+      assertThat(snakeCaseWithOptions(input, opts)).isSameAs(input);
+      input = "fooBarBaz";
+      assertThat(camelCaseWithOptions(input, opts)).isSameAs(input);
+      input = "FOO_BAR";
+      assertThat(macroCaseWithOptions(input, opts)).isSameAs(input);
+      input = "foo-bar";
+      assertThat(kebabCaseWithOptions(input, opts)).isSameAs(input);
+      assertThat(snakeCaseWithOptions(input, opts)).isNotSameAs(input).isEqualTo("foo_bar");
+      input = "Foo-Bar";
+      assertThat(trainCaseWithOptions(input, opts)).isSameAs(input);
+      assertThat(compile(CaseStyle.TRAIN, opts)).isSameAs(compile(CaseStyle.TRAIN, opts));
+    }
+
+    @Test
+    void checkAfterTheLastIsReplaced() {
+      // The tail "A" is output as "a" at first, but it is replaced with "A" by the following "r".
+      var input = "fooBAr";
+      assertThat(camelCase(input)).isEqualTo("fooBAr").isSameAs(input);
+      input = "foo_bar_";
+      assertThat(snakeCase(input)).isEqualTo("foo_bar");
+      input = "FOO_BAr";
+      assertThat(macroCase(input)).isEqualTo("FOO_B_AR");
+    }
+
+    @Test
+    void returnSubstringForConvertedRange() {
+      var input = "xx foo_bar yy";
+      assertThat(compile(CaseStyle.SNAKE).convert(input, 3, 10)).isEqualTo("foo_bar");
+      assertThat(compile(CaseStyle.SNAKE).convert(input, 0, input.length()))
+          .isEqualTo("xx_foo_bar_yy");
+    }
+
+    @Test
+    void storeSameInstanceInBatch() {
+      var input = new String[] {"foo_bar", "fooBar", "baz"};
+      var output = compile(CaseStyle.SNAKE).convertAll(input);
+      assertThat(output).containsExactly("foo_bar", "foo_bar", "baz");
+      assertThat(output[0]).isSameAs(input[0]);
+      assertThat(output[2]).isSameAs(input[2]);
+
+      var list = compile(CaseStyle.SNAKE).convertAll(List.of(input));
+      assertThat(list.get(0)).isSameAs(input[0]);
+      assertThat(list.get(1)).isNotSameAs(input[1]);
+    }
+
+    @Test
+    void returnSameInstanceOnlyIfConverted() {
+      var snake = compile(CaseStyle.SNAKE);
+      checkSameInstance(snake, "http_request", "http_request");
+      checkSameInstance(snake, "HTTPRequest", "http_request");
+      checkSameInstance(snake, "http_request_", "http_request");
+      checkSameInstance(snake, "foo\ud83d\udc4d_bar", "foo_bar");
+
+      // An acronym ends at the last uppercase letter before a lowercase letter.
+      var camel = compile(CaseStyle.CAMEL);
+      checkSameInstance(camel, "parseHttpRequest", "parseHttpRequest");
+      checkSameInstance(camel, "parseHTTPRequest", "parseHttpRequest");
+      checkSameInstance(camel, "fooBAr", "fooBAr");
+      var macro = compile(CaseStyle.MACRO);
+      checkSameInstance(macro, "PARSE_HTTP_REQUEST", "PARSE_HTTP_REQUEST");
+      checkSameInstance(macro, "parseHTTPRequest", "PARSE_HTTP_REQUEST");
+
+      // The kept marks, including a surrogate pair, are separated from the following words.
+      var opts = new Options(false, true, null, ".\ud83d\udc4d");
+      checkSameInstance(compile(CaseStyle.SNAKE, opts), "foo._bar", "foo._bar");
+      checkSameInstance(compile(CaseStyle.SNAKE, opts), "foo.bar", "foo._bar");
+      checkSameInstance(
+          compile(CaseStyle.SNAKE, opts), "foo\ud83d\udc4d_bar", "foo\ud83d\udc4d_bar");
+      checkSameInstance(
+          compile(CaseStyle.SNAKE, opts), "foo\ud83d\udc4dbar", "foo\ud83d\udc4d_bar");
+      checkSameInstance(compile(CaseStyle.CAMEL, opts), "foo\ud83d\udc4dBar", "foo\ud83d\udc4dBar");
+      opts = new Options(false, false, null, ".\ud83d\udc4d");
+      checkSameInstance(compile(CaseStyle.TITLE, opts), "Foo\ud83d\udc4dbar", "Foo\ud83d\udc4dbar");
+      checkSameInstance(compile(CaseStyle.TITLE, opts), "Foo.Bar", "Foo. Bar");
+    }
+
+    @Test
+    void returnSameInstanceOfLongInput() {
+      // The inputs of 32 chars or more are scanned by the runs of letters.
+      var input = "very_long_identifier_with_many_words";
+      checkSameInstance(compile(CaseStyle.SNAKE), input, input);
+      input = "abcdefghijklmnopqrstuvwxyzabcdefgh";
+      checkSameInstance(compile(CaseStyle.SNAKE), input, input);
+      checkSameInstance(
+          compile(CaseStyle.SNAKE),
+          "ABCDEFGHIJKLMNOPQRSTUVWXYZABCDEFGHa",
+          "abcdefghijklmnopqrstuvwxyzabcdefg_ha");
+      input = "THE_ACRONYM_ABCDEFGHIJKLMNOPQRSTUVWXYZ_END";
+      checkSameInstance(compile(CaseStyle.MACRO), input, input);
+      checkSameInstance(compile(CaseStyle.MACRO), "theAcronymABCDEFGHIJKLMNOPQRSTUVWXYZEnd", input);
+      input = "theAcronymAbcdefghijklmnopqrstuvwxyzEnd";
+      checkSameInstance(compile(CaseStyle.CAMEL), input, input);
+    }
+  }
+
+  @Nested
+  class IsConverted {
+    @Test
+    void checkWholeInput() {
+      var converter = compile(CaseStyle.SNAKE);
+      assertThat(converter.isConverted("foo_bar")).isTrue();
+      assertThat(converter.isConverted("fooBar")).isFalse();
+      assertThat(converter.isConverted("foo_bar_")).isFalse();
+      assertThat(converter.isConverted("")).isTrue();
+      assertThat(compile(CaseStyle.CAMEL).isConverted("fooBAr")).isTrue();
+      assertThat(compile(CaseStyle.CAMEL).isConverted("fooBAR")).isFalse();
+    }
+
+    @Test
+    void checkRange() {
+      var converter = compile(CaseStyle.KEBAB);
+      var input = "[foo-bar]";
+      assertThat(converter.isConverted(input, 1, 8)).isTrue();
+      assertThat(converter.isConverted(input, 0, 9)).isFalse();
+      try {
+        converter.isConverted(input, 1, 10);
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+      }
+    }
+
+    @Test
+    void checkFixedCases() {
+      var snake = compile(CaseStyle.SNAKE);
+      assertThat(snake.isConverted("abc123_def")).isTrue();
+      assertThat(snake.isConverted("abc_123_def")).isTrue();
+      assertThat(snake.isConverted("abc123def")).isFalse();
+      assertThat(snake.isConverted("_foo")).isFalse();
+      assertThat(snake.isConverted("foo__bar")).isFalse();
+      assertThat(snake.isConverted("foo\ud83d\udc4d_bar")).isFalse();
+
+      // An acronym ends at the last uppercase letter before a lowercase letter.
+      assertThat(compile(CaseStyle.CAMEL).isConverted("parseHttpRequest")).isTrue();
+      assertThat(compile(CaseStyle.CAMEL).isConverted("parseHTTPRequest")).isFalse();
+      assertThat(compile(CaseStyle.PASCAL).isConverted("FooBAr")).isTrue();
+      assertThat(compile(CaseStyle.MACRO).isConverted("FOO_B_AR")).isTrue();
+      assertThat(compile(CaseStyle.MACRO).isConverted("FOO_BAr")).isFalse();
+
+      // The kept marks, including a surrogate pair, are separated from the words on both sides.
+      var opts = new Options(true, true, null, ".\ud83d\udc4d");
+      assertThat(compile(CaseStyle.SNAKE, opts).isConverted("foo_._bar")).isTrue();
+      assertThat(compile(CaseStyle.SNAKE, opts).isConverted("foo._bar")).isFalse();
+      assertThat(compile(CaseStyle.SNAKE, opts).isConverted("foo_\ud83d\udc4d_bar")).isTrue();
+      assertThat(compile(CaseStyle.SNAKE, opts).isConverted("foo_\ud83d\udc4dbar")).isFalse();
+      assertThat(compile(CaseStyle.TITLE, opts).isConverted("Foo \ud83d\udc4d Bar")).isTrue();
+      assertThat(compile(CaseStyle.CAMEL, opts).isConverted("foo\ud83d\udc4dBar")).isTrue();
+      assertThat(compile(CaseStyle.CAMEL, opts).isConverted("foo\ud83d\udc4dbar")).isFalse();
+    }
+
+    @Test
+    void checkLongInput() {
+      var macro = compile(CaseStyle.MACRO);
+      assertThat(macro.isConverted("THE_ACRONYM_ABCDEFGHIJKLMNOPQRSTUVWXYZ_END")).isTrue();
+      assertThat(macro.isConverted("THE_ACRONYM_ABCDEFGHIJKLMNOPQRSTUVWXYZEnd")).isFalse();
+      var snake = compile(CaseStyle.SNAKE);
+      assertThat(snake.isConverted("abcdefghijklmnopqrstuvwxyz_abcdefghijklmnopqrstuvwxyz"))
+          .isTrue();
+      assertThat(snake.isConverted("abcdefghijklmnopqrstuvwxyz_abcdefghijklmnopqrstuvwxyZ"))
+          .isFalse();
+    }
+  }
+
+  @Nested
+  class ConvertedHashCode {
+    @Test
+    void computeHashCodeOfConvertedString() {
+      var converter = compile(CaseStyle.SNAKE);
+      assertThat(converter.convertedHashCode("userId")).isEqualTo("user_id".hashCode());
+      assertThat(converter.convertedHashCode("USER-ID")).isEqualTo("user_id".hashCode());
+      assertThat(converter.convertedHashCode("user_id")).isEqualTo("user_id".hashCode());
+      assertThat(converter.convertedHashCode("")).isEqualTo(0);
+      assertThat(converter.convertedHashCode("fooHTTPServer"))
+          .isEqualTo("foo_http_server".hashCode());
+    }
+
+    @Test
+    void computeHashCodeOfRange() {
+      var converter = compile(CaseStyle.MACRO);
+      assertThat(converter.convertedHashCode("[fooBar]", 1, 7)).isEqualTo("FOO_BAR".hashCode());
+      try {
+        converter.convertedHashCode("abc", 0, 4);
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+      }
+    }
+
+    @Test
+    void computeHashCodeOfFixedCases() {
+      // An acronym ends at the last uppercase letter before a lowercase letter.
+      var camel = compile(CaseStyle.CAMEL);
+      assertThat(camel.convertedHashCode("parseHTTPRequest"))
+          .isEqualTo("parseHttpRequest".hashCode());
+      assertThat(camel.convertedHashCode("FOO_BAr")).isEqualTo("fooBAr".hashCode());
+      assertThat(compile(CaseStyle.KEBAB).convertedHashCode("abc123Def"))
+          .isEqualTo("abc123-def".hashCode());
+      assertThat(compile(CaseStyle.TITLE).convertedHashCode("foo\ud83d\udc4dbar"))
+          .isEqualTo("Foo Bar".hashCode());
+
+      // The kept marks, including a surrogate pair, are hashed as they are.
+      var opts = new Options(true, true, null, ".\ud83d\udc4d");
+      assertThat(compile(CaseStyle.SNAKE, opts).convertedHashCode("fooBar.baz"))
+          .isEqualTo("foo_bar_._baz".hashCode());
+      assertThat(compile(CaseStyle.MACRO, opts).convertedHashCode("foo\ud83d\udc4dbar"))
+          .isEqualTo("FOO_\ud83d\udc4d_BAR".hashCode());
+      assertThat(compile(CaseStyle.CAMEL, opts).convertedHashCode("foo\ud83d\udc4dbar"))
+          .isEqualTo("foo\ud83d\udc4dBar".hashCode());
+    }
+
+    @Test
+    void computeHashCodeOfLongInput() {
+      var input = "theAcronymABCDEFGHIJKLMNOPQRSTUVWXYZEnd";
+      assertThat(compile(CaseStyle.MACRO).convertedHashCode(input))
+          .isEqualTo("THE_ACRONYM_ABCDEFGHIJKLMNOPQRSTUVWXYZ_END".hashCode());
+      assertThat(compile(CaseStyle.SNAKE).convertedHashCode(input))
+          .isEqualTo("the_acronym_abcdefghijklmnopqrstuvwxyz_end".hashCode());
+      assertThat(compile(CaseStyle.CAMEL).convertedHashCode(input))
+          .isEqualTo("theAcronymAbcdefghijklmnopqrstuvwxyzEnd".hashCode());
+    }
+  }
+
+  @Nested
+  class OutputLength {
+    @Test
+    void countCharsOfConvertedString() {
+      var converter = compile(CaseStyle.SNAKE);
+      assertThat(converter.outputLength("userId", 0, 6)).isEqualTo(7);
+      assertThat(converter.outputLength("fooHTTPServer", 0, 13)).isEqualTo(15);
+      assertThat(converter.outputLength("[fooBar]", 1, 7)).isEqualTo(7);
+      assertThat(converter.outputLength("", 0, 0)).isEqualTo(0);
+      assertThat(converter.outputLength("__", 0, 2)).isEqualTo(0);
+
+      var wide = compileUpperize(0x1F600, new Options(false, true, null, null));
+      assertThat(wide.outputLength("xyzwB", 0, 5)).isEqualTo(7);
+      assertThat(wide.outputLength("ab-cd-ef", 0, 8)).isEqualTo(10);
+    }
+
+    @Test
+    void estimateCapacityNotLessThanConvertedLength() {
+      var snake = compile(CaseStyle.SNAKE);
+      assertThat(snake.capacityOf("userId", 0, 6)).isEqualTo(7);
+      assertThat(snake.capacityOf("fooHTTPServer", 0, 13)).isEqualTo(18);
+      assertThat(snake.capacityOf("user_id", 0, 7)).isEqualTo(7);
+
+      var camel = compile(CaseStyle.CAMEL);
+      assertThat(camel.capacityOf("user_id", 0, 7)).isEqualTo(7);
+
+      var separated = compile(CaseStyle.SNAKE, new Options(true, true, null, null));
+      assertThat(separated.capacityOf("abc123def", 0, 9)).isEqualTo(15);
+      assertThat(separated.capacityOf("abc\u00e9def", 0, 7)).isEqualTo(7);
+
+      var kept = compile(CaseStyle.SNAKE, new Options(false, true, null, "\u00e9"));
+      assertThat(kept.capacityOf("abc\u00e9def", 0, 7)).isEqualTo(8);
+
+      var wide = compileUpperize(0x1F600, new Options(false, true, null, null));
+      assertThat(wide.convert("xyzwB")).isEqualTo("XYZW\ud83d\ude00B");
+      assertThat(wide.capacityOf("xyzwB", 0, 5)).isEqualTo(7);
+      assertThat(wide.convert("ab-cd-ef")).isEqualTo("AB\ud83d\ude00CD\ud83d\ude00EF");
+      assertThat(wide.capacityOf("ab-cd-ef", 0, 8)).isEqualTo(10);
+      assertThat(wide.convert("a\u00e9b")).isEqualTo("A\ud83d\ude00B");
+      assertThat(wide.capacityOf("a\u00e9b", 0, 3)).isEqualTo(4);
+
+      var wideKept = compileCapitalize(0x1F600, new Options(true, true, null, "."));
+      assertThat(wideKept.convert("a.b")).isEqualTo("A\ud83d\ude00.\ud83d\ude00B");
+      assertThat(wideKept.capacityOf("a.b", 0, 3)).isEqualTo(7);
+    }
+
+    @Test
+    void countFixedCases() {
+      // A word is counted at the last uppercase letter of an acronym before a lowercase letter.
+      var snake = compile(CaseStyle.SNAKE);
+      assertThat(snake.outputLength("parseHTTPRequest", 0, 16)).isEqualTo(18);
+      assertThat(snake.capacityOf("parseHTTPRequest", 0, 16)).isEqualTo(21);
+      var macro = compile(CaseStyle.MACRO);
+      assertThat(macro.outputLength("fooBAr", 0, 6)).isEqualTo(8);
+      assertThat(compile(CaseStyle.TITLE).outputLength("abc123def", 0, 9)).isEqualTo(10);
+
+      // Without a joiner, a joiner is counted as one char, and the capacity is the input length.
+      var camel = compile(CaseStyle.CAMEL);
+      assertThat(camel.outputLength("parseHTTPRequest", 0, 16)).isEqualTo(18);
+      assertThat(camel.capacityOf("parseHTTPRequest", 0, 16)).isEqualTo(16);
+      assertThat(camel.outputLength("fooBAr", 0, 6)).isEqualTo(8);
+      assertThat(compile(CaseStyle.PASCAL).outputLength("FOO_BAR", 0, 7)).isEqualTo(7);
+
+      // A kept surrogate pair is counted as two chars, and a dropped one is not counted.
+      var opts = new Options(true, true, null, ".\ud83d\udc4d");
+      assertThat(compile(CaseStyle.SNAKE, opts).outputLength("a.b", 0, 3)).isEqualTo(5);
+      assertThat(compile(CaseStyle.SNAKE, opts).outputLength("a\ud83d\udc4db", 0, 4)).isEqualTo(6);
+      assertThat(compile(CaseStyle.SNAKE, opts).capacityOf("a\ud83d\udc4db", 0, 4)).isEqualTo(8);
+      assertThat(snake.outputLength("a\ud83d\udc4db", 0, 4)).isEqualTo(3);
+      assertThat(snake.capacityOf("a\ud83d\udc4db", 0, 4)).isEqualTo(4);
+    }
+
+    @Test
+    void countLongInput() {
+      var input = "theAcronymABCDEFGHIJKLMNOPQRSTUVWXYZEnd";
+      assertThat(compile(CaseStyle.SNAKE).outputLength(input, 0, 39)).isEqualTo(42);
+      assertThat(compile(CaseStyle.SNAKE).capacityOf(input, 0, 39)).isEqualTo(67);
+      assertThat(compile(CaseStyle.TRAIN).outputLength(input, 0, 39)).isEqualTo(42);
+      input = "THE_ACRONYM_ABCDEFGHIJKLMNOPQRSTUVWXYZ_END";
+      assertThat(compile(CaseStyle.CAMEL).outputLength(input, 0, 42)).isEqualTo(42);
+      assertThat(compile(CaseStyle.CAMEL).capacityOf(input, 0, 42)).isEqualTo(42);
+    }
+  }
+
+  @Nested
+  class CompareConverted {
+    @Test
+    void compareAsConvertedStrings() {
+      var converter = compile(CaseStyle.SNAKE);
+      assertThat(converter.compareConverted("userId", "USER-ID")).isEqualTo(0);
+      assertThat(converter.compareConverted("fooHTTPServer", "foo_http_server")).isEqualTo(0);
+      assertThat(converter.compareConverted("fooBar", "foo_baz")).isLessThan(0);
+      assertThat(converter.compareConverted("fooBar", "foo")).isGreaterThan(0);
+      assertThat(converter.compareConverted("", "__")).isEqualTo(0);
+    }
+
+    @Test
+    void compareFixedCases() {
+      // The last uppercase letter of an acronym is compared as the head of the next word.
+      var snake = compile(CaseStyle.SNAKE);
+      assertThat(snake.compareConverted("parseHTTPRequest", "parse_http_request")).isEqualTo(0);
+      assertThat(snake.compareConverted("parseHTTPRequest", "parse_http_requests")).isLessThan(0);
+      assertThat(snake.compareConverted("parseHTTPRequest", "parse_httpr_equest")).isLessThan(0);
+      assertThat(snake.compareConverted("HTTPs", "htt_ps")).isEqualTo(0);
+      assertThat(compile(CaseStyle.CAMEL).compareConverted("FOO_BAr", "fooBAr")).isEqualTo(0);
+      assertThat(compile(CaseStyle.CAMEL).compareConverted("fooBAR", "fooBAr")).isGreaterThan(0);
+
+      // A joiner is compared with the char at the same place of the other conversion.
+      assertThat(snake.compareConverted("fooBar", "foo0")).isGreaterThan(0);
+      assertThat(snake.compareConverted("foo-bar", "foo")).isGreaterThan(0);
+      assertThat(snake.compareConverted("abc123Def", "abc123_def")).isEqualTo(0);
+
+      // The kept surrogate pair is compared as two chars, which are greater than other BMP chars.
+      var opts = new Options(true, true, null, ".\ud83d\udc4d");
+      var kept = compile(CaseStyle.SNAKE, opts);
+      assertThat(kept.compareConverted("a\ud83d\udc4d", "a.")).isGreaterThan(0);
+      assertThat(kept.compareConverted("a\ud83d\udc4db", "a_\ud83d\udc4d_b")).isEqualTo(0);
+      assertThat(kept.compareConverted("a\ud83d\udc4d", "a\ud83d\udc4d\ud83d\udc4d")).isLessThan(0);
+      assertThat(snake.compareConverted("a\ud83d\udc4d", "a.")).isEqualTo(0);
+    }
+
+    @Test
+    void compareLongInputs() {
+      var snake = compile(CaseStyle.SNAKE);
+      var a = "theAcronymABCDEFGHIJKLMNOPQRSTUVWXYZEnd";
+      assertThat(snake.compareConverted(a, "the_acronym_abcdefghijklmnopqrstuvwxyz_end"))
+          .isEqualTo(0);
+      assertThat(snake.compareConverted(a, "the_acronym_abcdefghijklmnopqrstuvwxyz_ends"))
+          .isLessThan(0);
+      assertThat(snake.compareConverted(a, "the_acronym_abcdefghijklmnopqrstuvwxyzend"))
+          .isLessThan(0);
+    }
+  }
+
+  // The property test shared by the methods which give the same results as the conversion in other
+  // ways. Every input of up to three symbols, which are a lowercase letter, an uppercase letter, a
+  // digit, the separators, a mark which is kept by some options, a non-ASCII letter and a surrogate
+  // pair, is checked with the conversion of it.
+  @Nested
+  class AgreeWithConvert {
+    static final String[] SYMBOLS = {"a", "B", "1", "_", "-", " ", ".", "\u00e9", "\ud83d\ude00"};
+    static final Options[] OPTIONS = {
+      new Options(false, true, null, null),
+      new Options(true, false, "-", null),
+      new Options(true, true, null, ".\ud83d\ude00"),
+      new Options(false, false, null, null),
+    };
+    static final List<String> INPUTS = inputs(3);
+
+    static List<String> inputs(int maxSymbols) {
+      var inputs = new ArrayList<String>(List.of(""));
+      int from = 0;
+      for (int n = 0; n < maxSymbols; n++) {
+        int to = inputs.size();
+        for (int i = from; i < to; i++) {
+          for (var symbol : SYMBOLS) {
+            inputs.add(inputs.get(i) + symbol);
+          }
+        }
+        from = to;
+      }
+      return inputs;
+    }
+
+    static String convertIntoBuilder(CaseConverter converter, String input) {
+      var sb = new StringBuilder();
+      converter.convert(input, sb);
+      return sb.toString();
+    }
+
+    @Test
+    void returnInputIfUnchanged() {
+      for (var opts : OPTIONS) {
+        for (var style : CaseStyle.values()) {
+          var converter = compile(style, opts);
+          for (var input : INPUTS) {
+            var expected = convertIntoBuilder(converter, input);
+            var actual = converter.convert(input);
+            assertThat(actual).as("%s %s", style, input).isEqualTo(expected);
+            assertThat(actual == input).as("%s %s", style, input).isEqualTo(expected.equals(input));
+          }
+        }
+      }
+    }
+
+    @Test
+    void checkIfConverted() {
+      for (var opts : OPTIONS) {
+        for (var style : CaseStyle.values()) {
+          var converter = compile(style, opts);
+          for (var input : INPUTS) {
+            assertThat(converter.isConverted(input))
+                .as("%s %s", style, input)
+                .isEqualTo(converter.convert(input).equals(input));
+          }
+        }
+      }
+    }
+
+    @Test
+    void detectAllStyles() {
+      for (var input : INPUTS) {
+        int expected = 0;
+        for (var style : CaseStyle.values()) {
+          if (compile(style).convert(input).equals(input)) {
+            expected |= 1 << style.ordinal();
+          }
+        }
+        assertThat(detectAll(input)).as(input).isEqualTo(expected);
+      }
+    }
+
+    @Test
+    void computeConvertedHashCode() {
+      for (var opts : OPTIONS) {
+        for (var style : CaseStyle.values()) {
+          var converter = compile(style, opts);
+          for (var input : INPUTS) {
+            assertThat(converter.convertedHashCode(input))
+                .as("%s %s", style, input)
+                .isEqualTo(converter.convert(input).hashCode());
+          }
+        }
+      }
+    }
+
+    @Test
+    void compareConverted() {
+      var inputs = inputs(2);
+      for (var opts : OPTIONS) {
+        for (var style : CaseStyle.values()) {
+          var converter = compile(style, opts);
+          for (var a : inputs) {
+            var ca = converter.convert(a);
+            for (var b : inputs) {
+              assertThat(Integer.signum(converter.compareConverted(a, b)))
+                  .as("%s %s %s", style, a, b)
+                  .isEqualTo(Integer.signum(ca.compareTo(converter.convert(b))));
+            }
+          }
+        }
+      }
+    }
+
+    @Test
+    void sortByComparator() {
+      for (var style : CaseStyle.values()) {
+        var converter = compile(style);
+        var sorted = new ArrayList<CharSequence>(INPUTS);
+        sorted.sort(comparator(style));
+        for (int i = 1; i < sorted.size(); i++) {
+          assertThat(converter.convert(sorted.get(i - 1)))
+              .as("%s %s %s", style, sorted.get(i - 1), sorted.get(i))
+              .isLessThanOrEqualTo(converter.convert(sorted.get(i)));
+        }
+      }
+    }
+
+    // The length of a conversion of camel case or pascal case is counted with a joiner of one char,
+    // so it is the length of the conversion of snake case.
+    @Test
+    void countOutputLength() {
+      for (var opts : OPTIONS) {
+        for (var style : CaseStyle.values()) {
+          var converter = compile(style, opts);
+          var counted =
+              (style == CaseStyle.CAMEL || style == CaseStyle.PASCAL)
+                  ? compile(CaseStyle.SNAKE, opts)
+                  : converter;
+          for (var input : INPUTS) {
+            int len = input.length();
+            assertThat(converter.outputLength(input, 0, len))
+                .as("%s %s", style, input)
+                .isEqualTo(counted.convert(input).length());
+            assertThat(converter.capacityOf(input, 0, len))
+                .as("%s %s", style, input)
+                .isGreaterThanOrEqualTo(converter.convert(input).length());
+          }
+        }
+      }
+    }
+
+    // A joiner of a supplementary code point is two chars, which are counted both for the joiners
+    // inserted between words and for the joiners which replace separators of one char.
+    @Test
+    void countOutputLengthWithWideJoiner() {
+      for (var opts : OPTIONS) {
+        var converters = List.of(compileUpperize(0x1F600, opts), compileCapitalize(0x1F600, opts));
+        for (var converter : converters) {
+          for (var input : INPUTS) {
+            int len = input.length();
+            assertThat(converter.outputLength(input, 0, len))
+                .as(input)
+                .isEqualTo(converter.convert(input).length());
+            assertThat(converter.capacityOf(input, 0, len))
+                .as(input)
+                .isGreaterThanOrEqualTo(converter.convert(input).length());
+          }
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,131 @@
+package com.github.sttk.stringcase;
+
+import static com.github.sttk.stringcase.StringCase.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("missing-explicit-ctor")
+public class NormalizedKeyMapTest {
+
+  @Test
+  void putAndGetWithNormalizedKeys() {
+    var map = new NormalizedKeyMap<Integer>(compile(CaseStyle.SNAKE));
+    assertThat(map.converter()).isSameAs(compile(CaseStyle.SNAKE));
+    assertThat(map.isEmpty()).isTrue();
+
+    assertThat(map.put("USER_ID", 1)).isNull();
+    assertThat(map.get("userId")).isEqualTo(1);
+    assertThat(map.get("user-id")).isEqualTo(1);
+    assertThat(map.get(new StringBuilder("UserId"))).isEqualTo(1);
+    assertThat(map.get("userName")).isNull();
+    assertThat(map.get(123)).isNull();
+    assertThat(map.containsKey("user_id")).isTrue();
+    assertThat(map.getOrDefault("userName", 0)).isEqualTo(0);
+
+    assertThat(map.put("userId", 2)).isEqualTo(1);
+    assertThat(map.size()).isEqualTo(1);
+    assertThat(map.keySet()).containsExactly("USER_ID");
+    assertThat(map.get("USER-ID")).isEqualTo(2);
+  }
+
+  @Test
+  void putNullValue() {
+    var map = new NormalizedKeyMap<String>(compile(CaseStyle.CAMEL));
+    map.put("foo_bar", null);
+    assertThat(map.containsKey("fooBar")).isTrue();
+    assertThat(map.get("fooBar")).isNull();
+    assertThat(map.getOrDefault("fooBar", "x")).isNull();
+  }
+
+  @Test
+  void rejectNullKey() {
+    var map = new NormalizedKeyMap<String>(compile(CaseStyle.CAMEL));
+    try {
+      map.put(null, "x");
+      fail();
+    } catch (NullPointerException e) {
+    }
+    assertThat(map.get(null)).isNull();
+  }
+
+  @Test
+  void removeAndClear() {
+    var map = new NormalizedKeyMap<Integer>(compile(CaseStyle.KEBAB));
+    map.put("createdAt", 1);
+    map.put("updatedAt", 2);
+    assertThat(map.remove("CREATED_AT")).isEqualTo(1);
+    assertThat(map.remove("createdAt")).isNull();
+    assertThat(map.remove(1)).isNull();
+    assertThat(map.size()).isEqualTo(1);
+
+    map.clear();
+    assertThat(map.isEmpty()).isTrue();
+    assertThat(map.get("updatedAt")).isNull();
+  }
+
+  @Test
+  void growAndIterate() {
+    var map = new NormalizedKeyMap<Integer>(compile(CaseStyle.SNAKE), 0);
+    var expected = new HashMap<String, Integer>();
+    for (int i = 0; i < 1000; i++) {
+      map.put("field" + i + "Name", i);
+      expected.put("field" + i + "Name", i);
+    }
+    assertThat(map.size()).isEqualTo(1000);
+    for (int i = 0; i < 1000; i++) {
+      assertThat(map.get("FIELD" + i + "_NAME")).isEqualTo(i);
+    }
+    assertThat(map).isEqualTo(expected);
+    assertThat(map.hashCode()).isEqualTo(expected.hashCode());
+
+    var it = map.entrySet().iterator();
+    while (it.hasNext()) {
+      var e = it.next();
+      if (e.getValue() % 2 == 0) {
+        it.remove();
+      }
+    }
+    assertThat(map.size()).isEqualTo(500);
+    assertThat(map.get("field1Name")).isEqualTo(1);
+    assertThat(map.get("field2Name")).isNull();
+  }
+
+  @Test
+  void setValueThroughEntry() {
+    var map = new NormalizedKeyMap<Integer>(compile(CaseStyle.SNAKE));
+    map.put("fooBar", 1);
+    for (Map.Entry<String, Integer> e : map.entrySet()) {
+      e.setValue(10);
+    }
+    assertThat(map.get("foo_bar")).isEqualTo(10);
+  }
+
+  @Test
+  void throwIfModifiedDuringIteration() {
+    var map = new NormalizedKeyMap<Integer>(compile(CaseStyle.SNAKE));
+    map.put("a", 1);
+    map.put("b", 2);
+    try {
+      for (var key : map.keySet()) {
+        map.put(key + "x", 3);
+      }
+      fail();
+    } catch (ConcurrentModificationException e) {
+    }
+  }
+
+  @Test
+  void throwIfExpectedSizeIsNegative() {
+    try {
+      new NormalizedKeyMap<Integer>(compile(CaseStyle.SNAKE), -1);
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertThat(e.getMessage()).isEqualTo("The expected size must not be negative: -1");
+    }
+  }
+}
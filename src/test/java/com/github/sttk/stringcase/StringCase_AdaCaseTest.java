@@ -2,7 +2,10 @@ package com.github.sttk.stringcase;
 
 import static com.github.sttk.stringcase.StringCase.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -1338,4 +1341,143 @@ public class StringCase_AdaCaseTest {
       }
     }
   }
+
+  @Nested
+  class AdaCaseToStringBuilder {
+    @Test
+    void appendToEmptyBuilder() {
+      var output = new StringBuilder();
+      adaCase("abcDefGHIjk", output);
+      assertThat(output.toString()).isEqualTo("Abc_Def_Gh_Ijk");
+    }
+
+    @Test
+    void appendToNonEmptyBuilder() {
+      var output = new StringBuilder("xyz:");
+      adaCase(new StringBuilder("abcDefGHIjk"), output);
+      assertThat(output.toString()).isEqualTo("xyz:Abc_Def_Gh_Ijk");
+    }
+
+    @Test
+    void appendWithOptions() {
+      var opts = new Options(true, true, null, null);
+      var output = new StringBuilder("xyz:");
+      adaCaseWithOptions("fooBar123Baz", opts, output);
+      assertThat(output.toString()).isEqualTo("xyz:Foo_Bar_123_Baz");
+    }
+
+    @Test
+    void appendEmpty() {
+      var output = new StringBuilder("xyz:");
+      adaCase("", output);
+      assertThat(output.toString()).isEqualTo("xyz:");
+    }
+  }
+
+  @Nested
+  class AdaCaseToAppendable {
+    @Test
+    void appendToEmptyWriter() throws IOException {
+      var output = new StringWriter();
+      adaCase("abcDefGHIjk", output);
+      assertThat(output.toString()).isEqualTo("Abc_Def_Gh_Ijk");
+    }
+
+    @Test
+    void appendToNonEmptyWriter() throws IOException {
+      var output = new StringWriter().append("xyz:");
+      adaCase(new StringBuilder("abcDefGHIjk"), output);
+      assertThat(output.toString()).isEqualTo("xyz:Abc_Def_Gh_Ijk");
+    }
+
+    @Test
+    void appendWithOptions() throws IOException {
+      var opts = new Options(true, true, null, null);
+      var output = new StringWriter().append("xyz:");
+      adaCaseWithOptions("fooBar123Baz", opts, output);
+      assertThat(output.toString()).isEqualTo("xyz:Foo_Bar_123_Baz");
+    }
+
+    @Test
+    void appendEmpty() throws IOException {
+      var output = new StringWriter().append("xyz:");
+      adaCase("", output);
+      assertThat(output.toString()).isEqualTo("xyz:");
+    }
+  }
+
+  @Nested
+  class AdaCaseWithRange {
+    @Test
+    void convertRangeOfString() {
+      var result = adaCase("{\"abcDefGHIjk\":1}", 2, 13);
+      assertThat(result).isEqualTo("Abc_Def_Gh_Ijk");
+    }
+
+    @Test
+    void convertRangeOfStringBuilder() {
+      var input = new StringBuilder("..fooBar123Baz..");
+      var result = adaCase(input, 2, input.length() - 2);
+      assertThat(result).isEqualTo("Foo_Bar123_Baz");
+    }
+
+    @Test
+    void convertRangeWithOptions() {
+      var opts = new Options(true, true, null, null);
+      var result = adaCaseWithOptions("[fooBar123Baz]", 1, 13, opts);
+      assertThat(result).isEqualTo("Foo_Bar_123_Baz");
+    }
+
+    @Test
+    void convertEmptyRange() {
+      var result = adaCase("abcDefGHIjk", 3, 3);
+      assertThat(result).isEqualTo("");
+    }
+
+    @Test
+    void throwIfRangeIsOutOfInput() {
+      try {
+        adaCase("abc", 1, 4);
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+      }
+
+      try {
+        adaCase("abc", 2, 1);
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+      }
+    }
+  }
+
+  @Nested
+  class IsAdaCase {
+    @Test
+    void checkString() {
+      assertThat(isAdaCase("Abc_Def_Gh_Ijk")).isTrue();
+      assertThat(isAdaCase("abc_def")).isFalse();
+      assertThat(isAdaCase("")).isTrue();
+      assertThat(isAdaCase(adaCase("abcDefGHIjk"))).isTrue();
+      assertThat(isAdaCase(adaCase("abc123-456defG89HIJklMN12"))).isTrue();
+    }
+
+    @Test
+    void checkStringBuilder() {
+      assertThat(isAdaCase(new StringBuilder("Abc_Def_Gh_Ijk"))).isTrue();
+      assertThat(isAdaCase(new StringBuilder("abc_def"))).isFalse();
+    }
+
+    @Test
+    void checkWithOptions() {
+      var opts = new Options(true, true, null, null);
+      var input = "abc123-456.defG89HIJklMN12";
+      assertThat(isAdaCaseWithOptions(adaCaseWithOptions(input, opts), opts)).isTrue();
+      assertThat(isAdaCaseWithOptions("abc_def", opts)).isFalse();
+
+      opts = new Options(false, true, null, ".");
+      assertThat(isAdaCaseWithOptions(adaCaseWithOptions(input, opts), opts)).isTrue();
+      assertThat(isAdaCaseWithOptions(adaCase(input), opts))
+          .isEqualTo(adaCase(input).equals(adaCaseWithOptions(adaCase(input), opts)));
+    }
+  }
 }
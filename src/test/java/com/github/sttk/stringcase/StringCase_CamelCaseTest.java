@@ -2,7 +2,10 @@ package com.github.sttk.stringcase;
 
 import static com.github.sttk.stringcase.StringCase.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -1338,4 +1341,143 @@ public class StringCase_CamelCaseTest {
       }
     }
   }
+
+  @Nested
+  class CamelCaseToStringBuilder {
+    @Test
+    void appendToEmptyBuilder() {
+      var output = new StringBuilder();
+      camelCase("abcDefGHIjk", output);
+      assertThat(output.toString()).isEqualTo("abcDefGhIjk");
+    }
+
+    @Test
+    void appendToNonEmptyBuilder() {
+      var output = new StringBuilder("xyz:");
+      camelCase(new StringBuilder("abcDefGHIjk"), output);
+      assertThat(output.toString()).isEqualTo("xyz:abcDefGhIjk");
+    }
+
+    @Test
+    void appendWithOptions() {
+      var opts = new Options(true, true, null, null);
+      var output = new StringBuilder("xyz:");
+      camelCaseWithOptions("fooBar123Baz", opts, output);
+      assertThat(output.toString()).isEqualTo("xyz:fooBar123Baz");
+    }
+
+    @Test
+    void appendEmpty() {
+      var output = new StringBuilder("xyz:");
+      camelCase("", output);
+      assertThat(output.toString()).isEqualTo("xyz:");
+    }
+  }
+
+  @Nested
+  class CamelCaseToAppendable {
+    @Test
+    void appendToEmptyWriter() throws IOException {
+      var output = new StringWriter();
+      camelCase("abcDefGHIjk", output);
+      assertThat(output.toString()).isEqualTo("abcDefGhIjk");
+    }
+
+    @Test
+    void appendToNonEmptyWriter() throws IOException {
+      var output = new StringWriter().append("xyz:");
+      camelCase(new StringBuilder("abcDefGHIjk"), output);
+      assertThat(output.toString()).isEqualTo("xyz:abcDefGhIjk");
+    }
+
+    @Test
+    void appendWithOptions() throws IOException {
+      var opts = new Options(true, true, null, null);
+      var output = new StringWriter().append("xyz:");
+      camelCaseWithOptions("fooBar123Baz", opts, output);
+      assertThat(output.toString()).isEqualTo("xyz:fooBar123Baz");
+    }
+
+    @Test
+    void appendEmpty() throws IOException {
+      var output = new StringWriter().append("xyz:");
+      camelCase("", output);
+      assertThat(output.toString()).isEqualTo("xyz:");
+    }
+  }
+
+  @Nested
+  class CamelCaseWithRange {
+    @Test
+    void convertRangeOfString() {
+      var result = camelCase("{\"abcDefGHIjk\":1}", 2, 13);
+      assertThat(result).isEqualTo("abcDefGhIjk");
+    }
+
+    @Test
+    void convertRangeOfStringBuilder() {
+      var input = new StringBuilder("..fooBar123Baz..");
+      var result = camelCase(input, 2, input.length() - 2);
+      assertThat(result).isEqualTo("fooBar123Baz");
+    }
+
+    @Test
+    void convertRangeWithOptions() {
+      var opts = new Options(true, true, null, null);
+      var result = camelCaseWithOptions("[fooBar123Baz]", 1, 13, opts);
+      assertThat(result).isEqualTo("fooBar123Baz");
+    }
+
+    @Test
+    void convertEmptyRange() {
+      var result = camelCase("abcDefGHIjk", 3, 3);
+      assertThat(result).isEqualTo("");
+    }
+
+    @Test
+    void throwIfRangeIsOutOfInput() {
+      try {
+        camelCase("abc", 1, 4);
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+      }
+
+      try {
+        camelCase("abc", 2, 1);
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+      }
+    }
+  }
+
+  @Nested
+  class IsCamelCase {
+    @Test
+    void checkString() {
+      assertThat(isCamelCase("abcDefGhIjk")).isTrue();
+      assertThat(isCamelCase("AbcDef")).isFalse();
+      assertThat(isCamelCase("")).isTrue();
+      assertThat(isCamelCase(camelCase("abcDefGHIjk"))).isTrue();
+      assertThat(isCamelCase(camelCase("abc123-456defG89HIJklMN12"))).isTrue();
+    }
+
+    @Test
+    void checkStringBuilder() {
+      assertThat(isCamelCase(new StringBuilder("abcDefGhIjk"))).isTrue();
+      assertThat(isCamelCase(new StringBuilder("AbcDef"))).isFalse();
+    }
+
+    @Test
+    void checkWithOptions() {
+      var opts = new Options(true, true, null, null);
+      var input = "abc123-456.defG89HIJklMN12";
+      assertThat(isCamelCaseWithOptions(camelCaseWithOptions(input, opts), opts)).isTrue();
+      assertThat(isCamelCaseWithOptions("AbcDef", opts)).isFalse();
+
+      opts = new Options(false, true, null, ".");
+      assertThat(isCamelCaseWithOptions(camelCaseWithOptions(input, opts), opts)).isTrue();
+      assertThat(isCamelCaseWithOptions(camelCase(input), opts))
+          .isEqualTo(camelCase(input).equals(camelCaseWithOptions(camelCase(input), opts)));
+    }
+  }
 }
@@ -3,6 +3,8 @@ package com.github.sttk.stringcase;
 import static com.github.sttk.stringcase.StringCase.*;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -1263,4 +1265,60 @@ public class StringCase_CapitalizeTest {
       }
     }
   }
+
+  @Nested
+  class CapitalizeToStringBuilder {
+    @Test
+    void appendWithCharJoiner() {
+      var opts = new Options(true, true, null, null);
+      var output = new StringBuilder("xyz:");
+      capitalize("fooBar123Baz", '.', opts, output);
+      assertThat(output.toString()).isEqualTo("xyz:Foo.Bar.123.Baz");
+    }
+
+    @Test
+    void appendWithCodepointJoiner() {
+      var opts = new Options(false, true, null, null);
+      var output = new StringBuilder("xyz:");
+      capitalize(new StringBuilder("abcDefGHIjk"), 0x2e, opts, output);
+      assertThat(output.toString()).isEqualTo("xyz:Abc.Def.Gh.Ijk");
+    }
+  }
+
+  @Nested
+  class CapitalizeToAppendable {
+    @Test
+    void appendWithCharJoiner() throws IOException {
+      var opts = new Options(true, true, null, null);
+      var output = new StringWriter().append("xyz:");
+      capitalize("fooBar123Baz", '.', opts, output);
+      assertThat(output.toString()).isEqualTo("xyz:Foo.Bar.123.Baz");
+    }
+
+    @Test
+    void appendWithCodepointJoiner() throws IOException {
+      var opts = new Options(false, true, null, null);
+      var output = new StringWriter().append("xyz:");
+      capitalize(new StringBuilder("abcDefGHIjk"), 0x2e, opts, output);
+      assertThat(output.toString()).isEqualTo("xyz:Abc.Def.Gh.Ijk");
+    }
+  }
+
+  @Nested
+  class CapitalizeWithRange {
+    @Test
+    void convertRangeWithCharJoiner() {
+      var opts = new Options(true, true, null, null);
+      var result = capitalize("[fooBar123Baz]", 1, 13, '.', opts);
+      assertThat(result).isEqualTo("Foo.Bar.123.Baz");
+    }
+
+    @Test
+    void convertRangeWithCodepointJoiner() {
+      var opts = new Options(false, true, null, null);
+      var input = new StringBuilder("xyz:abcDefGHIjk");
+      var result = capitalize(input, 4, input.length(), 0x2e, opts);
+      assertThat(result).isEqualTo("Abc.Def.Gh.Ijk");
+    }
+  }
 }
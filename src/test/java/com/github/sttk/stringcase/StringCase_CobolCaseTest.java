@@ -2,7 +2,10 @@ package com.github.sttk.stringcase;
 
 import static com.github.sttk.stringcase.StringCase.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -1338,4 +1341,143 @@ public class StringCase_CobolCaseTest {
       }
     }
   }
+
+  @Nested
+  class CobolCaseToStringBuilder {
+    @Test
+    void appendToEmptyBuilder() {
+      var output = new StringBuilder();
+      cobolCase("abcDefGHIjk", output);
+      assertThat(output.toString()).isEqualTo("ABC-DEF-GH-IJK");
+    }
+
+    @Test
+    void appendToNonEmptyBuilder() {
+      var output = new StringBuilder("xyz:");
+      cobolCase(new StringBuilder("abcDefGHIjk"), output);
+      assertThat(output.toString()).isEqualTo("xyz:ABC-DEF-GH-IJK");
+    }
+
+    @Test
+    void appendWithOptions() {
+      var opts = new Options(true, true, null, null);
+      var output = new StringBuilder("xyz:");
+      cobolCaseWithOptions("fooBar123Baz", opts, output);
+      assertThat(output.toString()).isEqualTo("xyz:FOO-BAR-123-BAZ");
+    }
+
+    @Test
+    void appendEmpty() {
+      var output = new StringBuilder("xyz:");
+      cobolCase("", output);
+      assertThat(output.toString()).isEqualTo("xyz:");
+    }
+  }
+
+  @Nested
+  class CobolCaseToAppendable {
+    @Test
+    void appendToEmptyWriter() throws IOException {
+      var output = new StringWriter();
+      cobolCase("abcDefGHIjk", output);
+      assertThat(output.toString()).isEqualTo("ABC-DEF-GH-IJK");
+    }
+
+    @Test
+    void appendToNonEmptyWriter() throws IOException {
+      var output = new StringWriter().append("xyz:");
+      cobolCase(new StringBuilder("abcDefGHIjk"), output);
+      assertThat(output.toString()).isEqualTo("xyz:ABC-DEF-GH-IJK");
+    }
+
+    @Test
+    void appendWithOptions() throws IOException {
+      var opts = new Options(true, true, null, null);
+      var output = new StringWriter().append("xyz:");
+      cobolCaseWithOptions("fooBar123Baz", opts, output);
+      assertThat(output.toString()).isEqualTo("xyz:FOO-BAR-123-BAZ");
+    }
+
+    @Test
+    void appendEmpty() throws IOException {
+      var output = new StringWriter().append("xyz:");
+      cobolCase("", output);
+      assertThat(output.toString()).isEqualTo("xyz:");
+    }
+  }
+
+  @Nested
+  class CobolCaseWithRange {
+    @Test
+    void convertRangeOfString() {
+      var result = cobolCase("{\"abcDefGHIjk\":1}", 2, 13);
+      assertThat(result).isEqualTo("ABC-DEF-GH-IJK");
+    }
+
+    @Test
+    void convertRangeOfStringBuilder() {
+      var input = new StringBuilder("..fooBar123Baz..");
+      var result = cobolCase(input, 2, input.length() - 2);
+      assertThat(result).isEqualTo("FOO-BAR123-BAZ");
+    }
+
+    @Test
+    void convertRangeWithOptions() {
+      var opts = new Options(true, true, null, null);
+      var result = cobolCaseWithOptions("[fooBar123Baz]", 1, 13, opts);
+      assertThat(result).isEqualTo("FOO-BAR-123-BAZ");
+    }
+
+    @Test
+    void convertEmptyRange() {
+      var result = cobolCase("abcDefGHIjk", 3, 3);
+      assertThat(result).isEqualTo("");
+    }
+
+    @Test
+    void throwIfRangeIsOutOfInput() {
+      try {
+        cobolCase("abc", 1, 4);
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+      }
+
+      try {
+        cobolCase("abc", 2, 1);
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+      }
+    }
+  }
+
+  @Nested
+  class IsCobolCase {
+    @Test
+    void checkString() {
+      assertThat(isCobolCase("ABC-DEF-GH-IJK")).isTrue();
+      assertThat(isCobolCase("ABC_DEF")).isFalse();
+      assertThat(isCobolCase("")).isTrue();
+      assertThat(isCobolCase(cobolCase("abcDefGHIjk"))).isTrue();
+      assertThat(isCobolCase(cobolCase("abc123-456defG89HIJklMN12"))).isTrue();
+    }
+
+    @Test
+    void checkStringBuilder() {
+      assertThat(isCobolCase(new StringBuilder("ABC-DEF-GH-IJK"))).isTrue();
+      assertThat(isCobolCase(new StringBuilder("ABC_DEF"))).isFalse();
+    }
+
+    @Test
+    void checkWithOptions() {
+      var opts = new Options(true, true, null, null);
+      var input = "abc123-456.defG89HIJklMN12";
+      assertThat(isCobolCaseWithOptions(cobolCaseWithOptions(input, opts), opts)).isTrue();
+      assertThat(isCobolCaseWithOptions("ABC_DEF", opts)).isFalse();
+
+      opts = new Options(false, true, null, ".");
+      assertThat(isCobolCaseWithOptions(cobolCaseWithOptions(input, opts), opts)).isTrue();
+      assertThat(isCobolCaseWithOptions(cobolCase(input), opts))
+          .isEqualTo(cobolCase(input).equals(cobolCaseWithOptions(cobolCase(input), opts)));
+    }
+  }
 }
@@ -0,0 +1,112 @@
+package com.github.sttk.stringcase;
+
+import static com.github.sttk.stringcase.StringCase.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("missing-explicit-ctor")
+public class StringCase_ComparatorTest {
+
+  @Nested
+  class ComparatorOfStyle {
+    @Test
+    void sortBySnakeCase() {
+      var list =
+          new ArrayList<CharSequence>(List.of("userName", "USER_ID", "createdAt", "user-age"));
+      list.sort(comparator(CaseStyle.SNAKE));
+      assertThat(list).containsExactly("createdAt", "user-age", "USER_ID", "userName");
+    }
+
+    @Test
+    void compareEquivalentInputsAsEqual() {
+      var cmp = comparator(CaseStyle.MACRO);
+      assertThat(cmp.compare("userId", "USER_ID")).isEqualTo(0);
+      assertThat(cmp.compare("user-id", new StringBuilder("UserId"))).isEqualTo(0);
+      assertThat(cmp.compare("", "")).isEqualTo(0);
+      assertThat(cmp.compare("a", "")).isGreaterThan(0);
+      assertThat(cmp.compare("", "a")).isLessThan(0);
+    }
+
+    @Test
+    void returnSameInstance() {
+      assertThat(comparator(CaseStyle.CAMEL)).isSameAs(comparator(CaseStyle.CAMEL));
+    }
+
+    @Test
+    void sortAcronymsAndDigits() {
+      // The conversions are "parse_http_request", "parse_http_request_id", "htt_ps", "http",
+      // "abc123_def", "abc_123_def", "abc1", "abc", "a" and "a", and the last two keep their order.
+      var list =
+          new ArrayList<CharSequence>(
+              List.of(
+                  "parseHTTPRequest",
+                  "parse_http_request_id",
+                  "HTTPs",
+                  "http",
+                  "abc123Def",
+                  "abc_123_def",
+                  "ABC1",
+                  "Abc",
+                  "a\ud83d\udc4d",
+                  "A"));
+      list.sort(comparator(CaseStyle.SNAKE));
+      assertThat(list)
+          .containsExactly(
+              "a\ud83d\udc4d",
+              "A",
+              "Abc",
+              "ABC1",
+              "abc123Def",
+              "abc_123_def",
+              "HTTPs",
+              "http",
+              "parseHTTPRequest",
+              "parse_http_request_id");
+    }
+
+    @Test
+    void sortLongInputs() {
+      var list =
+          new ArrayList<CharSequence>(
+              List.of(
+                  "theAcronymABCDEFGHIJKLMNOPQRSTUVWXYZEnd",
+                  "THE_ACRONYM_ABCDEFGHIJKLMNOPQRSTUVWXYZ",
+                  "the-acronym-abcdefghijklmnopqrstuvwxyz-end-2"));
+      list.sort(comparator(CaseStyle.MACRO));
+      assertThat(list)
+          .containsExactly(
+              "THE_ACRONYM_ABCDEFGHIJKLMNOPQRSTUVWXYZ",
+              "theAcronymABCDEFGHIJKLMNOPQRSTUVWXYZEnd",
+              "the-acronym-abcdefghijklmnopqrstuvwxyz-end-2");
+    }
+  }
+
+  @Nested
+  class ComparatorWithOptions {
+    @Test
+    void sortByKebabCaseWithOptions() {
+      var opts = new Options(true, true, null, null);
+      var cmp = comparatorWithOptions(CaseStyle.KEBAB, opts);
+      assertThat(cmp.compare("abc123", "abc-123")).isEqualTo(0);
+      assertThat(comparator(CaseStyle.KEBAB).compare("abc123", "abc-123")).isNotEqualTo(0);
+
+      var list = new ArrayList<CharSequence>(List.of("item2Name", "item10Name", "item_1_name"));
+      list.sort(cmp);
+      assertThat(list).containsExactly("item_1_name", "item10Name", "item2Name");
+    }
+
+    @Test
+    void sortKeptMarks() {
+      // The conversions are "ab", "a_\ud83d\udc4d", "a_b" and "a_._b", and the kept surrogate pair
+      // is greater than any ASCII char after the joiner.
+      var opts = new Options(true, true, null, ".\ud83d\udc4d");
+      var list = new ArrayList<CharSequence>(List.of("ab", "a\ud83d\udc4d", "aB", "a.b"));
+      list.sort(comparatorWithOptions(CaseStyle.SNAKE, opts));
+      assertThat(list).containsExactly("a.b", "aB", "a\ud83d\udc4d", "ab");
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package com.github.sttk.stringcase;
+
+import static com.github.sttk.stringcase.StringCase.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.EnumSet;
+import java.util.Map;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("missing-explicit-ctor")
+public class StringCase_ConvertManyTest {
+
+  static final String[] INPUTS = {
+    "",
+    "abcDefGHIjk",
+    "AbcDefGHIjk",
+    "ABC_DEF_GHI",
+    "abc-def-ghi",
+    "Abc Def Ghi",
+    "abc123-456defG89HIJklMN12",
+    "_-abc__def--",
+    "fooHTTPserver",
+    "foo.bar:baz.123",
+    "あいうえおaBcDe👍fGh",
+    "\ud83d-abc\udc4d",
+  };
+
+  static final Options[] OPTIONS = {
+    new Options(false, true, null, null),
+    new Options(true, false, null, null),
+    new Options(true, true, null, null),
+    new Options(false, false, null, null),
+    new Options(true, true, ":", null),
+    new Options(false, true, null, "."),
+    new Options(true, false, "-", "."),
+  };
+
+  @Nested
+  class ConvertManyWithOptions {
+    @Test
+    void convertAsSameAsEachStyle() {
+      for (var opts : OPTIONS) {
+        for (var input : INPUTS) {
+          var map = convertManyWithOptions(input, EnumSet.allOf(CaseStyle.class), opts);
+          assertThat(map).hasSize(CaseStyle.values().length);
+          for (var style : CaseStyle.values()) {
+            assertThat(map.get(style))
+                .as("%s %s", style, input)
+                .isEqualTo(compile(style, opts).convert(input));
+          }
+        }
+      }
+    }
+
+    @Test
+    void convertToSomeStyles() {
+      var opts = new Options(true, true, null, null);
+      var map =
+          convertManyWithOptions(
+              "userID2Name", EnumSet.of(CaseStyle.SNAKE, CaseStyle.CAMEL, CaseStyle.MACRO), opts);
+      assertThat(map)
+          .containsExactly(
+              Map.entry(CaseStyle.CAMEL, "userId2Name"),
+              Map.entry(CaseStyle.MACRO, "USER_ID_2_NAME"),
+              Map.entry(CaseStyle.SNAKE, "user_id_2_name"));
+    }
+
+    @Test
+    void convertToNoStyle() {
+      var opts = new Options(true, true, null, null);
+      assertThat(convertManyWithOptions("fooBar", EnumSet.noneOf(CaseStyle.class), opts)).isEmpty();
+    }
+  }
+
+  @Nested
+  class ConvertMany {
+    @Test
+    void convertAsSameAsEachStyle() {
+      for (var input : INPUTS) {
+        var map = convertMany(input, EnumSet.allOf(CaseStyle.class));
+        assertThat(map.get(CaseStyle.ADA)).isEqualTo(adaCase(input));
+        assertThat(map.get(CaseStyle.CAMEL)).isEqualTo(camelCase(input));
+        assertThat(map.get(CaseStyle.COBOL)).isEqualTo(cobolCase(input));
+        assertThat(map.get(CaseStyle.KEBAB)).isEqualTo(kebabCase(input));
+        assertThat(map.get(CaseStyle.MACRO)).isEqualTo(macroCase(input));
+        assertThat(map.get(CaseStyle.PASCAL)).isEqualTo(pascalCase(input));
+        assertThat(map.get(CaseStyle.SNAKE)).isEqualTo(snakeCase(input));
+        assertThat(map.get(CaseStyle.TITLE)).isEqualTo(titleCase(input));
+        assertThat(map.get(CaseStyle.TRAIN)).isEqualTo(trainCase(input));
+      }
+    }
+
+    @Test
+    void convertToOneStyle() {
+      assertThat(convertMany("fooBarBaz", EnumSet.of(CaseStyle.KEBAB)))
+          .containsExactly(Map.entry(CaseStyle.KEBAB, "foo-bar-baz"));
+    }
+  }
+}
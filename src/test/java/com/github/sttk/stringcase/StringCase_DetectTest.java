@@ -0,0 +1,128 @@
+package com.github.sttk.stringcase;
+
+import static com.github.sttk.stringcase.StringCase.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("missing-explicit-ctor")
+public class StringCase_DetectTest {
+
+  static int bits(CaseStyle... styles) {
+    int bits = 0;
+    for (var style : styles) {
+      bits |= 1 << style.ordinal();
+    }
+    return bits;
+  }
+
+  @Nested
+  class Detect {
+    @Test
+    void detectEachStyle() {
+      assertThat(detect("foo_bar_baz")).isEqualTo(CaseStyle.SNAKE);
+      assertThat(detect("fooBarBaz")).isEqualTo(CaseStyle.CAMEL);
+      assertThat(detect("foo-bar-baz")).isEqualTo(CaseStyle.KEBAB);
+      assertThat(detect("FOO_BAR_BAZ")).isEqualTo(CaseStyle.MACRO);
+      assertThat(detect("FooBarBaz")).isEqualTo(CaseStyle.PASCAL);
+      assertThat(detect("FOO-BAR-BAZ")).isEqualTo(CaseStyle.COBOL);
+      assertThat(detect("Foo-Bar-Baz")).isEqualTo(CaseStyle.TRAIN);
+      assertThat(detect("Foo_Bar_Baz")).isEqualTo(CaseStyle.ADA);
+      assertThat(detect("Foo Bar Baz")).isEqualTo(CaseStyle.TITLE);
+    }
+
+    @Test
+    void detectByOrder() {
+      assertThat(detect("foo")).isEqualTo(CaseStyle.SNAKE);
+      assertThat(detect("Foo")).isEqualTo(CaseStyle.PASCAL);
+      assertThat(detect("FOO")).isEqualTo(CaseStyle.MACRO);
+      assertThat(detect("")).isEqualTo(CaseStyle.SNAKE);
+    }
+
+    @Test
+    void detectMixed() {
+      assertThat(detect("foo_Bar")).isNull();
+      assertThat(detect("fooBar_baz")).isNull();
+      assertThat(detect("foo__bar")).isNull();
+      assertThat(detect("_foo")).isNull();
+      assertThat(detect("FOO-bar")).isNull();
+    }
+  }
+
+  @Nested
+  class DetectAll {
+    @Test
+    void detectAllStyles() {
+      assertThat(detectAll("foo"))
+          .isEqualTo(bits(CaseStyle.SNAKE, CaseStyle.KEBAB, CaseStyle.CAMEL));
+      assertThat(detectAll("Foo"))
+          .isEqualTo(bits(CaseStyle.ADA, CaseStyle.PASCAL, CaseStyle.TITLE, CaseStyle.TRAIN));
+      assertThat(detectAll("FOO")).isEqualTo(bits(CaseStyle.MACRO, CaseStyle.COBOL));
+      assertThat(detectAll("fooBAr")).isEqualTo(bits(CaseStyle.CAMEL));
+      assertThat(detectAll("foo_bar")).isEqualTo(bits(CaseStyle.SNAKE));
+      assertThat(detectAll("foo_Bar")).isEqualTo(0);
+      assertThat(detectAll("")).isEqualTo((1 << CaseStyle.values().length) - 1);
+    }
+
+    @Test
+    void detectAcronymsAndDigits() {
+      // An acronym ends at the last uppercase letter before a lowercase letter.
+      assertThat(detectAll("parseHttpRequest")).isEqualTo(bits(CaseStyle.CAMEL));
+      assertThat(detectAll("parseHTTPRequest")).isEqualTo(0);
+      assertThat(detectAll("ParseHTTPRequest")).isEqualTo(0);
+      assertThat(detectAll("FooBAr")).isEqualTo(bits(CaseStyle.PASCAL));
+      assertThat(detectAll("FOO_B_AR")).isEqualTo(bits(CaseStyle.MACRO));
+      assertThat(detectAll("FOO_BAr")).isEqualTo(0);
+
+      // A word is separated after digits.
+      assertThat(detectAll("abc123_def")).isEqualTo(bits(CaseStyle.SNAKE));
+      assertThat(detectAll("abc_123_def")).isEqualTo(bits(CaseStyle.SNAKE));
+      assertThat(detectAll("abc123Def")).isEqualTo(bits(CaseStyle.CAMEL));
+      assertThat(detectAll("Abc 123 Def")).isEqualTo(bits(CaseStyle.TITLE));
+      assertThat(detectAll("a1b")).isEqualTo(0);
+      assertThat(detectAll("ABC1")).isEqualTo(bits(CaseStyle.MACRO, CaseStyle.COBOL));
+      assertThat(detectAll("1")).isEqualTo((1 << CaseStyle.values().length) - 1);
+      assertThat(detectAll("_")).isEqualTo(0);
+    }
+
+    @Test
+    void detectNonAscii() {
+      // Non-ASCII chars, including surrogate pairs, are dropped as separators by all the styles.
+      assertThat(detectAll("foo\ud83d\udc4dbar")).isEqualTo(0);
+      assertThat(detectAll("foo_\ud83d\udc4d")).isEqualTo(0);
+      assertThat(detectAll("caf\u00e9")).isEqualTo(0);
+    }
+
+    @Test
+    void detectLongInput() {
+      var input = "abcdefghijklmnopqrstuvwxyz_abcdefghijklmnopqrstuvwxyz";
+      assertThat(detectAll(input)).isEqualTo(bits(CaseStyle.SNAKE));
+      input = "THE_ACRONYM_ABCDEFGHIJKLMNOPQRSTUVWXYZ_END";
+      assertThat(detectAll(input)).isEqualTo(bits(CaseStyle.MACRO));
+      input = "theAcronymABCDEFGHIJKLMNOPQRSTUVWXYZEnd";
+      assertThat(detectAll(input)).isEqualTo(0);
+      input = "Foo-Bar-Baz-Qux-Quux-Corge-Grault-Garply";
+      assertThat(detectAll(input)).isEqualTo(bits(CaseStyle.TRAIN));
+    }
+  }
+
+  @Nested
+  class DetectHistogram {
+    @Test
+    void countEachStyle() {
+      var inputs =
+          List.of("foo_bar", "baz", "fooBar", "FOO_BAR", "Foo Bar", "foo_Bar", "", "Foo", "x-y");
+      var counts = detectHistogram(inputs);
+      assertThat(counts).hasSize(CaseStyle.values().length + 1);
+      assertThat(counts[CaseStyle.SNAKE.ordinal()]).isEqualTo(3);
+      assertThat(counts[CaseStyle.CAMEL.ordinal()]).isEqualTo(1);
+      assertThat(counts[CaseStyle.MACRO.ordinal()]).isEqualTo(1);
+      assertThat(counts[CaseStyle.TITLE.ordinal()]).isEqualTo(1);
+      assertThat(counts[CaseStyle.PASCAL.ordinal()]).isEqualTo(1);
+      assertThat(counts[CaseStyle.KEBAB.ordinal()]).isEqualTo(1);
+      assertThat(counts[CaseStyle.values().length]).isEqualTo(1);
+    }
+  }
+}
@@ -2,7 +2,10 @@ package com.github.sttk.stringcase;
 
 import static com.github.sttk.stringcase.StringCase.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -1338,4 +1341,143 @@ public class StringCase_KebabCaseTest {
       }
     }
   }
+
+  @Nested
+  class KebabCaseToStringBuilder {
+    @Test
+    void appendToEmptyBuilder() {
+      var output = new StringBuilder();
+      kebabCase("abcDefGHIjk", output);
+      assertThat(output.toString()).isEqualTo("abc-def-gh-ijk");
+    }
+
+    @Test
+    void appendToNonEmptyBuilder() {
+      var output = new StringBuilder("xyz:");
+      kebabCase(new StringBuilder("abcDefGHIjk"), output);
+      assertThat(output.toString()).isEqualTo("xyz:abc-def-gh-ijk");
+    }
+
+    @Test
+    void appendWithOptions() {
+      var opts = new Options(true, true, null, null);
+      var output = new StringBuilder("xyz:");
+      kebabCaseWithOptions("fooBar123Baz", opts, output);
+      assertThat(output.toString()).isEqualTo("xyz:foo-bar-123-baz");
+    }
+
+    @Test
+    void appendEmpty() {
+      var output = new StringBuilder("xyz:");
+      kebabCase("", output);
+      assertThat(output.toString()).isEqualTo("xyz:");
+    }
+  }
+
+  @Nested
+  class KebabCaseToAppendable {
+    @Test
+    void appendToEmptyWriter() throws IOException {
+      var output = new StringWriter();
+      kebabCase("abcDefGHIjk", output);
+      assertThat(output.toString()).isEqualTo("abc-def-gh-ijk");
+    }
+
+    @Test
+    void appendToNonEmptyWriter() throws IOException {
+      var output = new StringWriter().append("xyz:");
+      kebabCase(new StringBuilder("abcDefGHIjk"), output);
+      assertThat(output.toString()).isEqualTo("xyz:abc-def-gh-ijk");
+    }
+
+    @Test
+    void appendWithOptions() throws IOException {
+      var opts = new Options(true, true, null, null);
+      var output = new StringWriter().append("xyz:");
+      kebabCaseWithOptions("fooBar123Baz", opts, output);
+      assertThat(output.toString()).isEqualTo("xyz:foo-bar-123-baz");
+    }
+
+    @Test
+    void appendEmpty() throws IOException {
+      var output = new StringWriter().append("xyz:");
+      kebabCase("", output);
+      assertThat(output.toString()).isEqualTo("xyz:");
+    }
+  }
+
+  @Nested
+  class KebabCaseWithRange {
+    @Test
+    void convertRangeOfString() {
+      var result = kebabCase("{\"abcDefGHIjk\":1}", 2, 13);
+      assertThat(result).isEqualTo("abc-def-gh-ijk");
+    }
+
+    @Test
+    void convertRangeOfStringBuilder() {
+      var input = new StringBuilder("..fooBar123Baz..");
+      var result = kebabCase(input, 2, input.length() - 2);
+      assertThat(result).isEqualTo("foo-bar123-baz");
+    }
+
+    @Test
+    void convertRangeWithOptions() {
+      var opts = new Options(true, true, null, null);
+      var result = kebabCaseWithOptions("[fooBar123Baz]", 1, 13, opts);
+      assertThat(result).isEqualTo("foo-bar-123-baz");
+    }
+
+    @Test
+    void convertEmptyRange() {
+      var result = kebabCase("abcDefGHIjk", 3, 3);
+      assertThat(result).isEqualTo("");
+    }
+
+    @Test
+    void throwIfRangeIsOutOfInput() {
+      try {
+        kebabCase("abc", 1, 4);
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+      }
+
+      try {
+        kebabCase("abc", 2, 1);
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+      }
+    }
+  }
+
+  @Nested
+  class IsKebabCase {
+    @Test
+    void checkString() {
+      assertThat(isKebabCase("abc-def-gh-ijk")).isTrue();
+      assertThat(isKebabCase("abc_def")).isFalse();
+      assertThat(isKebabCase("")).isTrue();
+      assertThat(isKebabCase(kebabCase("abcDefGHIjk"))).isTrue();
+      assertThat(isKebabCase(kebabCase("abc123-456defG89HIJklMN12"))).isTrue();
+    }
+
+    @Test
+    void checkStringBuilder() {
+      assertThat(isKebabCase(new StringBuilder("abc-def-gh-ijk"))).isTrue();
+      assertThat(isKebabCase(new StringBuilder("abc_def"))).isFalse();
+    }
+
+    @Test
+    void checkWithOptions() {
+      var opts = new Options(true, true, null, null);
+      var input = "abc123-456.defG89HIJklMN12";
+      assertThat(isKebabCaseWithOptions(kebabCaseWithOptions(input, opts), opts)).isTrue();
+      assertThat(isKebabCaseWithOptions("abc_def", opts)).isFalse();
+
+      opts = new Options(false, true, null, ".");
+      assertThat(isKebabCaseWithOptions(kebabCaseWithOptions(input, opts), opts)).isTrue();
+      assertThat(isKebabCaseWithOptions(kebabCase(input), opts))
+          .isEqualTo(kebabCase(input).equals(kebabCaseWithOptions(kebabCase(input), opts)));
+    }
+  }
 }
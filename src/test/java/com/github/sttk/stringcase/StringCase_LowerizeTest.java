@@ -3,6 +3,8 @@ package com.github.sttk.stringcase;
 import static com.github.sttk.stringcase.StringCase.*;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -1263,4 +1265,60 @@ public class StringCase_LowerizeTest {
       }
     }
   }
+
+  @Nested
+  class LowerizeToStringBuilder {
+    @Test
+    void appendWithCharJoiner() {
+      var opts = new Options(true, true, null, null);
+      var output = new StringBuilder("xyz:");
+      lowerize("fooBar123Baz", '.', opts, output);
+      assertThat(output.toString()).isEqualTo("xyz:foo.bar.123.baz");
+    }
+
+    @Test
+    void appendWithCodepointJoiner() {
+      var opts = new Options(false, true, null, null);
+      var output = new StringBuilder("xyz:");
+      lowerize(new StringBuilder("abcDefGHIjk"), 0x2e, opts, output);
+      assertThat(output.toString()).isEqualTo("xyz:abc.def.gh.ijk");
+    }
+  }
+
+  @Nested
+  class LowerizeToAppendable {
+    @Test
+    void appendWithCharJoiner() throws IOException {
+      var opts = new Options(true, true, null, null);
+      var output = new StringWriter().append("xyz:");
+      lowerize("fooBar123Baz", '.', opts, output);
+      assertThat(output.toString()).isEqualTo("xyz:foo.bar.123.baz");
+    }
+
+    @Test
+    void appendWithCodepointJoiner() throws IOException {
+      var opts = new Options(false, true, null, null);
+      var output = new StringWriter().append("xyz:");
+      lowerize(new StringBuilder("abcDefGHIjk"), 0x2e, opts, output);
+      assertThat(output.toString()).isEqualTo("xyz:abc.def.gh.ijk");
+    }
+  }
+
+  @Nested
+  class LowerizeWithRange {
+    @Test
+    void convertRangeWithCharJoiner() {
+      var opts = new Options(true, true, null, null);
+      var result = lowerize("[fooBar123Baz]", 1, 13, '.', opts);
+      assertThat(result).isEqualTo("foo.bar.123.baz");
+    }
+
+    @Test
+    void convertRangeWithCodepointJoiner() {
+      var opts = new Options(false, true, null, null);
+      var input = new StringBuilder("xyz:abcDefGHIjk");
+      var result = lowerize(input, 4, input.length(), 0x2e, opts);
+      assertThat(result).isEqualTo("abc.def.gh.ijk");
+    }
+  }
 }
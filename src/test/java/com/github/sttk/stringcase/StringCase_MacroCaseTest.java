@@ -2,7 +2,10 @@ package com.github.sttk.stringcase;
 
 import static com.github.sttk.stringcase.StringCase.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -1338,4 +1341,143 @@ public class StringCase_MacroCaseTest {
       }
     }
   }
+
+  @Nested
+  class MacroCaseToStringBuilder {
+    @Test
+    void appendToEmptyBuilder() {
+      var output = new StringBuilder();
+      macroCase("abcDefGHIjk", output);
+      assertThat(output.toString()).isEqualTo("ABC_DEF_GH_IJK");
+    }
+
+    @Test
+    void appendToNonEmptyBuilder() {
+      var output = new StringBuilder("xyz:");
+      macroCase(new StringBuilder("abcDefGHIjk"), output);
+      assertThat(output.toString()).isEqualTo("xyz:ABC_DEF_GH_IJK");
+    }
+
+    @Test
+    void appendWithOptions() {
+      var opts = new Options(true, true, null, null);
+      var output = new StringBuilder("xyz:");
+      macroCaseWithOptions("fooBar123Baz", opts, output);
+      assertThat(output.toString()).isEqualTo("xyz:FOO_BAR_123_BAZ");
+    }
+
+    @Test
+    void appendEmpty() {
+      var output = new StringBuilder("xyz:");
+      macroCase("", output);
+      assertThat(output.toString()).isEqualTo("xyz:");
+    }
+  }
+
+  @Nested
+  class MacroCaseToAppendable {
+    @Test
+    void appendToEmptyWriter() throws IOException {
+      var output = new StringWriter();
+      macroCase("abcDefGHIjk", output);
+      assertThat(output.toString()).isEqualTo("ABC_DEF_GH_IJK");
+    }
+
+    @Test
+    void appendToNonEmptyWriter() throws IOException {
+      var output = new StringWriter().append("xyz:");
+      macroCase(new StringBuilder("abcDefGHIjk"), output);
+      assertThat(output.toString()).isEqualTo("xyz:ABC_DEF_GH_IJK");
+    }
+
+    @Test
+    void appendWithOptions() throws IOException {
+      var opts = new Options(true, true, null, null);
+      var output = new StringWriter().append("xyz:");
+      macroCaseWithOptions("fooBar123Baz", opts, output);
+      assertThat(output.toString()).isEqualTo("xyz:FOO_BAR_123_BAZ");
+    }
+
+    @Test
+    void appendEmpty() throws IOException {
+      var output = new StringWriter().append("xyz:");
+      macroCase("", output);
+      assertThat(output.toString()).isEqualTo("xyz:");
+    }
+  }
+
+  @Nested
+  class MacroCaseWithRange {
+    @Test
+    void convertRangeOfString() {
+      var result = macroCase("{\"abcDefGHIjk\":1}", 2, 13);
+      assertThat(result).isEqualTo("ABC_DEF_GH_IJK");
+    }
+
+    @Test
+    void convertRangeOfStringBuilder() {
+      var input = new StringBuilder("..fooBar123Baz..");
+      var result = macroCase(input, 2, input.length() - 2);
+      assertThat(result).isEqualTo("FOO_BAR123_BAZ");
+    }
+
+    @Test
+    void convertRangeWithOptions() {
+      var opts = new Options(true, true, null, null);
+      var result = macroCaseWithOptions("[fooBar123Baz]", 1, 13, opts);
+      assertThat(result).isEqualTo("FOO_BAR_123_BAZ");
+    }
+
+    @Test
+    void convertEmptyRange() {
+      var result = macroCase("abcDefGHIjk", 3, 3);
+      assertThat(result).isEqualTo("");
+    }
+
+    @Test
+    void throwIfRangeIsOutOfInput() {
+      try {
+        macroCase("abc", 1, 4);
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+      }
+
+      try {
+        macroCase("abc", 2, 1);
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+      }
+    }
+  }
+
+  @Nested
+  class IsMacroCase {
+    @Test
+    void checkString() {
+      assertThat(isMacroCase("ABC_DEF_GH_IJK")).isTrue();
+      assertThat(isMacroCase("ABC-DEF")).isFalse();
+      assertThat(isMacroCase("")).isTrue();
+      assertThat(isMacroCase(macroCase("abcDefGHIjk"))).isTrue();
+      assertThat(isMacroCase(macroCase("abc123-456defG89HIJklMN12"))).isTrue();
+    }
+
+    @Test
+    void checkStringBuilder() {
+      assertThat(isMacroCase(new StringBuilder("ABC_DEF_GH_IJK"))).isTrue();
+      assertThat(isMacroCase(new StringBuilder("ABC-DEF"))).isFalse();
+    }
+
+    @Test
+    void checkWithOptions() {
+      var opts = new Options(true, true, null, null);
+      var input = "abc123-456.defG89HIJklMN12";
+      assertThat(isMacroCaseWithOptions(macroCaseWithOptions(input, opts), opts)).isTrue();
+      assertThat(isMacroCaseWithOptions("ABC-DEF", opts)).isFalse();
+
+      opts = new Options(false, true, null, ".");
+      assertThat(isMacroCaseWithOptions(macroCaseWithOptions(input, opts), opts)).isTrue();
+      assertThat(isMacroCaseWithOptions(macroCase(input), opts))
+          .isEqualTo(macroCase(input).equals(macroCaseWithOptions(macroCase(input), opts)));
+    }
+  }
 }
@@ -2,7 +2,10 @@ package com.github.sttk.stringcase;
 
 import static com.github.sttk.stringcase.StringCase.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -1338,4 +1341,143 @@ public class StringCase_PascalCaseTest {
       }
     }
   }
+
+  @Nested
+  class PascalCaseToStringBuilder {
+    @Test
+    void appendToEmptyBuilder() {
+      var output = new StringBuilder();
+      pascalCase("abcDefGHIjk", output);
+      assertThat(output.toString()).isEqualTo("AbcDefGhIjk");
+    }
+
+    @Test
+    void appendToNonEmptyBuilder() {
+      var output = new StringBuilder("xyz:");
+      pascalCase(new StringBuilder("abcDefGHIjk"), output);
+      assertThat(output.toString()).isEqualTo("xyz:AbcDefGhIjk");
+    }
+
+    @Test
+    void appendWithOptions() {
+      var opts = new Options(true, true, null, null);
+      var output = new StringBuilder("xyz:");
+      pascalCaseWithOptions("fooBar123Baz", opts, output);
+      assertThat(output.toString()).isEqualTo("xyz:FooBar123Baz");
+    }
+
+    @Test
+    void appendEmpty() {
+      var output = new StringBuilder("xyz:");
+      pascalCase("", output);
+      assertThat(output.toString()).isEqualTo("xyz:");
+    }
+  }
+
+  @Nested
+  class PascalCaseToAppendable {
+    @Test
+    void appendToEmptyWriter() throws IOException {
+      var output = new StringWriter();
+      pascalCase("abcDefGHIjk", output);
+      assertThat(output.toString()).isEqualTo("AbcDefGhIjk");
+    }
+
+    @Test
+    void appendToNonEmptyWriter() throws IOException {
+      var output = new StringWriter().append("xyz:");
+      pascalCase(new StringBuilder("abcDefGHIjk"), output);
+      assertThat(output.toString()).isEqualTo("xyz:AbcDefGhIjk");
+    }
+
+    @Test
+    void appendWithOptions() throws IOException {
+      var opts = new Options(true, true, null, null);
+      var output = new StringWriter().append("xyz:");
+      pascalCaseWithOptions("fooBar123Baz", opts, output);
+      assertThat(output.toString()).isEqualTo("xyz:FooBar123Baz");
+    }
+
+    @Test
+    void appendEmpty() throws IOException {
+      var output = new StringWriter().append("xyz:");
+      pascalCase("", output);
+      assertThat(output.toString()).isEqualTo("xyz:");
+    }
+  }
+
+  @Nested
+  class PascalCaseWithRange {
+    @Test
+    void convertRangeOfString() {
+      var result = pascalCase("{\"abcDefGHIjk\":1}", 2, 13);
+      assertThat(result).isEqualTo("AbcDefGhIjk");
+    }
+
+    @Test
+    void convertRangeOfStringBuilder() {
+      var input = new StringBuilder("..fooBar123Baz..");
+      var result = pascalCase(input, 2, input.length() - 2);
+      assertThat(result).isEqualTo("FooBar123Baz");
+    }
+
+    @Test
+    void convertRangeWithOptions() {
+      var opts = new Options(true, true, null, null);
+      var result = pascalCaseWithOptions("[fooBar123Baz]", 1, 13, opts);
+      assertThat(result).isEqualTo("FooBar123Baz");
+    }
+
+    @Test
+    void convertEmptyRange() {
+      var result = pascalCase("abcDefGHIjk", 3, 3);
+      assertThat(result).isEqualTo("");
+    }
+
+    @Test
+    void throwIfRangeIsOutOfInput() {
+      try {
+        pascalCase("abc", 1, 4);
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+      }
+
+      try {
+        pascalCase("abc", 2, 1);
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+      }
+    }
+  }
+
+  @Nested
+  class IsPascalCase {
+    @Test
+    void checkString() {
+      assertThat(isPascalCase("AbcDefGhIjk")).isTrue();
+      assertThat(isPascalCase("abcDef")).isFalse();
+      assertThat(isPascalCase("")).isTrue();
+      assertThat(isPascalCase(pascalCase("abcDefGHIjk"))).isTrue();
+      assertThat(isPascalCase(pascalCase("abc123-456defG89HIJklMN12"))).isTrue();
+    }
+
+    @Test
+    void checkStringBuilder() {
+      assertThat(isPascalCase(new StringBuilder("AbcDefGhIjk"))).isTrue();
+      assertThat(isPascalCase(new StringBuilder("abcDef"))).isFalse();
+    }
+
+    @Test
+    void checkWithOptions() {
+      var opts = new Options(true, true, null, null);
+      var input = "abc123-456.defG89HIJklMN12";
+      assertThat(isPascalCaseWithOptions(pascalCaseWithOptions(input, opts), opts)).isTrue();
+      assertThat(isPascalCaseWithOptions("abcDef", opts)).isFalse();
+
+      opts = new Options(false, true, null, ".");
+      assertThat(isPascalCaseWithOptions(pascalCaseWithOptions(input, opts), opts)).isTrue();
+      assertThat(isPascalCaseWithOptions(pascalCase(input), opts))
+          .isEqualTo(pascalCase(input).equals(pascalCaseWithOptions(pascalCase(input), opts)));
+    }
+  }
 }
@@ -2,7 +2,10 @@ package com.github.sttk.stringcase;
 
 import static com.github.sttk.stringcase.StringCase.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -1338,4 +1341,143 @@ public class StringCase_SnakeCaseTest {
       }
     }
   }
+
+  @Nested
+  class SnakeCaseToStringBuilder {
+    @Test
+    void appendToEmptyBuilder() {
+      var output = new StringBuilder();
+      snakeCase("abcDefGHIjk", output);
+      assertThat(output.toString()).isEqualTo("abc_def_gh_ijk");
+    }
+
+    @Test
+    void appendToNonEmptyBuilder() {
+      var output = new StringBuilder("xyz:");
+      snakeCase(new StringBuilder("abcDefGHIjk"), output);
+      assertThat(output.toString()).isEqualTo("xyz:abc_def_gh_ijk");
+    }
+
+    @Test
+    void appendWithOptions() {
+      var opts = new Options(true, true, null, null);
+      var output = new StringBuilder("xyz:");
+      snakeCaseWithOptions("fooBar123Baz", opts, output);
+      assertThat(output.toString()).isEqualTo("xyz:foo_bar_123_baz");
+    }
+
+    @Test
+    void appendEmpty() {
+      var output = new StringBuilder("xyz:");
+      snakeCase("", output);
+      assertThat(output.toString()).isEqualTo("xyz:");
+    }
+  }
+
+  @Nested
+  class SnakeCaseToAppendable {
+    @Test
+    void appendToEmptyWriter() throws IOException {
+      var output = new StringWriter();
+      snakeCase("abcDefGHIjk", output);
+      assertThat(output.toString()).isEqualTo("abc_def_gh_ijk");
+    }
+
+    @Test
+    void appendToNonEmptyWriter() throws IOException {
+      var output = new StringWriter().append("xyz:");
+      snakeCase(new StringBuilder("abcDefGHIjk"), output);
+      assertThat(output.toString()).isEqualTo("xyz:abc_def_gh_ijk");
+    }
+
+    @Test
+    void appendWithOptions() throws IOException {
+      var opts = new Options(true, true, null, null);
+      var output = new StringWriter().append("xyz:");
+      snakeCaseWithOptions("fooBar123Baz", opts, output);
+      assertThat(output.toString()).isEqualTo("xyz:foo_bar_123_baz");
+    }
+
+    @Test
+    void appendEmpty() throws IOException {
+      var output = new StringWriter().append("xyz:");
+      snakeCase("", output);
+      assertThat(output.toString()).isEqualTo("xyz:");
+    }
+  }
+
+  @Nested
+  class SnakeCaseWithRange {
+    @Test
+    void convertRangeOfString() {
+      var result = snakeCase("{\"abcDefGHIjk\":1}", 2, 13);
+      assertThat(result).isEqualTo("abc_def_gh_ijk");
+    }
+
+    @Test
+    void convertRangeOfStringBuilder() {
+      var input = new StringBuilder("..fooBar123Baz..");
+      var result = snakeCase(input, 2, input.length() - 2);
+      assertThat(result).isEqualTo("foo_bar123_baz");
+    }
+
+    @Test
+    void convertRangeWithOptions() {
+      var opts = new Options(true, true, null, null);
+      var result = snakeCaseWithOptions("[fooBar123Baz]", 1, 13, opts);
+      assertThat(result).isEqualTo("foo_bar_123_baz");
+    }
+
+    @Test
+    void convertEmptyRange() {
+      var result = snakeCase("abcDefGHIjk", 3, 3);
+      assertThat(result).isEqualTo("");
+    }
+
+    @Test
+    void throwIfRangeIsOutOfInput() {
+      try {
+        snakeCase("abc", 1, 4);
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+      }
+
+      try {
+        snakeCase("abc", 2, 1);
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+      }
+    }
+  }
+
+  @Nested
+  class IsSnakeCase {
+    @Test
+    void checkString() {
+      assertThat(isSnakeCase("abc_def_gh_ijk")).isTrue();
+      assertThat(isSnakeCase("abc-def")).isFalse();
+      assertThat(isSnakeCase("")).isTrue();
+      assertThat(isSnakeCase(snakeCase("abcDefGHIjk"))).isTrue();
+      assertThat(isSnakeCase(snakeCase("abc123-456defG89HIJklMN12"))).isTrue();
+    }
+
+    @Test
+    void checkStringBuilder() {
+      assertThat(isSnakeCase(new StringBuilder("abc_def_gh_ijk"))).isTrue();
+      assertThat(isSnakeCase(new StringBuilder("abc-def"))).isFalse();
+    }
+
+    @Test
+    void checkWithOptions() {
+      var opts = new Options(true, true, null, null);
+      var input = "abc123-456.defG89HIJklMN12";
+      assertThat(isSnakeCaseWithOptions(snakeCaseWithOptions(input, opts), opts)).isTrue();
+      assertThat(isSnakeCaseWithOptions("abc-def", opts)).isFalse();
+
+      opts = new Options(false, true, null, ".");
+      assertThat(isSnakeCaseWithOptions(snakeCaseWithOptions(input, opts), opts)).isTrue();
+      assertThat(isSnakeCaseWithOptions(snakeCase(input), opts))
+          .isEqualTo(snakeCase(input).equals(snakeCaseWithOptions(snakeCase(input), opts)));
+    }
+  }
 }
@@ -2,7 +2,10 @@ package com.github.sttk.stringcase;
 
 import static com.github.sttk.stringcase.StringCase.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -1338,4 +1341,143 @@ public class StringCase_TitleCaseTest {
       }
     }
   }
+
+  @Nested
+  class TitleCaseToStringBuilder {
+    @Test
+    void appendToEmptyBuilder() {
+      var output = new StringBuilder();
+      titleCase("abcDefGHIjk", output);
+      assertThat(output.toString()).isEqualTo("Abc Def Gh Ijk");
+    }
+
+    @Test
+    void appendToNonEmptyBuilder() {
+      var output = new StringBuilder("xyz:");
+      titleCase(new StringBuilder("abcDefGHIjk"), output);
+      assertThat(output.toString()).isEqualTo("xyz:Abc Def Gh Ijk");
+    }
+
+    @Test
+    void appendWithOptions() {
+      var opts = new Options(true, true, null, null);
+      var output = new StringBuilder("xyz:");
+      titleCaseWithOptions("fooBar123Baz", opts, output);
+      assertThat(output.toString()).isEqualTo("xyz:Foo Bar 123 Baz");
+    }
+
+    @Test
+    void appendEmpty() {
+      var output = new StringBuilder("xyz:");
+      titleCase("", output);
+      assertThat(output.toString()).isEqualTo("xyz:");
+    }
+  }
+
+  @Nested
+  class TitleCaseToAppendable {
+    @Test
+    void appendToEmptyWriter() throws IOException {
+      var output = new StringWriter();
+      titleCase("abcDefGHIjk", output);
+      assertThat(output.toString()).isEqualTo("Abc Def Gh Ijk");
+    }
+
+    @Test
+    void appendToNonEmptyWriter() throws IOException {
+      var output = new StringWriter().append("xyz:");
+      titleCase(new StringBuilder("abcDefGHIjk"), output);
+      assertThat(output.toString()).isEqualTo("xyz:Abc Def Gh Ijk");
+    }
+
+    @Test
+    void appendWithOptions() throws IOException {
+      var opts = new Options(true, true, null, null);
+      var output = new StringWriter().append("xyz:");
+      titleCaseWithOptions("fooBar123Baz", opts, output);
+      assertThat(output.toString()).isEqualTo("xyz:Foo Bar 123 Baz");
+    }
+
+    @Test
+    void appendEmpty() throws IOException {
+      var output = new StringWriter().append("xyz:");
+      titleCase("", output);
+      assertThat(output.toString()).isEqualTo("xyz:");
+    }
+  }
+
+  @Nested
+  class TitleCaseWithRange {
+    @Test
+    void convertRangeOfString() {
+      var result = titleCase("{\"abcDefGHIjk\":1}", 2, 13);
+      assertThat(result).isEqualTo("Abc Def Gh Ijk");
+    }
+
+    @Test
+    void convertRangeOfStringBuilder() {
+      var input = new StringBuilder("..fooBar123Baz..");
+      var result = titleCase(input, 2, input.length() - 2);
+      assertThat(result).isEqualTo("Foo Bar123 Baz");
+    }
+
+    @Test
+    void convertRangeWithOptions() {
+      var opts = new Options(true, true, null, null);
+      var result = titleCaseWithOptions("[fooBar123Baz]", 1, 13, opts);
+      assertThat(result).isEqualTo("Foo Bar 123 Baz");
+    }
+
+    @Test
+    void convertEmptyRange() {
+      var result = titleCase("abcDefGHIjk", 3, 3);
+      assertThat(result).isEqualTo("");
+    }
+
+    @Test
+    void throwIfRangeIsOutOfInput() {
+      try {
+        titleCase("abc", 1, 4);
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+      }
+
+      try {
+        titleCase("abc", 2, 1);
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+      }
+    }
+  }
+
+  @Nested
+  class IsTitleCase {
+    @Test
+    void checkString() {
+      assertThat(isTitleCase("Abc Def Gh Ijk")).isTrue();
+      assertThat(isTitleCase("Abc def")).isFalse();
+      assertThat(isTitleCase("")).isTrue();
+      assertThat(isTitleCase(titleCase("abcDefGHIjk"))).isTrue();
+      assertThat(isTitleCase(titleCase("abc123-456defG89HIJklMN12"))).isTrue();
+    }
+
+    @Test
+    void checkStringBuilder() {
+      assertThat(isTitleCase(new StringBuilder("Abc Def Gh Ijk"))).isTrue();
+      assertThat(isTitleCase(new StringBuilder("Abc def"))).isFalse();
+    }
+
+    @Test
+    void checkWithOptions() {
+      var opts = new Options(true, true, null, null);
+      var input = "abc123-456.defG89HIJklMN12";
+      assertThat(isTitleCaseWithOptions(titleCaseWithOptions(input, opts), opts)).isTrue();
+      assertThat(isTitleCaseWithOptions("Abc def", opts)).isFalse();
+
+      opts = new Options(false, true, null, ".");
+      assertThat(isTitleCaseWithOptions(titleCaseWithOptions(input, opts), opts)).isTrue();
+      assertThat(isTitleCaseWithOptions(titleCase(input), opts))
+          .isEqualTo(titleCase(input).equals(titleCaseWithOptions(titleCase(input), opts)));
+    }
+  }
 }
@@ -0,0 +1,171 @@
+package com.github.sttk.stringcase;
+
+import static com.github.sttk.stringcase.StringCase.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("missing-explicit-ctor")
+public class StringCase_TokenizeTest {
+
+  static List<String> words(CharSequence input, int[] offsets, int count) {
+    var words = new ArrayList<String>();
+    for (int n = 0; n < count; n++) {
+      words.add(input.subSequence(offsets[2 * n], offsets[2 * n + 1]).toString());
+    }
+    return words;
+  }
+
+  static String joinLower(CharSequence input, int[] offsets, int count) {
+    var sb = new StringBuilder();
+    for (var word : words(input, offsets, count)) {
+      if (!sb.isEmpty()) {
+        sb.append('_');
+      }
+      for (int i = 0; i < word.length(); i++) {
+        char c = word.charAt(i);
+        sb.append((c >= 'A' && c <= 'Z') ? (char) (c + 0x20) : c);
+      }
+    }
+    return sb.toString();
+  }
+
+  @Nested
+  class Tokenize {
+    @Test
+    void splitIntoWords() {
+      var offsets = new int[32];
+      var input = "abcDefGHIjk";
+      int n = tokenize(input, offsets);
+      assertThat(n).isEqualTo(4);
+      assertThat(words(input, offsets, n)).containsExactly("abc", "Def", "GH", "Ijk");
+      assertThat(offsets).startsWith(0, 3, 3, 6, 6, 8, 8, 11);
+
+      input = "__foo--BAR_baz__";
+      n = tokenize(input, offsets);
+      assertThat(words(input, offsets, n)).containsExactly("foo", "BAR", "baz");
+      assertThat(offsets).startsWith(2, 5, 7, 10, 11, 14);
+
+      input = "abc123-456defG89HIJklMN12";
+      n = tokenize(input, offsets);
+      assertThat(words(input, offsets, n))
+          .containsExactly("abc123", "456", "def", "G89", "HI", "Jkl", "MN12");
+
+      input = "あいう👍xyz";
+      n = tokenize(input, offsets);
+      assertThat(words(input, offsets, n)).containsExactly("xyz");
+    }
+
+    @Test
+    void emptyAndSeparatorsOnly() {
+      var offsets = new int[4];
+      assertThat(tokenize("", offsets)).isEqualTo(0);
+      assertThat(tokenize("_-_", offsets)).isEqualTo(0);
+    }
+
+    @Test
+    void returnCountEvenIfArrayIsShort() {
+      var offsets = new int[3];
+      assertThat(tokenize("fooBarBaz", offsets)).isEqualTo(3);
+      assertThat(offsets).containsExactly(0, 3, 0);
+    }
+
+    @Test
+    void passToConsumer() {
+      var list = new ArrayList<String>();
+      var input = "fooHTTPServer_v2";
+      int n = tokenize(input, (start, end) -> list.add(input.substring(start, end)));
+      assertThat(n).isEqualTo(4);
+      assertThat(list).containsExactly("foo", "HTTP", "Server", "v2");
+    }
+
+    @Test
+    void agreeWithSnakeCase() {
+      var offsets = new int[64];
+      for (var input : StringCase_ConvertManyTest.INPUTS) {
+        int n = tokenize(input, offsets);
+        assertThat(joinLower(input, offsets, n)).as(input).isEqualTo(snakeCase(input));
+      }
+    }
+  }
+
+  @Nested
+  class TokenizeWithOptions {
+    @Test
+    void splitIntoWords() {
+      var offsets = new int[32];
+      var opts = new Options(true, true, null, null);
+      var input = "abc123-456defG89HIJklMN12";
+      int n = tokenizeWithOptions(input, opts, offsets);
+      assertThat(words(input, offsets, n))
+          .containsExactly("abc", "123", "456", "def", "G", "89", "HI", "Jkl", "MN", "12");
+
+      opts = new Options(false, false, null, "-");
+      n = tokenizeWithOptions(input, opts, offsets);
+      assertThat(words(input, offsets, n)).containsExactly("abc123-456def", "G89HI", "Jkl", "MN12");
+    }
+
+    @Test
+    void agreeWithSnakeCase() {
+      var offsets = new int[64];
+      for (var opts : StringCase_ConvertManyTest.OPTIONS) {
+        if (opts.keep != null || opts.separators != null) {
+          continue; // the kept characters may include the joiner of snake case.
+        }
+        for (var input : StringCase_ConvertManyTest.INPUTS) {
+          int n = tokenizeWithOptions(input, opts, offsets);
+          assertThat(joinLower(input, offsets, n))
+              .as(input)
+              .isEqualTo(snakeCaseWithOptions(input, opts));
+        }
+      }
+    }
+
+    @Test
+    void passToConsumer() {
+      var list = new ArrayList<String>();
+      var input = "foo.bar:baz";
+      var opts = new Options(false, true, ":", null);
+      assertThat(snakeCaseWithOptions(input, opts)).isEqualTo("foo._bar_baz");
+      tokenizeWithOptions(input, opts, (start, end) -> list.add(input.substring(start, end)));
+      assertThat(list).containsExactly("foo.", "bar", "baz");
+    }
+  }
+
+  @Nested
+  class TokenizeRange {
+    @Test
+    void splitRangeIntoWords() {
+      var offsets = new int[8];
+      var input = "xx fooBar yy";
+      int n = compile(CaseStyle.SNAKE).tokenize(input, 3, 9, offsets);
+      assertThat(n).isEqualTo(2);
+      assertThat(offsets).startsWith(3, 6, 6, 9);
+
+      var list = new ArrayList<Integer>();
+      compile(CaseStyle.SNAKE)
+          .tokenize(
+              input,
+              3,
+              9,
+              (start, end) -> {
+                list.add(start);
+                list.add(end);
+              });
+      assertThat(list).containsExactly(3, 6, 6, 9);
+    }
+
+    @Test
+    void throwIfRangeIsOutOfBounds() {
+      try {
+        compile(CaseStyle.SNAKE).tokenize("abc", 2, 4, new int[4]);
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+      }
+    }
+  }
+}
@@ -2,7 +2,10 @@ package com.github.sttk.stringcase;
 
 import static com.github.sttk.stringcase.StringCase.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -1338,4 +1341,143 @@ public class StringCase_TrainCaseTest {
       }
     }
   }
+
+  @Nested
+  class TrainCaseToStringBuilder {
+    @Test
+    void appendToEmptyBuilder() {
+      var output = new StringBuilder();
+      trainCase("abcDefGHIjk", output);
+      assertThat(output.toString()).isEqualTo("Abc-Def-Gh-Ijk");
+    }
+
+    @Test
+    void appendToNonEmptyBuilder() {
+      var output = new StringBuilder("xyz:");
+      trainCase(new StringBuilder("abcDefGHIjk"), output);
+      assertThat(output.toString()).isEqualTo("xyz:Abc-Def-Gh-Ijk");
+    }
+
+    @Test
+    void appendWithOptions() {
+      var opts = new Options(true, true, null, null);
+      var output = new StringBuilder("xyz:");
+      trainCaseWithOptions("fooBar123Baz", opts, output);
+      assertThat(output.toString()).isEqualTo("xyz:Foo-Bar-123-Baz");
+    }
+
+    @Test
+    void appendEmpty() {
+      var output = new StringBuilder("xyz:");
+      trainCase("", output);
+      assertThat(output.toString()).isEqualTo("xyz:");
+    }
+  }
+
+  @Nested
+  class TrainCaseToAppendable {
+    @Test
+    void appendToEmptyWriter() throws IOException {
+      var output = new StringWriter();
+      trainCase("abcDefGHIjk", output);
+      assertThat(output.toString()).isEqualTo("Abc-Def-Gh-Ijk");
+    }
+
+    @Test
+    void appendToNonEmptyWriter() throws IOException {
+      var output = new StringWriter().append("xyz:");
+      trainCase(new StringBuilder("abcDefGHIjk"), output);
+      assertThat(output.toString()).isEqualTo("xyz:Abc-Def-Gh-Ijk");
+    }
+
+    @Test
+    void appendWithOptions() throws IOException {
+      var opts = new Options(true, true, null, null);
+      var output = new StringWriter().append("xyz:");
+      trainCaseWithOptions("fooBar123Baz", opts, output);
+      assertThat(output.toString()).isEqualTo("xyz:Foo-Bar-123-Baz");
+    }
+
+    @Test
+    void appendEmpty() throws IOException {
+      var output = new StringWriter().append("xyz:");
+      trainCase("", output);
+      assertThat(output.toString()).isEqualTo("xyz:");
+    }
+  }
+
+  @Nested
+  class TrainCaseWithRange {
+    @Test
+    void convertRangeOfString() {
+      var result = trainCase("{\"abcDefGHIjk\":1}", 2, 13);
+      assertThat(result).isEqualTo("Abc-Def-Gh-Ijk");
+    }
+
+    @Test
+    void convertRangeOfStringBuilder() {
+      var input = new StringBuilder("..fooBar123Baz..");
+      var result = trainCase(input, 2, input.length() - 2);
+      assertThat(result).isEqualTo("Foo-Bar123-Baz");
+    }
+
+    @Test
+    void convertRangeWithOptions() {
+      var opts = new Options(true, true, null, null);
+      var result = trainCaseWithOptions("[fooBar123Baz]", 1, 13, opts);
+      assertThat(result).isEqualTo("Foo-Bar-123-Baz");
+    }
+
+    @Test
+    void convertEmptyRange() {
+      var result = trainCase("abcDefGHIjk", 3, 3);
+      assertThat(result).isEqualTo("");
+    }
+
+    @Test
+    void throwIfRangeIsOutOfInput() {
+      try {
+        trainCase("abc", 1, 4);
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+      }
+
+      try {
+        trainCase("abc", 2, 1);
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+      }
+    }
+  }
+
+  @Nested
+  class IsTrainCase {
+    @Test
+    void checkString() {
+      assertThat(isTrainCase("Abc-Def-Gh-Ijk")).isTrue();
+      assertThat(isTrainCase("Abc-def")).isFalse();
+      assertThat(isTrainCase("")).isTrue();
+      assertThat(isTrainCase(trainCase("abcDefGHIjk"))).isTrue();
+      assertThat(isTrainCase(trainCase("abc123-456defG89HIJklMN12"))).isTrue();
+    }
+
+    @Test
+    void checkStringBuilder() {
+      assertThat(isTrainCase(new StringBuilder("Abc-Def-Gh-Ijk"))).isTrue();
+      assertThat(isTrainCase(new StringBuilder("Abc-def"))).isFalse();
+    }
+
+    @Test
+    void checkWithOptions() {
+      var opts = new Options(true, true, null, null);
+      var input = "abc123-456.defG89HIJklMN12";
+      assertThat(isTrainCaseWithOptions(trainCaseWithOptions(input, opts), opts)).isTrue();
+      assertThat(isTrainCaseWithOptions("Abc-def", opts)).isFalse();
+
+      opts = new Options(false, true, null, ".");
+      assertThat(isTrainCaseWithOptions(trainCaseWithOptions(input, opts), opts)).isTrue();
+      assertThat(isTrainCaseWithOptions(trainCase(input), opts))
+          .isEqualTo(trainCase(input).equals(trainCaseWithOptions(trainCase(input), opts)));
+    }
+  }
 }
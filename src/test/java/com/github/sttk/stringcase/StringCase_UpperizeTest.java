@@ -3,6 +3,8 @@ package com.github.sttk.stringcase;
 import static com.github.sttk.stringcase.StringCase.*;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -1263,4 +1265,60 @@ public class StringCase_UpperizeTest {
       }
     }
   }
+
+  @Nested
+  class UpperizeToStringBuilder {
+    @Test
+    void appendWithCharJoiner() {
+      var opts = new Options(true, true, null, null);
+      var output = new StringBuilder("xyz:");
+      upperize("fooBar123Baz", '.', opts, output);
+      assertThat(output.toString()).isEqualTo("xyz:FOO.BAR.123.BAZ");
+    }
+
+    @Test
+    void appendWithCodepointJoiner() {
+      var opts = new Options(false, true, null, null);
+      var output = new StringBuilder("xyz:");
+      upperize(new StringBuilder("abcDefGHIjk"), 0x2e, opts, output);
+      assertThat(output.toString()).isEqualTo("xyz:ABC.DEF.GH.IJK");
+    }
+  }
+
+  @Nested
+  class UpperizeToAppendable {
+    @Test
+    void appendWithCharJoiner() throws IOException {
+      var opts = new Options(true, true, null, null);
+      var output = new StringWriter().append("xyz:");
+      upperize("fooBar123Baz", '.', opts, output);
+      assertThat(output.toString()).isEqualTo("xyz:FOO.BAR.123.BAZ");
+    }
+
+    @Test
+    void appendWithCodepointJoiner() throws IOException {
+      var opts = new Options(false, true, null, null);
+      var output = new StringWriter().append("xyz:");
+      upperize(new StringBuilder("abcDefGHIjk"), 0x2e, opts, output);
+      assertThat(output.toString()).isEqualTo("xyz:ABC.DEF.GH.IJK");
+    }
+  }
+
+  @Nested
+  class UpperizeWithRange {
+    @Test
+    void convertRangeWithCharJoiner() {
+      var opts = new Options(true, true, null, null);
+      var result = upperize("[fooBar123Baz]", 1, 13, '.', opts);
+      assertThat(result).isEqualTo("FOO.BAR.123.BAZ");
+    }
+
+    @Test
+    void convertRangeWithCodepointJoiner() {
+      var opts = new Options(false, true, null, null);
+      var input = new StringBuilder("xyz:abcDefGHIjk");
+      var result = upperize(input, 4, input.length(), 0x2e, opts);
+      assertThat(result).isEqualTo("ABC.DEF.GH.IJK");
+    }
+  }
 }
@@ -1,8 +1,14 @@
 package com.github.sttk.stringcase.codepoint;
 
 import static java.lang.Character.codePointAt;
+import static java.lang.Character.isLowerCase;
+import static java.lang.Character.toLowerCase;
+import static java.lang.Character.toUpperCase;
+import static java.nio.charset.StandardCharsets.US_ASCII;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.CharBuffer;
+import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 public class AsciiTest {
@@ -72,4 +78,116 @@ public class AsciiTest {
     assertThat(Ascii.toLowerCase(codePointAt("A", 0))).isEqualTo(0x61);
     assertThat(Ascii.toLowerCase(codePointAt("Z", 0))).isEqualTo(0x7a);
   }
+
+  @Test
+  void testLowerCaseRunEndOfChars() {
+    assertThat(Ascii.lowerCaseRunEnd("abcDef", 0, 6)).isEqualTo(3);
+    assertThat(Ascii.lowerCaseRunEnd("abcDef", 1, 6)).isEqualTo(3);
+    assertThat(Ascii.lowerCaseRunEnd("abcDef", 3, 6)).isEqualTo(3);
+    assertThat(Ascii.lowerCaseRunEnd("abcDef", 4, 6)).isEqualTo(6);
+    assertThat(Ascii.lowerCaseRunEnd("abcDef", 1, 2)).isEqualTo(2);
+  }
+
+  @Test
+  void testUpperCaseRunEndOfChars() {
+    assertThat(Ascii.upperCaseRunEnd("ABCdEF", 0, 6)).isEqualTo(3);
+    assertThat(Ascii.upperCaseRunEnd("ABCdEF", 3, 6)).isEqualTo(3);
+    assertThat(Ascii.upperCaseRunEnd("ABCdEF", 4, 6)).isEqualTo(6);
+  }
+
+  @Test
+  void testRunEndOfCharArray() {
+    var chars = "abcDEF\u3042gh".toCharArray();
+    assertThat(Ascii.lowerCaseRunEnd(chars, 0, 9)).isEqualTo(3);
+    assertThat(Ascii.lowerCaseRunEnd(chars, 3, 9)).isEqualTo(3);
+    assertThat(Ascii.lowerCaseRunEnd(chars, 7, 9)).isEqualTo(9);
+    assertThat(Ascii.upperCaseRunEnd(chars, 3, 9)).isEqualTo(6);
+    assertThat(Ascii.upperCaseRunEnd(chars, 3, 5)).isEqualTo(5);
+    assertThat(Ascii.upperCaseRunEnd(chars, 6, 9)).isEqualTo(6);
+  }
+
+  @Test
+  void testRunEndOfCharBuffer() {
+    var cb = CharBuffer.wrap("--abcDEFgh--".toCharArray(), 2, 8).slice();
+    assertThat(Ascii.lowerCaseRunEnd(cb, 0, 8)).isEqualTo(3);
+    assertThat(Ascii.upperCaseRunEnd(cb, 3, 8)).isEqualTo(6);
+    assertThat(Ascii.lowerCaseRunEnd(cb, 6, 8)).isEqualTo(8);
+
+    cb = CharBuffer.wrap("--abcDEFgh--".toCharArray()).position(2);
+    assertThat(Ascii.lowerCaseRunEnd(cb, 0, 8)).isEqualTo(3);
+    assertThat(Ascii.upperCaseRunEnd(cb, 3, 8)).isEqualTo(6);
+    assertThat(Ascii.lowerCaseRunEnd(cb, 6, 8)).isEqualTo(8);
+  }
+
+  @Test
+  void testLowerCaseRunEndOfBytes() {
+    for (int b = 0; b < 0x100; b++) {
+      for (int p = 0; p < 20; p++) {
+        var bytes = new byte[20];
+        Arrays.fill(bytes, (byte) 'a');
+        bytes[p] = (byte) b;
+        int expected = Ascii.isLowerCase(b) ? 20 : p;
+        assertThat(Ascii.lowerCaseRunEnd(bytes, 0, 20)).as("%x at %d", b, p).isEqualTo(expected);
+        assertThat(Ascii.lowerCaseRunEnd(bytes, 0, 17))
+            .as("%x at %d", b, p)
+            .isEqualTo(Math.min(expected, 17));
+        if (p >= 3) {
+          assertThat(Ascii.lowerCaseRunEnd(bytes, 3, 20)).as("%x at %d", b, p).isEqualTo(expected);
+        }
+      }
+    }
+  }
+
+  @Test
+  void testUpperCaseRunEndOfBytes() {
+    for (int b = 0; b < 0x100; b++) {
+      for (int p = 0; p < 20; p++) {
+        var bytes = new byte[20];
+        Arrays.fill(bytes, (byte) 'Z');
+        bytes[p] = (byte) b;
+        int expected = Ascii.isUpperCase(b) ? 20 : p;
+        assertThat(Ascii.upperCaseRunEnd(bytes, 0, 20)).as("%x at %d", b, p).isEqualTo(expected);
+        assertThat(Ascii.upperCaseRunEnd(bytes, 0, 17))
+            .as("%x at %d", b, p)
+            .isEqualTo(Math.min(expected, 17));
+        if (p >= 3) {
+          assertThat(Ascii.upperCaseRunEnd(bytes, 3, 20)).as("%x at %d", b, p).isEqualTo(expected);
+        }
+      }
+    }
+  }
+
+  @Test
+  void testCopyLetters() {
+    var src = "xxabcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ".getBytes(US_ASCII);
+    for (int n = 0; n <= 52; n++) {
+      var dst = new byte[n + 3];
+      Ascii.copyLetters(src, 2, dst, 1, n, false);
+      assertThat(new String(dst, 1, n, US_ASCII)).isEqualTo(new String(src, 2, n, US_ASCII));
+      assertThat(dst[0]).isEqualTo((byte) 0);
+      assertThat(dst[n + 1]).isEqualTo((byte) 0);
+
+      dst = new byte[n + 3];
+      Ascii.copyLetters(src, 2, dst, 1, n, true);
+      var flipped = new StringBuilder();
+      for (int i = 0; i < n; i++) {
+        var c = (char) src[2 + i];
+        flipped.append(isLowerCase(c) ? toUpperCase(c) : toLowerCase(c));
+      }
+      assertThat(new String(dst, 1, n, US_ASCII)).isEqualTo(flipped.toString());
+      assertThat(dst[0]).isEqualTo((byte) 0);
+      assertThat(dst[n + 1]).isEqualTo((byte) 0);
+    }
+  }
+
+  @Test
+  void testFlipCases() {
+    var chars = "--abcXYZ09_--".toCharArray();
+    Ascii.flipCases(chars, 2, 8);
+    assertThat(new String(chars)).isEqualTo("--ABCxyz09_--");
+    Ascii.flipCases(chars, 3, 6);
+    assertThat(new String(chars)).isEqualTo("--AbcXyz09_--");
+    Ascii.flipCases(chars, 4, 4);
+    assertThat(new String(chars)).isEqualTo("--AbcXyz09_--");
+  }
 }
@@ -0,0 +1,98 @@
+package com.github.sttk.stringcase.codepoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+public class CharArrayPoolTest {
+
+  @Test
+  void testAcquireNewArray() {
+    var pool = new CharArrayPool(4, 1024);
+    assertThat(pool.acquire(10)).hasSize(CharArrayPool.MIN_LENGTH);
+    assertThat(pool.acquire(100)).hasSize(100);
+  }
+
+  @Test
+  void testReuseReleasedArray() {
+    var pool = new CharArrayPool(4, 1024);
+    var chars = pool.acquire(100);
+    pool.release(chars);
+    assertThat(pool.acquire(50)).isSameAs(chars);
+    assertThat(pool.acquire(50)).isNotSameAs(chars);
+  }
+
+  @Test
+  void testNotReuseShorterArray() {
+    var pool = new CharArrayPool(4, 1024);
+    var chars = pool.acquire(100);
+    pool.release(chars);
+    assertThat(pool.acquire(200)).isNotSameAs(chars).hasSize(200);
+    assertThat(pool.acquire(100)).isSameAs(chars);
+  }
+
+  @Test
+  void testDropOversizeArray() {
+    var pool = new CharArrayPool(4, 1024);
+    var chars = pool.acquire(2000);
+    pool.release(chars);
+    assertThat(pool.acquire(2000)).isNotSameAs(chars);
+  }
+
+  @Test
+  void testDropArrayIfFull() {
+    var pool = new CharArrayPool(1, 1024);
+    var arrays = new ArrayList<char[]>();
+    for (int i = 0; i < 10; i++) {
+      arrays.add(pool.acquire(10));
+    }
+    for (var chars : arrays) {
+      pool.release(chars);
+    }
+    var reused = new IdentityHashMap<char[], Boolean>();
+    for (int i = 0; i < 10; i++) {
+      var chars = pool.acquire(10);
+      if (arrays.stream().anyMatch(a -> a == chars)) {
+        reused.put(chars, true);
+      }
+    }
+    assertThat(reused.size()).isBetween(1, CharArrayPool.PROBES);
+  }
+
+  @Test
+  void testNeverShareArrayConcurrently() throws Exception {
+    var pool = new CharArrayPool(2, 1024);
+    var executor = Executors.newVirtualThreadPerTaskExecutor();
+    try {
+      var tasks = new ArrayList<Callable<Boolean>>();
+      for (int t = 0; t < 16; t++) {
+        char mark = (char) ('a' + t);
+        tasks.add(
+            () -> {
+              for (int i = 0; i < 10_000; i++) {
+                var chars = pool.acquire(16);
+                Arrays.fill(chars, 0, 16, mark);
+                Thread.yield();
+                for (int j = 0; j < 16; j++) {
+                  if (chars[j] != mark) {
+                    return false;
+                  }
+                }
+                pool.release(chars);
+              }
+              return true;
+            });
+      }
+      for (var future : executor.invokeAll(tasks)) {
+        assertThat(future.get()).isTrue();
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
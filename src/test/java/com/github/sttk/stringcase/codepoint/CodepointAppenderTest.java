@@ -0,0 +1,66 @@
+package com.github.sttk.stringcase.codepoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import org.junit.jupiter.api.Test;
+
+public class CodepointAppenderTest {
+
+  @Test
+  void testConstructor() {
+    var out = new StringBuilder();
+    var appender = new CodepointAppender(out);
+    assertThat(out.toString()).isEqualTo("");
+
+    try {
+      appender.last();
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+    }
+  }
+
+  @Test
+  void testAppend() {
+    var out = new StringBuilder();
+    var appender = new CodepointAppender(out);
+
+    appender.append(0x41);
+    assertThat(out.toString()).isEqualTo("");
+    assertThat(appender.last()).isEqualTo("A".codePointAt(0));
+
+    appender.append(0x3042, 0x3044);
+    assertThat(out.toString()).isEqualTo("Aあ");
+    assertThat(appender.last()).isEqualTo("い".codePointAt(0));
+
+    appender.append(0x1f44d);
+    assertThat(out.toString()).isEqualTo("Aあい");
+    assertThat(appender.last()).isEqualTo("👍".codePointAt(0));
+
+    appender.flush();
+    assertThat(out.toString()).isEqualTo("Aあい👍");
+
+    appender.flush();
+    assertThat(out.toString()).isEqualTo("Aあい👍");
+  }
+
+  @Test
+  void testReplaceLast() {
+    var out = new StringBuilder();
+    var appender = new CodepointAppender(out);
+
+    appender.append(0x41);
+    appender.replaceLast(0x42, 0x3042);
+    assertThat(out.toString()).isEqualTo("B");
+    assertThat(appender.last()).isEqualTo("あ".codePointAt(0));
+
+    appender.replaceLast(0x43, 0x44);
+    assertThat(out.toString()).isEqualTo("BC");
+    assertThat(appender.last()).isEqualTo("D".codePointAt(0));
+
+    appender.append(0x1f44d);
+    appender.replaceLast(0x45, 0x46, 0x47);
+    appender.flush();
+    assertThat(out.toString()).isEqualTo("BCDEFG");
+  }
+}
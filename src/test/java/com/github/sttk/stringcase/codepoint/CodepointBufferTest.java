@@ -26,10 +26,6 @@ public class CodepointBufferTest {
     assertThat(buf.toString()).isEqualTo("");
     assertThat(buf.isEmpty()).isTrue();
 
-    buf.append();
-    assertThat(buf.toString()).isEqualTo("");
-    assertThat(buf.isEmpty()).isTrue();
-
     buf.append(0x41);
     assertThat(buf.toString()).isEqualTo("A");
     assertThat(buf.isEmpty()).isFalse();
@@ -45,9 +41,8 @@ public class CodepointBufferTest {
     assertThat(buf.isEmpty()).isFalse();
     assertThat(buf.last()).isEqualTo("👍".codePointAt(0));
 
-    buf.append();
-    assertThat(buf.toString()).isEqualTo("Aあい👍");
-    assertThat(buf.isEmpty()).isFalse();
+    buf.append(0x5f, 0x1f44d);
+    assertThat(buf.toString()).isEqualTo("Aあい👍_👍");
     assertThat(buf.last()).isEqualTo("👍".codePointAt(0));
   }
 
@@ -62,12 +57,7 @@ public class CodepointBufferTest {
     assertThat(buf.isEmpty()).isFalse();
     assertThat(buf.last()).isEqualTo("A".codePointAt(0));
 
-    buf.replaceLast(0x42);
-    assertThat(buf.toString()).isEqualTo("B");
-    assertThat(buf.isEmpty()).isFalse();
-    assertThat(buf.last()).isEqualTo("B".codePointAt(0));
-
-    buf.append(0x3042);
+    buf.replaceLast(0x42, 0x3042);
     assertThat(buf.toString()).isEqualTo("Bあ");
     assertThat(buf.isEmpty()).isFalse();
     assertThat(buf.last()).isEqualTo("あ".codePointAt(0));
@@ -86,5 +76,45 @@ public class CodepointBufferTest {
     assertThat(buf.toString()).isEqualTo("BCDEFG");
     assertThat(buf.isEmpty()).isFalse();
     assertThat(buf.last()).isEqualTo("G".codePointAt(0));
+
+    buf.replaceLast(0x5f, 0x1f44d, 0x68);
+    assertThat(buf.toString()).isEqualTo("BCDEF_👍h");
+    assertThat(buf.last()).isEqualTo("h".codePointAt(0));
+  }
+
+  @Test
+  void testGrow() {
+    var buf = new CodepointBuffer(0);
+    assertThat(buf.toString()).isEqualTo("");
+
+    var sb = new StringBuilder();
+    for (int i = 0; i < 100; i++) {
+      buf.append(0x5f, 0x1f44d);
+      sb.append("_👍");
+    }
+    assertThat(buf.toString()).isEqualTo(sb.toString());
+
+    buf.replaceLast(0x41, 0x42, 0x43);
+    assertThat(buf.toString()).isEqualTo(sb.substring(0, sb.length() - 2) + "ABC");
+  }
+
+  @Test
+  void testClear() {
+    var buf = new CodepointBuffer(4);
+    buf.append(0x41, 0x42);
+    assertThat(buf.toString()).isEqualTo("AB");
+
+    buf.clear();
+    assertThat(buf.toString()).isEqualTo("");
+    assertThat(buf.isEmpty()).isTrue();
+    try {
+      buf.last();
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+    }
+
+    buf.append(0x43);
+    assertThat(buf.toString()).isEqualTo("C");
+    assertThat(buf.last()).isEqualTo("C".codePointAt(0));
   }
 }
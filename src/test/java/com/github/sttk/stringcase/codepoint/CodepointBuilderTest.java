@@ -0,0 +1,59 @@
+package com.github.sttk.stringcase.codepoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import org.junit.jupiter.api.Test;
+
+public class CodepointBuilderTest {
+
+  @Test
+  void testConstructor() {
+    var sb = new StringBuilder("xyz:");
+    var buf = new CodepointBuilder(sb);
+    assertThat(sb.toString()).isEqualTo("xyz:");
+
+    try {
+      buf.last();
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+    }
+  }
+
+  @Test
+  void testAppend() {
+    var sb = new StringBuilder("xyz:");
+    var buf = new CodepointBuilder(sb);
+
+    buf.append(0x41);
+    assertThat(sb.toString()).isEqualTo("xyz:A");
+    assertThat(buf.last()).isEqualTo("A".codePointAt(0));
+
+    buf.append(0x3042, 0x3044);
+    assertThat(sb.toString()).isEqualTo("xyz:Aあい");
+    assertThat(buf.last()).isEqualTo("い".codePointAt(0));
+
+    buf.append(0x5f, 0x1f44d);
+    assertThat(sb.toString()).isEqualTo("xyz:Aあい_👍");
+    assertThat(buf.last()).isEqualTo("👍".codePointAt(0));
+  }
+
+  @Test
+  void testReplaceLast() {
+    var sb = new StringBuilder("xyz:");
+    var buf = new CodepointBuilder(sb);
+
+    buf.append(0x41, 0x42);
+    assertThat(sb.toString()).isEqualTo("xyz:AB");
+    assertThat(buf.last()).isEqualTo("B".codePointAt(0));
+
+    buf.replaceLast(0x5f, 0x42, 0x63);
+    assertThat(sb.toString()).isEqualTo("xyz:A_Bc");
+    assertThat(buf.last()).isEqualTo("c".codePointAt(0));
+
+    buf.append(0x1f44d);
+    buf.replaceLast(0x44, 0x65);
+    assertThat(sb.toString()).isEqualTo("xyz:A_BcDe");
+    assertThat(buf.last()).isEqualTo("e".codePointAt(0));
+  }
+}
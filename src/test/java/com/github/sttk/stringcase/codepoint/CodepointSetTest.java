@@ -0,0 +1,61 @@
+package com.github.sttk.stringcase.codepoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+public class CodepointSetTest {
+
+  @Test
+  void testConstructor() {
+    var set = new CodepointSet("-_.");
+    assertThat(set.low).isEqualTo((1L << 0x2d) | (1L << 0x2e));
+    assertThat(set.high).isEqualTo(1L << (0x5f - 0x40));
+    assertThat(set.nonAscii).isEmpty();
+
+    set = new CodepointSet("👍あ-あ\u0080");
+    assertThat(set.low).isEqualTo(1L << 0x2d);
+    assertThat(set.high).isEqualTo(0L);
+    assertThat(set.nonAscii).containsExactly(0x80, "あ".codePointAt(0), "👍".codePointAt(0));
+
+    set = new CodepointSet("");
+    assertThat(set.low).isEqualTo(0L);
+    assertThat(set.high).isEqualTo(0L);
+    assertThat(set.nonAscii).isEmpty();
+  }
+
+  @Test
+  void testContains() {
+    var set = new CodepointSet("_-あ👍");
+    assertThat(set.contains(0x5f)).isTrue();
+    assertThat(set.contains(0x2d)).isTrue();
+    assertThat(set.contains("あ".codePointAt(0))).isTrue();
+    assertThat(set.contains("👍".codePointAt(0))).isTrue();
+
+    assertThat(set.contains(0x2e)).isFalse();
+    assertThat(set.contains(0x41)).isFalse();
+    assertThat(set.contains("い".codePointAt(0))).isFalse();
+  }
+
+  @Test
+  void testContainsAllAsciiChars() {
+    var chars = "\u0000\u003f\u0040\u007f !/:@[`{~";
+    var set = new CodepointSet(chars);
+    for (int ch = 0; ch < 0x80; ch++) {
+      assertThat(set.contains(ch)).as("%x", ch).isEqualTo(chars.indexOf(ch) >= 0);
+    }
+    assertThat(set.contains(0x80)).isFalse();
+    assertThat(set.contains(0xbf)).isFalse();
+  }
+
+  @Test
+  void testContainsManyNonAsciiChars() {
+    var chars = "・、。「」『』【】〜―…→←↑↓👍";
+    var set = new CodepointSet(chars);
+    var members = chars.codePoints().boxed().collect(Collectors.toSet());
+    for (int cp = 0x80; cp < 0x20000; cp++) {
+      assertThat(set.contains(cp)).as("%x", cp).isEqualTo(members.contains(cp));
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package com.github.sttk.stringcase.codepoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import org.junit.jupiter.api.Test;
+
+public class CodepointWriterTest {
+
+  @Test
+  void testConstructor() {
+    var out = new StringWriter();
+    var writer = new CodepointWriter(out, 0);
+    assertThat(writer.chars.length).isEqualTo(8);
+    assertThat(out.toString()).isEqualTo("");
+
+    try {
+      writer.last();
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+    }
+  }
+
+  @Test
+  void testAppend() {
+    var out = new StringWriter();
+    var writer = new CodepointWriter(out, 8);
+
+    writer.append(0x41);
+    writer.append(0x3042, 0x3044);
+    assertThat(out.toString()).isEqualTo("");
+    assertThat(writer.last()).isEqualTo("い".codePointAt(0));
+
+    writer.append(0x1f44d);
+    writer.append(0x42, 0x43);
+    writer.append(0x1f600);
+    assertThat(out.toString()).isEqualTo("Aあい");
+    assertThat(writer.last()).isEqualTo("😀".codePointAt(0));
+
+    writer.flushBeforeLast();
+    assertThat(out.toString()).isEqualTo("Aあい👍BC");
+    assertThat(writer.last()).isEqualTo("😀".codePointAt(0));
+
+    writer.flush();
+    assertThat(out.toString()).isEqualTo("Aあい👍BC😀");
+    writer.flush();
+    assertThat(out.toString()).isEqualTo("Aあい👍BC😀");
+  }
+
+  @Test
+  void testReplaceLast() {
+    var out = new StringWriter();
+    var writer = new CodepointWriter(out, 8);
+
+    writer.append(0x41, 0x42);
+    writer.append(0x43, 0x44);
+    writer.append(0x45, 0x46);
+    writer.replaceLast(0x47, 0x48);
+    assertThat(writer.last()).isEqualTo(0x48);
+    writer.replaceLast(0x1f44d, 0x49, 0x4a);
+    assertThat(writer.last()).isEqualTo(0x4a);
+    writer.flush();
+    assertThat(out.toString()).isEqualTo("ABCDEG👍IJ");
+  }
+
+  @Test
+  void testAppendRun() {
+    var out = new StringWriter();
+    var writer = new CodepointWriter(out, 8);
+
+    writer.append(0x5f);
+    writer.appendRun("xxabcdefghijklmnxx", 2, 16, false);
+    assertThat(writer.last()).isEqualTo('n');
+    writer.appendRun(new StringBuilder("ABCDEFGHIJ"), 0, 10, true);
+    assertThat(writer.last()).isEqualTo('j');
+    writer.appendRun(CharBuffer.wrap("..OPQRSTUVWXYZ".toCharArray()), 2, 14, false);
+    writer.appendRun(CharBuffer.wrap("..opqrstu".toCharArray()), 2, 9, true);
+    writer.replaceLast(0x55, 0x5f);
+    writer.flush();
+    assertThat(out.toString()).isEqualTo("_abcdefghijklmnabcdefghijOPQRSTUVWXYZOPQRSTU_");
+  }
+
+  @Test
+  void testWriteInBlocks() {
+    var out = new CountingWriter();
+    var writer = new CodepointWriter(out, 64);
+    for (int i = 0; i < 1000; i++) {
+      writer.append(0x61 + i % 26);
+    }
+    writer.flush();
+    assertThat(out.sb.length()).isEqualTo(1000);
+    assertThat(out.calls).isLessThanOrEqualTo(1000 / 60 + 1);
+  }
+
+  @Test
+  void testThrowIOException() {
+    var writer =
+        new CodepointWriter(
+            new Writer() {
+              @Override
+              public void write(char[] cbuf, int off, int len) throws IOException {
+                throw new IOException("fail");
+              }
+
+              @Override
+              public void flush() {}
+
+              @Override
+              public void close() {}
+            },
+            8);
+    writer.append(0x41);
+    try {
+      writer.flush();
+      fail();
+    } catch (UncheckedIOException e) {
+      assertThat(e.getCause().getMessage()).isEqualTo("fail");
+    }
+  }
+
+  static class CountingWriter extends Writer {
+    final StringBuilder sb = new StringBuilder();
+    int calls;
+
+    @Override
+    public void write(char[] cbuf, int off, int len) {
+      calls++;
+      sb.append(cbuf, off, len);
+    }
+
+    @Override
+    public void flush() {}
+
+    @Override
+    public void close() {}
+  }
+}
@@ -0,0 +1,62 @@
+package com.github.sttk.stringcase.codepoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+public class Utf8BufferTest {
+
+  private static String written(ByteBuffer buf) {
+    return new String(buf.array(), 0, buf.position(), StandardCharsets.UTF_8);
+  }
+
+  @Test
+  void testConstructor() {
+    var buf = new Utf8Buffer(ByteBuffer.allocate(10));
+    try {
+      buf.last();
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+    }
+  }
+
+  @Test
+  void testAppend() {
+    var out = ByteBuffer.allocate(32);
+    var buf = new Utf8Buffer(out);
+
+    buf.append(0x41);
+    assertThat(written(out)).isEqualTo("A");
+    assertThat(buf.last()).isEqualTo(0x41);
+
+    buf.append(0x3042, 0x3044);
+    assertThat(written(out)).isEqualTo("Aあい");
+    assertThat(buf.last()).isEqualTo(0x3044);
+
+    buf.append(0x1f44d);
+    assertThat(written(out)).isEqualTo("Aあい👍");
+    assertThat(buf.last()).isEqualTo(0x1f44d);
+  }
+
+  @Test
+  void testReplaceLast() {
+    var out = ByteBuffer.allocate(32);
+    var buf = new Utf8Buffer(out);
+
+    buf.append(0x3042);
+    buf.replaceLast(0x42, 0x1f44d);
+    assertThat(written(out)).isEqualTo("B👍");
+    assertThat(buf.last()).isEqualTo(0x1f44d);
+
+    buf.replaceLast(0x43, 0x44);
+    assertThat(written(out)).isEqualTo("BCD");
+    assertThat(buf.last()).isEqualTo(0x44);
+
+    buf.replaceLast(0x5f, 0x3042, 0x65);
+    assertThat(written(out)).isEqualTo("BC_あe");
+    assertThat(buf.last()).isEqualTo(0x65);
+  }
+}
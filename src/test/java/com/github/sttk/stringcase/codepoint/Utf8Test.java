@@ -0,0 +1,99 @@
+package com.github.sttk.stringcase.codepoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class Utf8Test {
+
+  private static int[] decodeAll(byte[] bytes) {
+    var buf = ByteBuffer.wrap(bytes);
+    return java.util.stream.IntStream.iterate(
+            0, i -> i < bytes.length, i -> i + Utf8.length(Utf8.decode(buf, i, bytes.length)))
+        .map(i -> Utf8.codepoint(Utf8.decode(buf, i, bytes.length)))
+        .toArray();
+  }
+
+  @Test
+  void testDecode() {
+    var buf = ByteBuffer.wrap("aé€👍".getBytes(StandardCharsets.UTF_8));
+
+    var d = Utf8.decode(buf, 0, buf.limit());
+    assertThat(Utf8.codepoint(d)).isEqualTo(0x61);
+    assertThat(Utf8.length(d)).isEqualTo(1);
+
+    d = Utf8.decode(buf, 1, buf.limit());
+    assertThat(Utf8.codepoint(d)).isEqualTo(0xe9);
+    assertThat(Utf8.length(d)).isEqualTo(2);
+
+    d = Utf8.decode(buf, 3, buf.limit());
+    assertThat(Utf8.codepoint(d)).isEqualTo(0x20ac);
+    assertThat(Utf8.length(d)).isEqualTo(3);
+
+    d = Utf8.decode(buf, 6, buf.limit());
+    assertThat(Utf8.codepoint(d)).isEqualTo(0x1f44d);
+    assertThat(Utf8.length(d)).isEqualTo(4);
+  }
+
+  @Test
+  void testDecodeMalformed() {
+    var bytes = new byte[] {(byte) 0x80, (byte) 0xc0, (byte) 0xaf, (byte) 0xe0, (byte) 0x80};
+    assertThat(decodeAll(bytes)).containsExactly(0xfffd, 0xfffd, 0xfffd, 0xfffd, 0xfffd);
+
+    bytes = new byte[] {(byte) 0xed, (byte) 0xa0, (byte) 0x80}; // surrogate
+    assertThat(decodeAll(bytes)).containsExactly(0xfffd);
+
+    bytes = new byte[] {(byte) 0xf0, (byte) 0x9f, (byte) 0x91, 0x41}; // truncated
+    assertThat(decodeAll(bytes)).containsExactly(0xfffd, 0x41);
+
+    bytes = new byte[] {(byte) 0xe3, (byte) 0x81}; // truncated at limit
+    assertThat(decodeAll(bytes)).containsExactly(0xfffd);
+  }
+
+  @Test
+  void testDecodeAsSameAsJdk() {
+    var rnd = new Random(1);
+    var choices =
+        new byte[] {
+          0x41,
+          0x7f,
+          (byte) 0x80,
+          (byte) 0xbf,
+          (byte) 0xc2,
+          (byte) 0xdf,
+          (byte) 0xe0,
+          (byte) 0xed,
+          (byte) 0xef,
+          (byte) 0xf0,
+          (byte) 0xf4,
+          (byte) 0xf5,
+          (byte) 0x90,
+          (byte) 0xa0
+        };
+    for (int n = 0; n < 10000; n++) {
+      var bytes = new byte[rnd.nextInt(8)];
+      for (int i = 0; i < bytes.length; i++) {
+        bytes[i] = choices[rnd.nextInt(choices.length)];
+      }
+      var expected = new String(bytes, StandardCharsets.UTF_8).codePoints().toArray();
+      assertThat(decodeAll(bytes)).as("%s", java.util.Arrays.toString(bytes)).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void testEncode() {
+    var buf = ByteBuffer.allocate(32);
+    for (int cp : "aé€👍".codePoints().toArray()) {
+      Utf8.encode(cp, buf);
+    }
+    Utf8.encode(0xd800, buf);
+    buf.flip();
+
+    var bytes = new byte[buf.remaining()];
+    buf.get(bytes);
+    assertThat(bytes).isEqualTo("aé€👍?".getBytes(StandardCharsets.UTF_8));
+  }
+}
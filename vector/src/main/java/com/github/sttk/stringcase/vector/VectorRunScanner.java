@@ -0,0 +1,118 @@
+/*
+ * VectorRunScanner class.
+ * Copyright (C) 2026 Takayuki Sato. All Rights Reserved.
+ */
+package com.github.sttk.stringcase.vector;
+
+import com.github.sttk.stringcase.codepoint.RunScanner;
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Finds and copies the runs of ASCII letters with the incubator Vector API.
+ *
+ * <p>The elements as many as the lanes of the preferred vector shape of the platform, for example
+ * 32 bytes or 16 chars with AVX2 and 64 bytes or 32 chars with AVX-512, are tested or flipped at a
+ * step, and only the elements after the last step are processed one by one.
+ *
+ * <p>This class is not used directly, but is loaded by {@code com.github.sttk.stringcase} as a
+ * service.
+ */
+public final class VectorRunScanner implements RunScanner {
+
+  private static final VectorSpecies<Byte> BYTES = ByteVector.SPECIES_PREFERRED;
+  private static final VectorSpecies<Short> CHARS = ShortVector.SPECIES_PREFERRED;
+
+  // The number of the letters from 'a' to 'z', or from 'A' to 'Z', minus one.
+  private static final int LAST_LETTER = 25;
+
+  /** Creates a new instance of this class, which is called by the service loader. */
+  public VectorRunScanner() {}
+
+  @Override
+  public int lowerCaseRunEnd(byte[] bytes, int start, int end) {
+    return runEnd(bytes, start, end, 'a');
+  }
+
+  @Override
+  public int upperCaseRunEnd(byte[] bytes, int start, int end) {
+    return runEnd(bytes, start, end, 'A');
+  }
+
+  @Override
+  public int lowerCaseRunEnd(char[] chars, int start, int end) {
+    return runEnd(chars, start, end, 'a');
+  }
+
+  @Override
+  public int upperCaseRunEnd(char[] chars, int start, int end) {
+    return runEnd(chars, start, end, 'A');
+  }
+
+  @Override
+  public void copyFlippingCases(byte[] src, int srcPos, byte[] dst, int dstPos, int length) {
+    int i = 0;
+    for (int bound = BYTES.loopBound(length); i < bound; i += BYTES.length()) {
+      ByteVector.fromArray(BYTES, src, srcPos + i)
+          .lanewise(VectorOperators.XOR, (byte) 0x20)
+          .intoArray(dst, dstPos + i);
+    }
+    for (; i < length; i++) {
+      dst[dstPos + i] = (byte) (src[srcPos + i] ^ 0x20);
+    }
+  }
+
+  @Override
+  public void flipCases(char[] chars, int start, int end) {
+    int i = start;
+    for (int bound = start + CHARS.loopBound(end - start); i < bound; i += CHARS.length()) {
+      ShortVector.fromCharArray(CHARS, chars, i)
+          .lanewise(VectorOperators.XOR, (short) 0x20)
+          .intoCharArray(chars, i);
+    }
+    for (; i < end; i++) {
+      chars[i] ^= 0x20;
+    }
+  }
+
+  // Subtracting the first letter, the letters become from 0 to 25 and the other elements become
+  // greater than 25 as unsigned values, including non-ASCII ones. So the end of the run is the
+  // first lane which is greater than 25, which is found with one comparison for all the lanes.
+  private static int runEnd(byte[] bytes, int start, int end, char first) {
+    int i = start;
+    for (int bound = start + BYTES.loopBound(end - start); i < bound; i += BYTES.length()) {
+      int lane =
+          ByteVector.fromArray(BYTES, bytes, i)
+              .sub((byte) first)
+              .compare(VectorOperators.UNSIGNED_GT, (byte) LAST_LETTER)
+              .firstTrue();
+      if (lane < BYTES.length()) {
+        return i + lane;
+      }
+    }
+    while (i < end && ((bytes[i] - first) & 0xff) <= LAST_LETTER) {
+      i++;
+    }
+    return i;
+  }
+
+  private static int runEnd(char[] chars, int start, int end, char first) {
+    int i = start;
+    for (int bound = start + CHARS.loopBound(end - start); i < bound; i += CHARS.length()) {
+      int lane =
+          ShortVector.fromCharArray(CHARS, chars, i)
+              .sub((short) first)
+              .compare(VectorOperators.UNSIGNED_GT, (short) LAST_LETTER)
+              .firstTrue();
+      if (lane < CHARS.length()) {
+        return i + lane;
+      }
+    }
+    while (i < end && (char) (chars[i] - first) <= LAST_LETTER) {
+      i++;
+    }
+    return i;
+  }
+}
@@ -0,0 +1,22 @@
+/*
+ * module-info class.
+ * Copyright (C) 2026 Takayuki Sato. All Rights Reserved.
+ */
+
+/**
+ * Provides the module {@code com.github.sttk.stringcase} with the scanner which finds and copies
+ * the runs of letters with the incubator Vector API.
+ *
+ * <p>This module is opt-in. It is used only if it is put on the module path with {@code
+ * com.github.sttk.stringcase}, or on the class path with it and the incubator module is added with
+ * {@code --add-modules jdk.incubator.vector}.
+ *
+ * @version 1.0
+ */
+module com.github.sttk.stringcase.vector {
+  requires com.github.sttk.stringcase;
+  requires jdk.incubator.vector;
+
+  provides com.github.sttk.stringcase.codepoint.RunScanner with
+      com.github.sttk.stringcase.vector.VectorRunScanner;
+}
@@ -0,0 +1,198 @@
+package com.github.sttk.stringcase.vector;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.sttk.stringcase.CaseStyle;
+import com.github.sttk.stringcase.StringCase;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public class VectorRunScannerTest {
+
+  // Longer than two steps of the widest vector of bytes, which has 64 lanes with AVX-512.
+  static final String LOWERS = "abcdefghijklmnopqrstuvwxyz".repeat(6);
+  static final String UPPERS = LOWERS.toUpperCase();
+
+  final VectorRunScanner scanner = new VectorRunScanner();
+
+  @Nested
+  class RunEndOfBytes {
+    @Test
+    void findEndOfLowerCaseRun() {
+      var bytes = (LOWERS + "A" + LOWERS).getBytes(UTF_8);
+      assertThat(scanner.lowerCaseRunEnd(bytes, 0, bytes.length)).isEqualTo(156);
+      assertThat(scanner.lowerCaseRunEnd(bytes, 3, bytes.length)).isEqualTo(156);
+      assertThat(scanner.lowerCaseRunEnd(bytes, 156, bytes.length)).isEqualTo(156);
+      assertThat(scanner.lowerCaseRunEnd(bytes, 157, bytes.length)).isEqualTo(bytes.length);
+      assertThat(scanner.lowerCaseRunEnd(bytes, 0, 100)).isEqualTo(100);
+      assertThat(scanner.lowerCaseRunEnd(bytes, 5, 5)).isEqualTo(5);
+    }
+
+    @Test
+    void findEndOfUpperCaseRun() {
+      var bytes = (UPPERS + "a" + UPPERS).getBytes(UTF_8);
+      assertThat(scanner.upperCaseRunEnd(bytes, 0, bytes.length)).isEqualTo(156);
+      assertThat(scanner.upperCaseRunEnd(bytes, 3, bytes.length)).isEqualTo(156);
+      assertThat(scanner.upperCaseRunEnd(bytes, 156, bytes.length)).isEqualTo(156);
+      assertThat(scanner.upperCaseRunEnd(bytes, 157, bytes.length)).isEqualTo(bytes.length);
+      assertThat(scanner.upperCaseRunEnd(bytes, 0, 100)).isEqualTo(100);
+      assertThat(scanner.upperCaseRunEnd(bytes, 5, 5)).isEqualTo(5);
+    }
+
+    @Test
+    void stopAtBytesNextToLetters() {
+      for (var stop : new String[] {"`", "{", "@", "[", "0", "_", " "}) {
+        var bytes = ("x".repeat(70) + stop + "x".repeat(70)).getBytes(UTF_8);
+        assertThat(scanner.lowerCaseRunEnd(bytes, 0, bytes.length)).as(stop).isEqualTo(70);
+        bytes = ("X".repeat(70) + stop + "X".repeat(70)).getBytes(UTF_8);
+        assertThat(scanner.upperCaseRunEnd(bytes, 0, bytes.length)).as(stop).isEqualTo(70);
+      }
+    }
+
+    @Test
+    void stopAtNonAsciiBytes() {
+      var bytes = ("x".repeat(40) + "é" + "x".repeat(40)).getBytes(UTF_8);
+      assertThat(scanner.lowerCaseRunEnd(bytes, 0, bytes.length)).isEqualTo(40);
+      bytes = ("X".repeat(40) + "あ" + "X".repeat(40)).getBytes(UTF_8);
+      assertThat(scanner.upperCaseRunEnd(bytes, 0, bytes.length)).isEqualTo(40);
+    }
+
+    @Test
+    void findRunEndAtEachPosition() {
+      for (int n = 0; n < 140; n++) {
+        var bytes = ("q".repeat(n) + "." + "q".repeat(9)).getBytes(UTF_8);
+        assertThat(scanner.lowerCaseRunEnd(bytes, 0, bytes.length)).isEqualTo(n);
+        bytes = ("Q".repeat(n) + "." + "Q".repeat(9)).getBytes(UTF_8);
+        assertThat(scanner.upperCaseRunEnd(bytes, 0, bytes.length)).isEqualTo(n);
+      }
+    }
+  }
+
+  @Nested
+  class RunEndOfChars {
+    @Test
+    void findEndOfLowerCaseRun() {
+      var chars = (LOWERS + "A" + LOWERS).toCharArray();
+      assertThat(scanner.lowerCaseRunEnd(chars, 0, chars.length)).isEqualTo(156);
+      assertThat(scanner.lowerCaseRunEnd(chars, 3, chars.length)).isEqualTo(156);
+      assertThat(scanner.lowerCaseRunEnd(chars, 156, chars.length)).isEqualTo(156);
+      assertThat(scanner.lowerCaseRunEnd(chars, 157, chars.length)).isEqualTo(chars.length);
+      assertThat(scanner.lowerCaseRunEnd(chars, 0, 100)).isEqualTo(100);
+      assertThat(scanner.lowerCaseRunEnd(chars, 5, 5)).isEqualTo(5);
+    }
+
+    @Test
+    void findEndOfUpperCaseRun() {
+      var chars = (UPPERS + "a" + UPPERS).toCharArray();
+      assertThat(scanner.upperCaseRunEnd(chars, 0, chars.length)).isEqualTo(156);
+      assertThat(scanner.upperCaseRunEnd(chars, 3, chars.length)).isEqualTo(156);
+      assertThat(scanner.upperCaseRunEnd(chars, 156, chars.length)).isEqualTo(156);
+      assertThat(scanner.upperCaseRunEnd(chars, 157, chars.length)).isEqualTo(chars.length);
+      assertThat(scanner.upperCaseRunEnd(chars, 0, 100)).isEqualTo(100);
+      assertThat(scanner.upperCaseRunEnd(chars, 5, 5)).isEqualTo(5);
+    }
+
+    @Test
+    void stopAtCharsNextToLetters() {
+      for (var stop : new String[] {"`", "{", "@", "[", "0", "_", " "}) {
+        var chars = ("x".repeat(70) + stop + "x".repeat(70)).toCharArray();
+        assertThat(scanner.lowerCaseRunEnd(chars, 0, chars.length)).as(stop).isEqualTo(70);
+        chars = ("X".repeat(70) + stop + "X".repeat(70)).toCharArray();
+        assertThat(scanner.upperCaseRunEnd(chars, 0, chars.length)).as(stop).isEqualTo(70);
+      }
+    }
+
+    @Test
+    void stopAtNonAsciiChars() {
+      // The low bytes of the first three chars are letters, and the last two are negative as
+      // shorts.
+      for (var stop : new String[] {"š", "ａ", "聁", "👍"}) {
+        var chars = ("x".repeat(40) + stop + "x".repeat(40)).toCharArray();
+        assertThat(scanner.lowerCaseRunEnd(chars, 0, chars.length)).as(stop).isEqualTo(40);
+        chars = ("X".repeat(40) + stop + "X".repeat(40)).toCharArray();
+        assertThat(scanner.upperCaseRunEnd(chars, 0, chars.length)).as(stop).isEqualTo(40);
+      }
+    }
+
+    @Test
+    void findRunEndAtEachPosition() {
+      for (int n = 0; n < 140; n++) {
+        var chars = ("q".repeat(n) + "." + "q".repeat(9)).toCharArray();
+        assertThat(scanner.lowerCaseRunEnd(chars, 0, chars.length)).isEqualTo(n);
+        chars = ("Q".repeat(n) + "." + "Q".repeat(9)).toCharArray();
+        assertThat(scanner.upperCaseRunEnd(chars, 0, chars.length)).isEqualTo(n);
+      }
+    }
+  }
+
+  @Nested
+  class FlipCases {
+    @Test
+    void copyBytesFlippingCases() {
+      var src = ("--" + LOWERS + "--").getBytes(UTF_8);
+      var dst = new byte[LOWERS.length() + 4];
+      scanner.copyFlippingCases(src, 2, dst, 1, LOWERS.length());
+      assertThat(new String(dst, 1, LOWERS.length(), UTF_8)).isEqualTo(UPPERS);
+      assertThat(dst[0]).isZero();
+      assertThat(dst[LOWERS.length() + 1]).isZero();
+
+      scanner.copyFlippingCases(dst, 1, src, 2, 27);
+      assertThat(new String(src, UTF_8)).isEqualTo("--" + LOWERS + "--");
+    }
+
+    @Test
+    void flipCasesOfChars() {
+      var chars = ("--" + UPPERS + "--").toCharArray();
+      scanner.flipCases(chars, 2, 2 + UPPERS.length());
+      assertThat(new String(chars)).isEqualTo("--" + LOWERS + "--");
+
+      scanner.flipCases(chars, 2, 2);
+      assertThat(new String(chars)).isEqualTo("--" + LOWERS + "--");
+
+      scanner.flipCases(chars, 5, 8);
+      assertThat(new String(chars, 0, 10)).isEqualTo("--abcDEFgh");
+    }
+  }
+
+  @Nested
+  class ConvertWithScanner {
+    static final String INPUT = "parseXMLHttpRequestAndFindTheLongestRunOf" + UPPERS + "Letters";
+    static final String SNAKE =
+        "parse_xml_http_request_and_find_the_longest_run_of_" + LOWERS + "_letters";
+    static final String MACRO =
+        "PARSE_XML_HTTP_REQUEST_AND_FIND_THE_LONGEST_RUN_OF_" + UPPERS + "_LETTERS";
+
+    @Test
+    void convertBytes() {
+      var output = ByteBuffer.allocate(512);
+      StringCase.compile(CaseStyle.SNAKE).convert(INPUT.getBytes(UTF_8), output);
+      assertThat(new String(output.array(), 0, output.position(), UTF_8)).isEqualTo(SNAKE);
+
+      output.clear();
+      StringCase.compile(CaseStyle.MACRO).convert(INPUT.getBytes(UTF_8), output);
+      assertThat(new String(output.array(), 0, output.position(), UTF_8)).isEqualTo(MACRO);
+    }
+
+    @Test
+    void convertStrings() {
+      assertThat(StringCase.compile(CaseStyle.SNAKE).convert(INPUT)).isEqualTo(SNAKE);
+      assertThat(StringCase.compile(CaseStyle.MACRO).convert(INPUT)).isEqualTo(MACRO);
+    }
+
+    @Test
+    void transformReader() throws IOException {
+      var output = new StringWriter();
+      StringCase.compile(CaseStyle.SNAKE).transform(new StringReader(INPUT), output);
+      assertThat(output.toString()).isEqualTo(SNAKE);
+
+      output = new StringWriter();
+      StringCase.compile(CaseStyle.MACRO).transform(new StringReader(INPUT), output);
+      assertThat(output.toString()).isEqualTo(MACRO);
+    }
+  }
+}